@@ -0,0 +1,112 @@
+package xyz.morphia.benchmarks;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.converters.Converters;
+import xyz.morphia.testmodel.Hotel;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.Currency;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding a value with each of the built-in converters for single values.  Collections and maps are measured
+ * as part of {@link MapperBenchmark}, since their converters need the mapped field to decode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConverterBenchmark {
+    @Param({"String", "Character", "Byte", "Short", "Integer", "Long", "Float", "Double", "Boolean", "Date", "ObjectId", "Enum",
+               "Locale", "URI", "BigDecimal", "Currency", "Class", "CharArray"})
+    private String type;
+
+    private Converters converters;
+    private Object value;
+    private Class<?> valueType;
+    private Object encoded;
+
+    /**
+     * Creates the value of the type being measured.
+     */
+    @Setup
+    public void setup() {
+        converters = SampleEntities.morphia().getMapper().getConverters();
+        value = sample(type);
+        valueType = value instanceof Enum ? ((Enum<?>) value).getDeclaringClass() : value.getClass();
+        encoded = converters.encode(value);
+    }
+
+    /**
+     * @return the encoded value
+     */
+    @Benchmark
+    public Object encode() {
+        return converters.encode(value);
+    }
+
+    /**
+     * @return the decoded value
+     */
+    @Benchmark
+    public Object decode() {
+        return converters.decode(valueType, encoded, null);
+    }
+
+    private static Object sample(final String type) {
+        if ("String".equals(type)) {
+            return "morphia";
+        } else if ("Character".equals(type)) {
+            return 'm';
+        } else if ("Byte".equals(type)) {
+            return (byte) 42;
+        } else if ("Short".equals(type)) {
+            return (short) 42;
+        } else if ("Integer".equals(type)) {
+            return 42;
+        } else if ("Long".equals(type)) {
+            return 42L;
+        } else if ("Float".equals(type)) {
+            return 4.2F;
+        } else if ("Double".equals(type)) {
+            return 4.2D;
+        } else if ("Boolean".equals(type)) {
+            return Boolean.TRUE;
+        } else if ("Date".equals(type)) {
+            return new Date(0);
+        } else if ("ObjectId".equals(type)) {
+            return new ObjectId();
+        } else if ("Enum".equals(type)) {
+            return Hotel.Type.LEISURE;
+        } else if ("Locale".equals(type)) {
+            return Locale.CANADA_FRENCH;
+        } else if ("URI".equals(type)) {
+            return URI.create("http://morphia.xyz/path?query=value");
+        } else if ("BigDecimal".equals(type)) {
+            return new BigDecimal("12345.6789");
+        } else if ("Currency".equals(type)) {
+            return Currency.getInstance("EUR");
+        } else if ("Class".equals(type)) {
+            return Hotel.class;
+        } else if ("CharArray".equals(type)) {
+            return "morphia".toCharArray();
+        }
+        throw new IllegalArgumentException("Unknown type: " + type);
+    }
+}
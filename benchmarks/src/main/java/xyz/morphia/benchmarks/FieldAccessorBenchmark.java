@@ -0,0 +1,144 @@
+package xyz.morphia.benchmarks;
+
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.Morphia;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.accessor.FieldAccessorFactory;
+import xyz.morphia.mapping.accessor.ReflectiveFieldAccessorFactory;
+import xyz.morphia.mapping.accessor.UnsafeFieldAccessorFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the field access strategies, both on single fields and when mapping a whole entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FieldAccessorBenchmark {
+    @Param({"reflective", "unsafe"})
+    private String strategy;
+
+    private Mapper mapper;
+    private Sample sample;
+    private DBObject dbObject;
+    private FieldAccessor count;
+    private FieldAccessor name;
+    private int next;
+
+    /**
+     * Maps the sample entity using the accessor strategy being measured.
+     */
+    @Setup
+    public void setup() {
+        final FieldAccessorFactory factory = "unsafe".equals(strategy)
+                                             ? new UnsafeFieldAccessorFactory()
+                                             : new ReflectiveFieldAccessorFactory();
+        final Morphia morphia = new Morphia();
+        morphia.getMapper().getOptions().setFieldAccessorFactory(factory);
+        morphia.map(Sample.class);
+        mapper = morphia.getMapper();
+
+        final MappedClass mappedClass = mapper.getMappedClass(Sample.class);
+        count = mappedClass.getMappedFieldByJavaField("count").getAccessor();
+        name = mappedClass.getMappedFieldByJavaField("name").getAccessor();
+
+        sample = new Sample();
+        sample.id = new ObjectId();
+        sample.name = "sample";
+        sample.count = 42;
+        sample.total = 1024L;
+        sample.ratio = 0.5D;
+        sample.active = true;
+        dbObject = mapper.toDBObject(sample);
+    }
+
+    /**
+     * @return the boxed value of an int field
+     */
+    @Benchmark
+    public Object getBoxed() {
+        return count.get(sample);
+    }
+
+    /**
+     * @return the value of an int field
+     */
+    @Benchmark
+    public int getInt() {
+        return count.getInt(sample);
+    }
+
+    /**
+     * Sets an int field without boxing.
+     */
+    @Benchmark
+    public void setInt() {
+        count.setInt(sample, next++);
+    }
+
+    /**
+     * @return the value of a String field
+     */
+    @Benchmark
+    public Object getObject() {
+        return name.get(sample);
+    }
+
+    /**
+     * Sets a String field.
+     */
+    @Benchmark
+    public void setObject() {
+        name.set(sample, "sample");
+    }
+
+    /**
+     * @return the entity mapped to a DBObject
+     */
+    @Benchmark
+    public DBObject encodeEntity() {
+        return mapper.toDBObject(sample);
+    }
+
+    /**
+     * @return the entity mapped from a DBObject
+     */
+    @Benchmark
+    public Sample decodeEntity() {
+        return mapper.fromDBObject(null, Sample.class, dbObject, mapper.createEntityCache());
+    }
+
+    /**
+     * The entity mapped by the benchmarks
+     */
+    @Entity
+    public static class Sample {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean active;
+    }
+}
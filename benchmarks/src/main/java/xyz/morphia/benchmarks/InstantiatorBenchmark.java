@@ -0,0 +1,67 @@
+package xyz.morphia.benchmarks;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.mapping.DefaultCreator;
+import xyz.morphia.mapping.MapperOptions;
+import xyz.morphia.mapping.instantiator.ConstructorInstantiatorFactory;
+import xyz.morphia.mapping.instantiator.UnsafeInstantiatorFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the instantiation strategies of {@link DefaultCreator}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InstantiatorBenchmark {
+    @Param({"constructor", "unsafe"})
+    private String strategy;
+
+    private DefaultCreator creator;
+
+    /**
+     * Creates the factory using the instantiation strategy being measured.
+     */
+    @Setup
+    public void setup() {
+        creator = new DefaultCreator(new MapperOptions(), "unsafe".equals(strategy)
+                                                          ? new UnsafeInstantiatorFactory()
+                                                          : new ConstructorInstantiatorFactory());
+    }
+
+    /**
+     * @return a new entity
+     */
+    @Benchmark
+    public Sample createInstance() {
+        return creator.createInstance(Sample.class);
+    }
+
+    /**
+     * The entity created by the benchmarks
+     */
+    @Entity
+    public static class Sample {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+    }
+}
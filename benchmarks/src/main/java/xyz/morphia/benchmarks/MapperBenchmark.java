@@ -0,0 +1,64 @@
+package xyz.morphia.benchmarks;
+
+import com.mongodb.DBObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.mapping.Mapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping entities of the test model to and from DBObjects: a flat rectangle, a hotel with an embedded address and list, an
+ * article holding maps of values and embedded documents, and a shape shifter holding polymorphic embedded shapes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MapperBenchmark {
+    @Param({"flat", "embedded", "collections", "polymorphic"})
+    private String shape;
+
+    private Mapper mapper;
+    private Object entity;
+    private Class<?> type;
+    private DBObject dbObject;
+
+    /**
+     * Maps the test model and creates the entity being measured.
+     */
+    @Setup
+    public void setup() {
+        mapper = SampleEntities.morphia().getMapper();
+        entity = SampleEntities.create(shape);
+        type = entity.getClass();
+        dbObject = mapper.toDBObject(entity);
+    }
+
+    /**
+     * @return the entity mapped to a DBObject
+     */
+    @Benchmark
+    public DBObject toDBObject() {
+        return mapper.toDBObject(entity);
+    }
+
+    /**
+     * @return the entity mapped from a DBObject
+     */
+    @Benchmark
+    public Object fromDBObject() {
+        return mapper.fromDBObject(null, type, dbObject, mapper.createEntityCache());
+    }
+}
@@ -0,0 +1,103 @@
+package xyz.morphia.benchmarks;
+
+import com.mongodb.DBObject;
+import com.mongodb.MongoClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.Datastore;
+import xyz.morphia.query.Query;
+import xyz.morphia.testmodel.Hotel;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Measures building queries and translating them to their query documents.  The client is never used to reach a server.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class QueryBenchmark {
+    private MongoClient client;
+    private Datastore datastore;
+    private Date startDate;
+
+    /**
+     * Creates a Datastore for the test model.
+     */
+    @Setup
+    public void setup() {
+        client = new MongoClient();
+        datastore = SampleEntities.morphia().createDatastore(client, "morphia_benchmarks");
+        startDate = new Date(0);
+    }
+
+    /**
+     * Closes the client.
+     */
+    @TearDown
+    public void tearDown() {
+        client.close();
+    }
+
+    /**
+     * @return the query document of a single equality filter
+     */
+    @Benchmark
+    public DBObject filter() {
+        return datastore.find(Hotel.class)
+                        .filter("name", "Hotel Borg")
+                        .getQueryObject();
+    }
+
+    /**
+     * @return the query document of several filters, including an embedded field
+     */
+    @Benchmark
+    public DBObject filters() {
+        return datastore.find(Hotel.class)
+                        .filter("stars >=", 3)
+                        .filter("type", Hotel.Type.LEISURE)
+                        .filter("address.street", "Posthusstraeti 11")
+                        .filter("tags in", asList("centre", "historic"))
+                        .getQueryObject();
+    }
+
+    /**
+     * @return the query document built with field criteria
+     */
+    @Benchmark
+    public DBObject criteria() {
+        final Query<Hotel> query = datastore.find(Hotel.class);
+        query.field("stars").greaterThanOrEq(3);
+        query.field("startDate").lessThan(startDate);
+        query.or(query.criteria("name").equal("Hotel Borg"),
+                 query.criteria("takesCreditCards").equal(true));
+        return query.getQueryObject();
+    }
+
+    /**
+     * @return the query document of a filter on a field which is not mapped
+     */
+    @Benchmark
+    public DBObject unvalidated() {
+        return datastore.find(Hotel.class)
+                        .disableValidation()
+                        .filter("unmapped", 42)
+                        .getQueryObject();
+    }
+}
@@ -0,0 +1,89 @@
+package xyz.morphia.benchmarks;
+
+import xyz.morphia.Morphia;
+import xyz.morphia.testmodel.Address;
+import xyz.morphia.testmodel.Article;
+import xyz.morphia.testmodel.Circle;
+import xyz.morphia.testmodel.Hotel;
+import xyz.morphia.testmodel.PhoneNumber;
+import xyz.morphia.testmodel.Rectangle;
+import xyz.morphia.testmodel.ShapeShifter;
+import xyz.morphia.testmodel.Translation;
+
+import java.util.Date;
+
+/**
+ * Builds the entities of the test model used by the benchmarks.
+ */
+final class SampleEntities {
+    private SampleEntities() {
+    }
+
+    /**
+     * @return a Morphia instance with the test model mapped
+     */
+    static Morphia morphia() {
+        final Morphia morphia = new Morphia();
+        morphia.map(Rectangle.class, Circle.class, Hotel.class, Article.class, ShapeShifter.class);
+        return morphia;
+    }
+
+    /**
+     * Creates an entity of one of the shapes measured
+     *
+     * @param shape flat, embedded, collections or polymorphic
+     * @return the entity
+     */
+    static Object create(final String shape) {
+        if ("flat".equals(shape)) {
+            return new Rectangle(2, 3);
+        } else if ("embedded".equals(shape)) {
+            return hotel();
+        } else if ("collections".equals(shape)) {
+            return article();
+        } else if ("polymorphic".equals(shape)) {
+            return shapeShifter();
+        }
+        throw new IllegalArgumentException("Unknown entity shape: " + shape);
+    }
+
+    /**
+     * @return a hotel with an embedded address and phone numbers
+     */
+    static Hotel hotel() {
+        final Hotel hotel = new Hotel();
+        hotel.setName("Hotel Borg");
+        hotel.setStars(4);
+        hotel.setTakesCreditCards(true);
+        hotel.setStartDate(new Date(0));
+        hotel.setType(Hotel.Type.LEISURE);
+        hotel.getTags().add("centre");
+        hotel.getTags().add("historic");
+        final Address address = new Address();
+        address.setStreet("Posthusstraeti 11");
+        address.setPostCode("101");
+        hotel.setAddress(address);
+        hotel.getPhoneNumbers().add(new PhoneNumber(354, 5152000, PhoneNumber.Type.PHONE));
+        hotel.getPhoneNumbers().add(new PhoneNumber(354, 5152001, PhoneNumber.Type.FAX));
+        return hotel;
+    }
+
+    private static Article article() {
+        final Article article = new Article();
+        for (int i = 0; i < 10; i++) {
+            article.setTranslation("lang" + i, new Translation("title " + i, "body " + i));
+            article.setAttribute("attribute" + i, i);
+        }
+        return article;
+    }
+
+    private static ShapeShifter shapeShifter() {
+        final ShapeShifter shifter = new ShapeShifter();
+        shifter.setMainShape(new Circle(1));
+        for (int i = 1; i <= 5; i++) {
+            shifter.getAvailableShapes().add(new Circle(i));
+            shifter.getAvailableShapes().add(new Rectangle(i, i + 1));
+        }
+        return shifter;
+    }
+}
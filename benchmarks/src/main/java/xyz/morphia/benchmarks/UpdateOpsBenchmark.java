@@ -0,0 +1,82 @@
+package xyz.morphia.benchmarks;
+
+import com.mongodb.DBObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.query.UpdateOpsImpl;
+import xyz.morphia.testmodel.Address;
+import xyz.morphia.testmodel.Hotel;
+import xyz.morphia.testmodel.PhoneNumber;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Measures building update operations and their update documents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class UpdateOpsBenchmark {
+    private Mapper mapper;
+    private Address address;
+    private PhoneNumber phoneNumber;
+
+    /**
+     * Maps the test model and creates the values to update with.
+     */
+    @Setup
+    public void setup() {
+        mapper = SampleEntities.morphia().getMapper();
+        final Hotel hotel = SampleEntities.hotel();
+        address = hotel.getAddress();
+        phoneNumber = hotel.getPhoneNumbers().get(0);
+    }
+
+    /**
+     * @return the update document setting a single value
+     */
+    @Benchmark
+    public DBObject set() {
+        final UpdateOpsImpl<Hotel> ops = new UpdateOpsImpl<Hotel>(Hotel.class, mapper);
+        ops.set("name", "Hotel Borg");
+        return ops.getOps();
+    }
+
+    /**
+     * @return the update document setting an embedded document
+     */
+    @Benchmark
+    public DBObject setEmbedded() {
+        final UpdateOpsImpl<Hotel> ops = new UpdateOpsImpl<Hotel>(Hotel.class, mapper);
+        ops.set("address", address);
+        return ops.getOps();
+    }
+
+    /**
+     * @return the update document of several operators
+     */
+    @Benchmark
+    public DBObject mixed() {
+        final UpdateOpsImpl<Hotel> ops = new UpdateOpsImpl<Hotel>(Hotel.class, mapper);
+        ops.set("name", "Hotel Borg")
+           .inc("stars")
+           .addToSet("tags", asList("centre", "historic"))
+           .push("phoneNumbers", phoneNumber)
+           .unset("address.postCode");
+        return ops.getOps();
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the JMH benchmarks measuring the mapping, conversion, query and update paths
+ */
+package xyz.morphia.benchmarks;
@@ -4,7 +4,10 @@ import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 import xyz.morphia.Morphia;
 import xyz.morphia.annotations.Entity;
+import xyz.morphia.mapping.MappingException;
+import xyz.morphia.mapping.generated.EntityIndex;
 import xyz.morphia.utils.Assert;
+import xyz.morphia.utils.ReflectionUtils;
 import org.reflections.Reflections;
 import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
@@ -16,10 +19,12 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Set;
 
 /**
- * Provides a scanner to find entities according to a given predicate
+ * Provides a scanner to find entities according to a given predicate.  The jars and directories carrying the entity index written by the
+ * morphia-processor module are not scanned; their indexed entities are mapped instead.
  *
  * @author us@thomas-daily.de
  *
@@ -62,6 +67,17 @@ public class EntityScanner {
                 iterator.remove();
             }
         }
+        final Map<String, Set<String>> indexes = EntityIndex.getIndexes(Thread.currentThread().getContextClassLoader());
+        for (final Iterator<URL> urls = s.iterator(); urls.hasNext();) {
+            final Set<String> names = indexes.get(EntityIndex.getRoot(urls.next(), ""));
+            if (names != null) {
+                mapIndexed(m, localPredicate, names);
+                urls.remove();
+            }
+        }
+        if (s.isEmpty()) {
+            return;
+        }
         conf.setUrls(new ArrayList<URL>(s));
 
         conf.filterInputsBy(localPredicate);
@@ -74,4 +90,25 @@ public class EntityScanner {
             m.map(c);
         }
     }
+
+    /**
+     * Maps the entities listed by the index of a classpath root.  The predicate is given the same paths the scan gives it.
+     */
+    private static void mapIndexed(final Morphia m, final Predicate<String> predicate, final Set<String> names) {
+        final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        for (final String name : names) {
+            final String path = name.replace('.', '/') + ".class";
+            if (predicate.apply(path) || predicate.apply(path.replace('/', '.'))) {
+                final Class<?> c;
+                try {
+                    c = Class.forName(name, true, loader);
+                } catch (ClassNotFoundException e) {
+                    throw new MappingException("Could not load the indexed class " + name, e);
+                }
+                if (ReflectionUtils.getClassEntityAnnotation(c) != null) {
+                    m.map(c);
+                }
+            }
+        }
+    }
 }
@@ -2,16 +2,21 @@ package xyz.morphia;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.BasicDBObjectBuilder;
+import com.mongodb.BulkWriteOperation;
 import com.mongodb.CommandResult;
 import com.mongodb.DB;
 import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
 import com.mongodb.DBDecoderFactory;
 import com.mongodb.DBObject;
 import com.mongodb.DBRef;
 import com.mongodb.DefaultDBDecoder;
 import com.mongodb.MapReduceCommand;
 import com.mongodb.MapReduceCommand.OutputType;
+import com.mongodb.MapReduceOutput;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoException;
+import com.mongodb.MongoInterruptedException;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
 import com.mongodb.WriteResult;
@@ -20,6 +25,7 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.CreateCollectionOptions;
 import com.mongodb.client.model.DBCollectionUpdateOptions;
 import com.mongodb.client.model.ValidationOptions;
+import org.bson.types.ObjectId;
 import xyz.morphia.aggregation.AggregationPipeline;
 import xyz.morphia.aggregation.AggregationPipelineImpl;
 import xyz.morphia.annotations.CappedAt;
@@ -28,13 +34,17 @@ import xyz.morphia.annotations.NotSaved;
 import xyz.morphia.annotations.PostPersist;
 import xyz.morphia.annotations.Validation;
 import xyz.morphia.annotations.Version;
+import xyz.morphia.internal.OperationTimer;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.EncodedEntity;
+import xyz.morphia.mapping.EntityEncoder;
 import xyz.morphia.mapping.MappedClass;
 import xyz.morphia.mapping.MappedField;
 import xyz.morphia.mapping.Mapper;
 import xyz.morphia.mapping.MappingException;
 import xyz.morphia.mapping.cache.EntityCache;
+import xyz.morphia.mapping.cache.SecondLevelCache;
 import xyz.morphia.mapping.lazy.proxy.ProxyHelper;
 import xyz.morphia.query.CountOptions;
 import xyz.morphia.query.DefaultQueryFactory;
@@ -51,11 +61,16 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import static com.mongodb.BasicDBObject.parse;
 import static com.mongodb.BasicDBObjectBuilder.start;
@@ -173,7 +188,19 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new QueryException("Delete does not allow sort/offset/limit query options.");
         }
 
-        return dbColl.remove(query.getQueryObject(), enforceWriteConcern(options, query.getEntityClass()).getOptions());
+        final DBObject queryObject = query.getQueryObject();
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.DELETE, dbColl.getName());
+        final long mark = timer.mark();
+        final WriteResult result;
+        try {
+            result = dbColl.remove(queryObject, enforceWriteConcern(options, query.getEntityClass()).getOptions());
+        } finally {
+            invalidateCache(dbColl, query.getEntityClass(), queryObject);
+        }
+        timer.driver(mark);
+        timer.documents(affected(result));
+        timer.complete();
+        return result;
     }
 
     @Override
@@ -350,9 +377,17 @@ public class DatastoreImpl implements AdvancedDatastore {
             .upsert(false)
             .remove(true);
 
-        final DBObject result = dbColl.findAndModify(query.getQueryObject(), copy.getOptions());
+        final DBObject queryObject = query.getQueryObject();
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.FIND_AND_MODIFY, dbColl.getName());
+        final long mark = timer.mark();
+        final DBObject result;
+        try {
+            result = dbColl.findAndModify(queryObject, copy.getOptions());
+        } finally {
+            invalidateCache(dbColl, query.getEntityClass(), queryObject);
+        }
 
-        return result == null ? null : mapper.fromDBObject(this, query.getEntityClass(), result, createCache());
+        return decodeModified(timer, timer.driver(mark), query.getEntityClass(), result);
     }
 
     @Override
@@ -368,14 +403,32 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         updateForVersioning(query, operations);
-        DBObject res = dbColl.findAndModify(query.getQueryObject(), options.copy()
-                                                                           .sort(query.getSortObject())
-                                                                           .projection(query.getFieldsObject())
-                                                                           .update(((UpdateOpsImpl<T>) operations).getOps())
-                                           .getOptions());
+        final DBObject queryObject = query.getQueryObject();
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.FIND_AND_MODIFY, dbColl.getName());
+        final long mark = timer.mark();
+        DBObject res;
+        try {
+            res = dbColl.findAndModify(queryObject, options.copy()
+                                                           .sort(query.getSortObject())
+                                                           .projection(query.getFieldsObject())
+                                                           .update(((UpdateOpsImpl<T>) operations).getOps())
+                                                           .getOptions());
+        } finally {
+            invalidateCache(dbColl, query.getEntityClass(), queryObject);
+        }
 
-        return res == null ? null : mapper.fromDBObject(this, query.getEntityClass(), res, createCache());
+        return decodeModified(timer, timer.driver(mark), query.getEntityClass(), res);
+    }
 
+    private <T> T decodeModified(final OperationTimer timer, final long mark, final Class<T> type, final DBObject document) {
+        T entity = null;
+        if (document != null) {
+            entity = mapper.fromDBObject(this, type, document, createCache());
+            timer.decode(mark);
+            timer.documents(1);
+        }
+        timer.complete();
+        return entity;
     }
 
     @Override
@@ -418,6 +471,23 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public <T, V> T get(final Class<T> clazz, final V id) {
+        final SecondLevelCache secondLevelCache = mapper.getOptions().getSecondLevelCache();
+        if (secondLevelCache != null) {
+            final DBCollection dbColl = getCollection(clazz);
+            final Key<T> key = mapper.toCacheKey(clazz, dbColl.getName(), id);
+            if (key != null) {
+                DBObject document = secondLevelCache.get(key);
+                if (document == null) {
+                    final long version = secondLevelCache.getVersion();
+                    document = dbColl.findOne(new BasicDBObject(ID_FIELD_NAME, key.getId()));
+                    if (document == null) {
+                        return null;
+                    }
+                    secondLevelCache.put(key, document, version);
+                }
+                return mapper.fromDBObject(this, clazz, document, createCache());
+            }
+        }
         return find(getCollection(clazz).getName(), clazz, Mapper.ID_KEY, id, 0, 1, true).get();
     }
 
@@ -448,39 +518,19 @@ public class DatastoreImpl implements AdvancedDatastore {
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public <T> List<T> getByKeys(final Class<T> clazz, final Iterable<Key<T>> keys) {
-
-        final Map<String, List<Key>> kindMap = new HashMap<String, List<Key>>();
-        final List<T> entities = new ArrayList<T>();
-        // String clazzKind = (clazz==null) ? null :
-        // getMapper().getCollectionName(clazz);
-        for (final Key<?> key : keys) {
-            mapper.updateCollection(key);
-
-            // if (clazzKind != null && !key.getKind().equals(clazzKind))
-            // throw new IllegalArgumentException("Types are not equal (" +
-            // clazz + "!=" + key.getKindClass() +
-            // ") for key and method parameter clazz");
-            //
-            if (kindMap.containsKey(key.getCollection())) {
-                kindMap.get(key.getCollection()).add(key);
-            } else {
-                kindMap.put(key.getCollection(), new ArrayList<Key>(singletonList((Key) key)));
-            }
+        final List<Key<T>> keyList = new ArrayList<Key<T>>();
+        for (final Key<T> key : keys) {
+            keyList.add(key);
         }
-        for (final Map.Entry<String, List<Key>> entry : kindMap.entrySet()) {
-            final List<Key> kindKeys = entry.getValue();
 
-            final List<Object> objIds = new ArrayList<Object>();
-            for (final Key key : kindKeys) {
-                objIds.add(key.getId());
+        final Map<T, Boolean> found = new IdentityHashMap<T, Boolean>();
+        final List<T> entities = new ArrayList<T>();
+        for (final T entity : getByKeys(clazz, keyList, new GetByKeysOptions())) {
+            if (entity != null && found.put(entity, Boolean.TRUE) == null) {
+                entities.add(entity);
             }
-            final List kindResults = find(entry.getKey(), null).disableValidation().filter("_id in", objIds).asList();
-            entities.addAll(kindResults);
         }
-
-        // TODO: order them based on the incoming Keys.
         return entities;
     }
 
@@ -489,6 +539,82 @@ public class DatastoreImpl implements AdvancedDatastore {
         return getByKeys(null, keys);
     }
 
+    /**
+     * Find the given entities (by id) keeping the order of the keys, querying each collection in chunks of the batch size of the options.
+     * The entity for each key is found at the same index in the result and is null if no document exists for that key.  Keys appearing
+     * more than once resolve to the same instance.  Numeric ids match the stored documents by value, as the server compares them, so an
+     * Integer id finds a document stored with a Long id.  This method is not part of the {@link Datastore} interfaces so that their
+     * existing implementations are not broken.
+     *
+     * @param clazz   the class to use for mapping, or null to use the type of each key
+     * @param keys    the keys to search with
+     * @param options the options to apply
+     * @param <T>     the type to fetch
+     * @return the matched entities in the order of the keys
+     * @since 1.5
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getByKeys(final Class<T> clazz, final List<Key<T>> keys, final GetByKeysOptions options) {
+        final Map<String, Map<Object, DBObject>> documents = new LinkedHashMap<String, Map<Object, DBObject>>();
+        final List<Object> ids = new ArrayList<Object>(keys.size());
+        for (final Key<?> key : keys) {
+            final Object id = toMatchedId(toDBObjectId(key));
+            ids.add(id);
+            Map<Object, DBObject> collectionDocuments = documents.get(key.getCollection());
+            if (collectionDocuments == null) {
+                collectionDocuments = new HashMap<Object, DBObject>();
+                documents.put(key.getCollection(), collectionDocuments);
+            }
+            collectionDocuments.put(id, null);
+        }
+
+        final List<KeyBatchQuery> queries = new ArrayList<KeyBatchQuery>();
+        for (final Entry<String, Map<Object, DBObject>> entry : documents.entrySet()) {
+            final List<Object> collectionIds = new ArrayList<Object>(entry.getValue().keySet());
+            for (int from = 0; from < collectionIds.size(); from += options.getBatchSize()) {
+                final int to = Math.min(from + options.getBatchSize(), collectionIds.size());
+                queries.add(new KeyBatchQuery(getDB().getCollection(entry.getKey()), collectionIds.subList(from, to), getDecoderFact()));
+            }
+        }
+        final ExecutorService executor = options.getExecutor();
+        final List<Future<List<DBObject>>> futures = new ArrayList<Future<List<DBObject>>>();
+        try {
+            if (executor != null) {
+                for (final KeyBatchQuery query : queries) {
+                    futures.add(executor.submit(query));
+                }
+            }
+            for (int i = 0; i < queries.size(); i++) {
+                final KeyBatchQuery query = queries.get(i);
+                final List<DBObject> dbObjects = executor != null ? awaitKeyBatch(futures.get(i)) : query.call();
+                for (final DBObject dbObject : dbObjects) {
+                    documents.get(query.collection.getName()).put(toMatchedId(dbObject.get(ID_FIELD_NAME)), dbObject);
+                }
+            }
+        } finally {
+            for (final Future<List<DBObject>> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        final EntityCache cache = createCache();
+        final Map<DBObject, T> decoded = new IdentityHashMap<DBObject, T>();
+        final List<T> entities = new ArrayList<T>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            final DBObject dbObject = documents.get(keys.get(i).getCollection()).get(ids.get(i));
+            T entity = null;
+            if (dbObject != null) {
+                entity = decoded.get(dbObject);
+                if (entity == null) {
+                    entity = mapper.fromDBObject(this, clazz != null ? clazz : (Class<T>) keys.get(i).getType(), dbObject, cache);
+                    decoded.put(dbObject, entity);
+                }
+            }
+            entities.add(entity);
+        }
+        return entities;
+    }
+
     /**
      * @param obj the value to search with
      * @return the DBCollection
@@ -518,12 +644,12 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public <T> long getCount(final T entity) {
-        return getCollection(ProxyHelper.unwrap(entity)).count();
+        return count(getCollection(ProxyHelper.unwrap(entity)));
     }
 
     @Override
     public <T> long getCount(final Class<T> clazz) {
-        return getCollection(clazz).count();
+        return count(getCollection(clazz));
     }
 
     @Override
@@ -582,7 +708,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         DBCollection collection = options.getQuery().getCollection();
 
         final EntityCache cache = createCache();
-        MapreduceResults<T> results = new MapreduceResults<T>(collection.mapReduce(options.toCommand(getMapper())));
+        MapreduceResults<T> results = new MapreduceResults<T>(mapReduce(collection, options.toCommand(getMapper())));
 
         results.setOutputType(options.getOutputType());
 
@@ -660,7 +786,7 @@ public class DatastoreImpl implements AdvancedDatastore {
         }
 
         final EntityCache cache = createCache();
-        MapreduceResults<T> results = new MapreduceResults<T>(dbColl.mapReduce(baseCommand));
+        MapreduceResults<T> results = new MapreduceResults<T>(mapReduce(dbColl, baseCommand));
 
         results.setType(type);
         if (MapreduceType.INLINE.equals(type)) {
@@ -673,6 +799,16 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     }
 
+    private MapReduceOutput mapReduce(final DBCollection dbColl, final MapReduceCommand command) {
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.MAP_REDUCE, dbColl.getName());
+        final long mark = timer.mark();
+        final MapReduceOutput output = dbColl.mapReduce(command);
+        timer.driver(mark);
+        timer.documents(output.getOutputCount());
+        timer.complete();
+        return output;
+    }
+
     @Override
     public <T> Key<T> merge(final T entity) {
         return merge(entity, getWriteConcern(entity));
@@ -739,6 +875,9 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public <T> Iterable<Key<T>> save(final Iterable<T> entities, final InsertOptions options) {
+        if (morphia.isUseBulkWriteOperations()) {
+            return saveInBulk(entities, options);
+        }
         final List<Key<T>> savedKeys = new ArrayList<Key<T>>();
         for (final T ent : entities) {
             savedKeys.add(save(ent, options));
@@ -1034,7 +1173,17 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     @Override
     public long getCount(final String collection) {
-        return getCollection(collection).count();
+        return count(getCollection(collection));
+    }
+
+    private long count(final DBCollection dbColl) {
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.COUNT, dbColl.getName());
+        final long mark = timer.mark();
+        final long count = dbColl.count();
+        timer.driver(mark);
+        timer.documents(count);
+        timer.complete();
+        return count;
     }
 
     @Override
@@ -1231,8 +1380,14 @@ public class DatastoreImpl implements AdvancedDatastore {
 
     protected <T> Key<T> insert(final DBCollection dbColl, final T entity, final InsertOptions options) {
         final LinkedHashMap<Object, DBObject> involvedObjects = new LinkedHashMap<Object, DBObject>();
-        dbColl.insert(singletonList(entityToDBObj(entity, involvedObjects)), enforceWriteConcern(options, entity.getClass())
-            .getOptions());
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.INSERT, dbColl.getName());
+        long mark = timer.mark();
+        final List<DBObject> documents = singletonList(entityToDocument(entity, involvedObjects));
+        mark = timer.encode(mark);
+        dbColl.insert(documents, withEncoder(enforceWriteConcern(options, entity.getClass()).getOptions(), documents));
+        timer.driver(mark);
+        timer.documents(1);
+        timer.complete();
 
         return postSaveOperations(singletonList(entity), involvedObjects, dbColl).get(0);
     }
@@ -1286,7 +1441,10 @@ public class DatastoreImpl implements AdvancedDatastore {
 
         // involvedObjects is used not only as a cache but also as a list of what needs to be called for life-cycle methods at the end.
         final LinkedHashMap<Object, DBObject> involvedObjects = new LinkedHashMap<Object, DBObject>();
-        final DBObject document = entityToDBObj(entity, involvedObjects);
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.SAVE, dbColl.getName());
+        long mark = timer.mark();
+        final DBObject document = entityToDocument(entity, involvedObjects);
+        mark = timer.encode(mark);
 
         // try to do an update if there is a @Version field
         final Object idValue = document.get(Mapper.ID_KEY);
@@ -1295,22 +1453,73 @@ public class DatastoreImpl implements AdvancedDatastore {
         if (wr == null) {
             saveDocument(dbColl, document, options);
         }
+        timer.driver(mark);
+        timer.documents(1);
+        timer.complete();
 
         return postSaveOperations(singletonList(entity), involvedObjects, dbColl).get(0);
     }
 
+    private <T> List<Key<T>> saveInBulk(final Iterable<T> entities, final InsertOptions options) {
+        final List<Key<T>> keys = new ArrayList<Key<T>>();
+        final Map<String, BulkSave<T>> batches = new LinkedHashMap<String, BulkSave<T>>();
+        for (final T entity : entities) {
+            if (entity == null) {
+                throw new UpdateException("Can not persist a null entity");
+            }
+            final T unwrapped = ProxyHelper.unwrap(entity);
+            final DBCollection dbColl = getCollection(unwrapped);
+            BulkSave<T> batch = batches.get(dbColl.getName());
+            if (batch == null) {
+                batch = new BulkSave<T>(dbColl, enforceWriteConcern(options, unwrapped.getClass()));
+                batches.put(dbColl.getName(), batch);
+            }
+            keys.add(null);
+            batch.add(keys.size() - 1, unwrapped, keys);
+            if (batch.size() >= options.getBulkWriteBatchSize()) {
+                batch.execute(keys);
+            }
+        }
+        for (final BulkSave<T> batch : batches.values()) {
+            batch.execute(keys);
+        }
+        return keys;
+    }
+
     private WriteResult saveDocument(final DBCollection dbColl, final DBObject document, final InsertOptions options) {
-        if (document.get(ID_FIELD_NAME) == null) {
-            return dbColl.insert(singletonList(document), options.getOptions());
+        if (document.get(ID_FIELD_NAME) == null || isGeneratedId(document)) {
+            final List<DBObject> documents = singletonList(document);
+            return dbColl.insert(documents, withEncoder(options.getOptions(), documents));
         } else {
             return dbColl.update(new BasicDBObject(ID_FIELD_NAME, document.get(ID_FIELD_NAME)), document,
                           new DBCollectionUpdateOptions()
                               .bypassDocumentValidation(options.getBypassDocumentValidation())
                               .writeConcern(options.getWriteConcern())
+                              .encoder(document instanceof EncodedEntity ? EntityEncoder.FACTORY.create() : null)
                               .upsert(true));
         }
     }
 
+    private static boolean isGeneratedId(final DBObject document) {
+        return document instanceof EncodedEntity && ((EncodedEntity) document).isGeneratedId();
+    }
+
+    /**
+     * Adds the encoder for directly encoded entities to the options when any of the documents needs it.
+     */
+    private static com.mongodb.InsertOptions withEncoder(final com.mongodb.InsertOptions options, final List<DBObject> documents) {
+        for (final DBObject document : documents) {
+            if (document instanceof EncodedEntity) {
+                return new com.mongodb.InsertOptions()
+                    .writeConcern(options.getWriteConcern())
+                    .continueOnError(options.isContinueOnError())
+                    .bypassDocumentValidation(options.getBypassDocumentValidation())
+                    .dbEncoder(EntityEncoder.FACTORY.create());
+            }
+        }
+        return options;
+    }
+
     private <T> WriteResult tryVersionedUpdate(final DBCollection dbColl, final T entity, final DBObject dbObj, final Object idValue,
                                                final InsertOptions options, final MappedClass mc) {
         WriteResult wr;
@@ -1365,10 +1574,70 @@ public class DatastoreImpl implements AdvancedDatastore {
         return mapper.createEntityCache();
     }
 
+    /**
+     * Invalidates the documents of the second level cache a write may have changed: the document matched by the id in the query if
+     * there is one, all the documents of the collection otherwise.
+     */
+    private void invalidateCache(final DBCollection dbColl, final Class<?> type, final DBObject queryObject) {
+        final SecondLevelCache secondLevelCache = mapper.getOptions().getSecondLevelCache();
+        if (secondLevelCache != null) {
+            final Key<?> key = mapper.toCacheKey(type, dbColl.getName(), queryObject.get(ID_FIELD_NAME));
+            if (key != null) {
+                secondLevelCache.invalidate(key);
+            } else {
+                secondLevelCache.invalidate(dbColl.getName());
+            }
+        }
+    }
+
+    private List<DBObject> awaitKeyBatch(final Future<List<DBObject>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException("Interrupted while fetching entities by their keys", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new MongoException("Failed to fetch entities by their keys", e.getCause());
+        }
+    }
+
+    private Object toDBObjectId(final Key<?> key) {
+        mapper.updateCollection(key);
+        Object id = key.getId();
+        if (mapper.isMapped(id.getClass())) {
+            id = mapper.keyToDBRef(key).getId();
+        }
+        if (id instanceof DBObject) {
+            ((DBObject) id).removeField(Mapper.CLASS_NAME_FIELDNAME);
+        }
+        return id;
+    }
+
+    /**
+     * The server matches numbers by value whatever their type, so an Integer id finds a document stored with a Long id.  Integral values
+     * are widened to Long, the same as whole doubles, so such ids are equal once matched.
+     */
+    private static Object toMatchedId(final Object id) {
+        if (id instanceof Integer || id instanceof Long || id instanceof Short || id instanceof Byte) {
+            return ((Number) id).longValue();
+        } else if (id instanceof Double || id instanceof Float) {
+            final double value = ((Number) id).doubleValue();
+            return value == Math.rint(value) && Math.abs(value) < Long.MAX_VALUE ? (Object) (long) value : (Object) value;
+        }
+        return id;
+    }
+
     private DBObject entityToDBObj(final Object entity, final Map<Object, DBObject> involvedObjects) {
         return mapper.toDBObject(ProxyHelper.unwrap(entity), involvedObjects);
     }
 
+    private DBObject entityToDocument(final Object entity, final Map<Object, DBObject> involvedObjects) {
+        return mapper.toDocument(ProxyHelper.unwrap(entity), involvedObjects);
+    }
+
     private <T> Iterable<Key<T>> insert(final DBCollection dbColl, final Iterable<T> entities, final InsertOptions options) {
         if (!entities.iterator().hasNext()) {
             return Collections.emptyList();
@@ -1376,6 +1645,8 @@ public class DatastoreImpl implements AdvancedDatastore {
 
         final Map<Object, DBObject> involvedObjects = new LinkedHashMap<Object, DBObject>();
         final List<DBObject> list = new ArrayList<DBObject>();
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.INSERT, dbColl.getName());
+        long mark = timer.mark();
         com.mongodb.InsertOptions insertOptions = options.getOptions();
         for (final T entity : entities) {
             if (options.getWriteConcern() == null) {
@@ -1383,7 +1654,11 @@ public class DatastoreImpl implements AdvancedDatastore {
             }
             list.add(toDbObject(entity, involvedObjects));
         }
-        dbColl.insert(list, insertOptions);
+        mark = timer.encode(mark);
+        dbColl.insert(list, withEncoder(insertOptions, list));
+        timer.driver(mark);
+        timer.documents(list.size());
+        timer.complete();
 
         return postSaveOperations(entities, involvedObjects, dbColl);
     }
@@ -1429,6 +1704,7 @@ public class DatastoreImpl implements AdvancedDatastore {
                 mapper.updateKeyAndVersionInfo(this, dbObj, createCache(), entity);
                 keys.add(new Key<T>((Class<? extends T>) entity.getClass(), collection.getName(), mapper.getId(entity)));
             }
+            invalidateCache(collection, entity.getClass(), new BasicDBObject(ID_FIELD_NAME, dbObj.get(ID_FIELD_NAME)));
             mapper.getMappedClass(entity).callLifecycleMethods(PostPersist.class, entity, dbObj, mapper);
         }
 
@@ -1454,7 +1730,7 @@ public class DatastoreImpl implements AdvancedDatastore {
             throw new MappingException(format("Entity type: %s is marked as NotSaved which means you should not try to save it!",
                                               mc.getClazz().getName()));
         }
-        DBObject dbObject = entityToDBObj(ent, involvedObjects);
+        DBObject dbObject = entityToDocument(ent, involvedObjects);
         List<MappedField> versionFields = mc.getFieldsAnnotatedWith(Version.class);
         for (MappedField mappedField : versionFields) {
             String name = mappedField.getNameToStore();
@@ -1492,9 +1768,18 @@ public class DatastoreImpl implements AdvancedDatastore {
                              dbColl.getName(), queryObject, update, options.isMulti(), options.isUpsert()));
         }
 
-        return new UpdateResults(dbColl.update(queryObject, update,
-                                               enforceWriteConcern(options, query.getEntityClass())
-                                                   .getOptions()));
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.UPDATE, dbColl.getName());
+        final long mark = timer.mark();
+        final WriteResult result;
+        try {
+            result = dbColl.update(queryObject, update, enforceWriteConcern(options, query.getEntityClass()).getOptions());
+        } finally {
+            invalidateCache(dbColl, query.getEntityClass(), queryObject);
+        }
+        timer.driver(mark);
+        timer.documents(affected(result));
+        timer.complete();
+        return new UpdateResults(result);
     }
 
     @SuppressWarnings("unchecked")
@@ -1545,9 +1830,22 @@ public class DatastoreImpl implements AdvancedDatastore {
                              dbColl.getName(), queryObject, update, options.isMulti(), options.isUpsert()));
         }
 
-        return new UpdateResults(dbColl.update(queryObject, update,
-                                               enforceWriteConcern(options, query.getEntityClass())
-                                                   .getOptions()));
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.UPDATE, dbColl.getName());
+        final long mark = timer.mark();
+        final WriteResult result;
+        try {
+            result = dbColl.update(queryObject, update, enforceWriteConcern(options, query.getEntityClass()).getOptions());
+        } finally {
+            invalidateCache(dbColl, query.getEntityClass(), queryObject);
+        }
+        timer.driver(mark);
+        timer.documents(affected(result));
+        timer.complete();
+        return new UpdateResults(result);
+    }
+
+    private static int affected(final WriteResult result) {
+        return result.wasAcknowledged() ? result.getN() : 0;
     }
 
     /**
@@ -1566,4 +1864,146 @@ public class DatastoreImpl implements AdvancedDatastore {
 
         return wc;
     }
+
+    private static final class KeyBatchQuery implements Callable<List<DBObject>> {
+        private final DBCollection collection;
+        private final List<Object> ids;
+        private final DBDecoderFactory decoderFactory;
+
+        private KeyBatchQuery(final DBCollection collection, final List<Object> ids, final DBDecoderFactory decoderFactory) {
+            this.collection = collection;
+            this.ids = ids;
+            this.decoderFactory = decoderFactory;
+        }
+
+        @Override
+        public List<DBObject> call() {
+            final DBCursor cursor = collection.find(new BasicDBObject(ID_FIELD_NAME, new BasicDBObject("$in", ids)))
+                                              .setDecoderFactory(decoderFactory);
+            try {
+                return cursor.toArray();
+            } finally {
+                cursor.close();
+            }
+        }
+    }
+
+    /**
+     * Collects the documents of one collection for {@link #saveInBulk(Iterable, InsertOptions)} and sends them as a single bulk write.
+     * Versioned entities which already exist are saved individually so that a failed version check can be attributed to its entity.
+     */
+    private final class BulkSave<T> {
+        private final DBCollection collection;
+        private final InsertOptions options;
+        private final List<Integer> indexes = new ArrayList<Integer>();
+        private final List<T> entities = new ArrayList<T>();
+        private final List<Map<Object, DBObject>> involvedObjects = new ArrayList<Map<Object, DBObject>>();
+        private final List<DBObject> documents = new ArrayList<DBObject>();
+        private OperationTimer timer;
+
+        private BulkSave(final DBCollection collection, final InsertOptions options) {
+            this.collection = collection;
+            this.options = options;
+            timer = OperationTimer.start(mapper, OperationEvent.Type.SAVE, collection.getName());
+        }
+
+        int size() {
+            return entities.size();
+        }
+
+        void add(final int index, final T entity, final List<Key<T>> keys) {
+            final MappedClass mc = mapper.getMappedClass(entity);
+            if (mc.getAnnotation(NotSaved.class) != null) {
+                throw new MappingException(format("Entity type: %s is marked as NotSaved which means you should not try to save it!",
+                                                  mc.getClazz().getName()));
+            }
+
+            final MappedField mfVersion = mc.getMappedVersionField();
+            if (mfVersion != null && nextValue((Long) mfVersion.getFieldValue(entity)) != 1 && mapper.getId(entity) != null) {
+                execute(keys);
+                keys.set(index, save(collection, entity, options));
+                return;
+            }
+
+            final LinkedHashMap<Object, DBObject> involved = new LinkedHashMap<Object, DBObject>();
+            final long mark = timer.mark();
+            final DBObject document = entityToDocument(entity, involved);
+            timer.encode(mark);
+            if (mfVersion != null) {
+                document.put(mfVersion.getNameToStore(), 1L);
+            }
+
+            indexes.add(index);
+            entities.add(entity);
+            involvedObjects.add(involved);
+            documents.add(document);
+        }
+
+        void execute(final List<Key<T>> keys) {
+            if (entities.isEmpty()) {
+                return;
+            }
+
+            final long mark = timer.mark();
+            if (isNewEncoded()) {
+                collection.insert(documents, withEncoder(options.getOptions(), documents));
+            } else {
+                executeBulk();
+            }
+            timer.driver(mark);
+            timer.documents(documents.size());
+            timer.complete();
+            timer = OperationTimer.start(mapper, OperationEvent.Type.SAVE, collection.getName());
+
+            for (int i = 0; i < entities.size(); i++) {
+                keys.set(indexes.get(i), postSaveOperations(singletonList(entities.get(i)), involvedObjects.get(i), collection).get(0));
+            }
+
+            indexes.clear();
+            entities.clear();
+            involvedObjects.clear();
+            documents.clear();
+        }
+
+        /**
+         * Batches holding only new, directly encoded entities are inserted as they are, since a bulk write encodes its documents itself.
+         */
+        private boolean isNewEncoded() {
+            for (final DBObject document : documents) {
+                if (!isGeneratedId(document)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void executeBulk() {
+            final BulkWriteOperation bulk = options.isContinueOnError()
+                                            ? collection.initializeUnorderedBulkOperation()
+                                            : collection.initializeOrderedBulkOperation();
+            bulk.setBypassDocumentValidation(options.getBypassDocumentValidation());
+            for (final DBObject document : documents) {
+                final Object idValue = document.get(ID_FIELD_NAME);
+                if (idValue == null) {
+                    document.put(ID_FIELD_NAME, new ObjectId());
+                    bulk.insert(document);
+                } else if (isGeneratedId(document)) {
+                    bulk.insert(document);
+                } else {
+                    bulk.find(new BasicDBObject(ID_FIELD_NAME, idValue)).upsert().replaceOne(document);
+                }
+            }
+            try {
+                if (options.getWriteConcern() != null) {
+                    bulk.execute(options.getWriteConcern());
+                } else {
+                    bulk.execute();
+                }
+            } catch (RuntimeException e) {
+                // some of the documents may have been written
+                invalidateCache(collection, null, new BasicDBObject());
+                throw e;
+            }
+        }
+    }
 }
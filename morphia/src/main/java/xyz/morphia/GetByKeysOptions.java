@@ -0,0 +1,71 @@
+package xyz.morphia;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * The options to apply when fetching entities by their keys.
+ *
+ * @see DatastoreImpl#getByKeys(Class, java.util.List, GetByKeysOptions)
+ * @since 1.5
+ */
+public final class GetByKeysOptions {
+    /**
+     * The default maximum number of ids sent in a single {@code $in} query
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private ExecutorService executor;
+
+    /**
+     * Copies this instance to a new one.
+     *
+     * @return the new instance
+     */
+    public GetByKeysOptions copy() {
+        return new GetByKeysOptions()
+            .batchSize(getBatchSize())
+            .executor(getExecutor());
+    }
+
+    /**
+     * @return the maximum number of ids sent in a single {@code $in} query
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum number of ids sent in a single {@code $in} query.  Larger sets of keys for a collection are split into several
+     * queries.
+     *
+     * @param batchSize the batch size.  Must be greater than 0.
+     * @return this
+     */
+    public GetByKeysOptions batchSize(final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be greater than 0: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * @return the executor used to run the queries concurrently, or null if they are run on the calling thread
+     */
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the executor used to run the queries for each collection and batch concurrently.  The documents are still decoded on the
+     * calling thread.  The executor is not shut down by Morphia.
+     *
+     * @param executor the executor to use, or null to run the queries on the calling thread
+     * @return this
+     */
+    public GetByKeysOptions executor(final ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+}
@@ -24,7 +24,15 @@ import com.mongodb.WriteConcern;
  * @since 1.3
  */
 public class InsertOptions {
+    /**
+     * The default number of documents sent in a single bulk write
+     *
+     * @since 1.5
+     */
+    public static final int DEFAULT_BULK_WRITE_BATCH_SIZE = 1000;
+
     private com.mongodb.InsertOptions options = new com.mongodb.InsertOptions();
+    private int bulkWriteBatchSize = DEFAULT_BULK_WRITE_BATCH_SIZE;
 
     /**
      * Create a copy of the options instance.
@@ -35,6 +43,7 @@ public class InsertOptions {
         return new InsertOptions()
             .bypassDocumentValidation(getBypassDocumentValidation())
             .continueOnError(isContinueOnError())
+            .bulkWriteBatchSize(getBulkWriteBatchSize())
             .writeConcern(getWriteConcern());
     }
 
@@ -104,4 +113,31 @@ public class InsertOptions {
         options.bypassDocumentValidation(bypassDocumentValidation);
         return this;
     }
+
+    /**
+     * Gets the number of documents sent in a single bulk write when bulk writes are enabled.
+     *
+     * @return the batch size
+     * @see Morphia#setUseBulkWriteOperations(boolean)
+     * @since 1.5
+     */
+    public int getBulkWriteBatchSize() {
+        return bulkWriteBatchSize;
+    }
+
+    /**
+     * Sets the number of documents sent in a single bulk write when bulk writes are enabled.
+     *
+     * @param bulkWriteBatchSize the batch size.  Must be greater than 0.
+     * @return this
+     * @see Morphia#setUseBulkWriteOperations(boolean)
+     * @since 1.5
+     */
+    public InsertOptions bulkWriteBatchSize(final int bulkWriteBatchSize) {
+        if (bulkWriteBatchSize < 1) {
+            throw new IllegalArgumentException("The bulk write batch size must be greater than 0: " + bulkWriteBatchSize);
+        }
+        this.bulkWriteBatchSize = bulkWriteBatchSize;
+        return this;
+    }
 }
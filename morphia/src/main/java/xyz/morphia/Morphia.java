@@ -24,11 +24,14 @@ import xyz.morphia.logging.MorphiaLoggerFactory;
 import xyz.morphia.mapping.Mapper;
 import xyz.morphia.mapping.MappingException;
 import xyz.morphia.mapping.cache.EntityCache;
+import xyz.morphia.mapping.generated.EntityIndex;
 import xyz.morphia.utils.ReflectionUtils;
 
 import java.io.IOException;
 import java.lang.reflect.Modifier;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 
@@ -39,6 +42,7 @@ import java.util.Set;
 public class Morphia {
     private static final Logger LOG = MorphiaLoggerFactory.get(Morphia.class);
     private final Mapper mapper;
+    private boolean useBulkWriteOperations;
 
     /**
      * Creates a Morphia instance with a default Mapper and an empty class set.
@@ -147,13 +151,12 @@ public class Morphia {
     }
 
     /**
-     * @return false.  Setting this value has no value functionally or performance-wise.
-     * @deprecated
-     * @see <a href="https://github.com/MorphiaOrg/morphia/issues/1052">Issue #1052</a>
+     * @return true if {@link Datastore#save(Iterable, InsertOptions)} sends its documents as bulk writes
+     * @deprecated use {@link #isUseBulkWriteOperations()}
      */
     @Deprecated
     public boolean getUseBulkWriteOperations() {
-        return false;
+        return isUseBulkWriteOperations();
     }
 
     /**
@@ -167,24 +170,21 @@ public class Morphia {
     }
 
     /**
-     * @return false.  Setting this value has no value functionally or performance-wise.
-     * @deprecated
-     * @see <a href="https://github.com/MorphiaOrg/morphia/issues/1052">Issue #1052</a>
+     * @return true if {@link Datastore#save(Iterable, InsertOptions)} sends its documents as bulk writes
      */
-    @Deprecated
     public boolean isUseBulkWriteOperations() {
-        return false;
+        return useBulkWriteOperations;
     }
 
     /**
-     * Configures Morphia to use bulk writes.  Only useful with MongoDB 2.6+.
+     * Configures Morphia to send the documents passed to {@link Datastore#save(Iterable, InsertOptions)} as bulk writes, in batches of
+     * {@link InsertOptions#getBulkWriteBatchSize()} documents, rather than saving each entity with its own request.  Unless
+     * {@link InsertOptions#isContinueOnError()} is set, the bulk writes are ordered.
      *
      * @param useBulkWriteOperations true if Morphia should use bulk writes
-     * @see <a href="https://github.com/MorphiaOrg/morphia/issues/1052">Issue #1052</a>
-     * @deprecated Setting this value has no value functionally or performance-wise.
      */
-    @Deprecated
     public void setUseBulkWriteOperations(final boolean useBulkWriteOperations) {
+        this.useBulkWriteOperations = useBulkWriteOperations;
     }
 
     /**
@@ -192,14 +192,11 @@ public class Morphia {
      *
      * @param entityClasses the classes to map
      * @return this
+     * @see xyz.morphia.mapping.MapperOptions#setMappingThreads(int)
      */
     public synchronized Morphia map(final Class... entityClasses) {
         if (entityClasses != null && entityClasses.length > 0) {
-            for (final Class entityClass : entityClasses) {
-                if (!mapper.isMapped(entityClass)) {
-                    mapper.addMappedClass(entityClass);
-                }
-            }
+            mapper.addMappedClasses(Arrays.<Class>asList(entityClasses));
         }
         return this;
     }
@@ -209,14 +206,11 @@ public class Morphia {
      *
      * @param entityClasses the classes to map
      * @return this
+     * @see xyz.morphia.mapping.MapperOptions#setMappingThreads(int)
      */
     public synchronized Morphia map(final Set<Class> entityClasses) {
         if (entityClasses != null && !entityClasses.isEmpty()) {
-            for (final Class entityClass : entityClasses) {
-                if (!mapper.isMapped(entityClass)) {
-                    mapper.addMappedClass(entityClass);
-                }
-            }
+            mapper.addMappedClasses(entityClasses);
         }
         return this;
     }
@@ -232,7 +226,8 @@ public class Morphia {
     }
 
     /**
-     * Tries to map all classes in the package specified.
+     * Tries to map all classes in the package specified.  The classes of the jars and directories compiled with the morphia-processor
+     * module are read from the index written at compile time; the other locations of the package are scanned.
      *
      * @param packageName          the name of the package to process
      * @param ignoreInvalidClasses specifies whether to ignore classes in the package that cannot be mapped
@@ -240,18 +235,26 @@ public class Morphia {
      */
     public synchronized Morphia mapPackage(final String packageName, final boolean ignoreInvalidClasses) {
         try {
-            for (final Class clazz : ReflectionUtils.getClasses(packageName, mapper.getOptions().isMapSubPackages())) {
+            final boolean mapSubPackages = mapper.getOptions().isMapSubPackages();
+            final Set<Class<?>> classes = EntityIndex.getClasses(Thread.currentThread().getContextClassLoader(), packageName,
+                                                                 mapSubPackages);
+            final Set<Class> mappable = new LinkedHashSet<Class>();
+            for (final Class clazz : classes) {
+                final Embedded embeddedAnn = ReflectionUtils.getClassEmbeddedAnnotation(clazz);
+                final Entity entityAnn = ReflectionUtils.getClassEntityAnnotation(clazz);
+                final boolean isAbstract = Modifier.isAbstract(clazz.getModifiers());
+                if ((entityAnn != null || embeddedAnn != null) && !isAbstract) {
+                    mappable.add(clazz);
+                }
+            }
+            if (!ignoreInvalidClasses) {
+                return map(mappable);
+            }
+            for (final Class clazz : mappable) {
                 try {
-                    final Embedded embeddedAnn = ReflectionUtils.getClassEmbeddedAnnotation(clazz);
-                    final Entity entityAnn = ReflectionUtils.getClassEntityAnnotation(clazz);
-                    final boolean isAbstract = Modifier.isAbstract(clazz.getModifiers());
-                    if ((entityAnn != null || embeddedAnn != null) && !isAbstract) {
-                        map(clazz);
-                    }
+                    map(clazz);
                 } catch (final MappingException ex) {
-                    if (!ignoreInvalidClasses) {
-                        throw ex;
-                    }
+                    // ignored as requested
                 }
             }
             return this;
@@ -0,0 +1,116 @@
+package xyz.morphia;
+
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timings of a database operation passed to the {@link OperationListener}s.  The time spent in the driver includes sending the
+ * command, waiting for the server and reading the reply, as well as decoding documents when a decoder maps them to entities directly.
+ *
+ * @since 1.5
+ */
+public final class OperationEvent {
+    private final Type type;
+    private final String collection;
+    private final long driverTime;
+    private final long decodeTime;
+    private final long encodeTime;
+    private final long documents;
+
+    /**
+     * Creates an event
+     *
+     * @param type       the type of the operation
+     * @param collection the name of the collection
+     * @param driverTime the nanoseconds spent in the driver
+     * @param decodeTime the nanoseconds spent mapping documents to entities
+     * @param encodeTime the nanoseconds spent mapping entities to documents
+     * @param documents  the number of documents read or written
+     */
+    public OperationEvent(final Type type, final String collection, final long driverTime, final long decodeTime, final long encodeTime,
+                          final long documents) {
+        this.type = type;
+        this.collection = collection;
+        this.driverTime = driverTime;
+        this.decodeTime = decodeTime;
+        this.encodeTime = encodeTime;
+        this.documents = documents;
+    }
+
+    /**
+     * @return the type of the operation
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the name of the collection
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent in the driver
+     */
+    public long getDriverTime(final TimeUnit unit) {
+        return unit.convert(driverTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent mapping documents to entities
+     */
+    public long getDecodeTime(final TimeUnit unit) {
+        return unit.convert(decodeTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent mapping entities to documents
+     */
+    public long getEncodeTime(final TimeUnit unit) {
+        return unit.convert(encodeTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent in the driver and the mapper
+     */
+    public long getTotalTime(final TimeUnit unit) {
+        return unit.convert(driverTime + decodeTime + encodeTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of documents read or written.  For counts this is the count and for updates and deletes the number of documents
+     * affected.
+     *
+     * @return the number of documents
+     */
+    public long getDocuments() {
+        return documents;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s(%s): %d documents, driver %dns, decode %dns, encode %dns", type, collection, documents, driverTime,
+                             decodeTime, encodeTime);
+    }
+
+    /**
+     * The types of operations
+     */
+    public enum Type {
+        FIND,
+        COUNT,
+        INSERT,
+        SAVE,
+        UPDATE,
+        DELETE,
+        FIND_AND_MODIFY,
+        AGGREGATE,
+        MAP_REDUCE
+    }
+}
@@ -0,0 +1,21 @@
+package xyz.morphia;
+
+
+import xyz.morphia.mapping.Mapper;
+
+/**
+ * Interface for observing the database operations of a Datastore, for example to export their timings.  Listeners are registered with
+ * {@link Mapper#addOperationListener(OperationListener)} and are notified on the thread which ran the operation, so they should return
+ * quickly.  Nothing is measured while no listener is registered.
+ *
+ * @see OperationEvent
+ * @since 1.5
+ */
+public interface OperationListener {
+    /**
+     * Notifies the listener of a completed operation.  Cursors complete once they are exhausted or closed.
+     *
+     * @param event the timings of the operation
+     */
+    void operationCompleted(OperationEvent event);
+}
@@ -8,7 +8,9 @@ import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.UnwindOptions;
+import xyz.morphia.OperationEvent;
 import xyz.morphia.geo.GeometryShapeConverter;
+import xyz.morphia.internal.OperationTimer;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
 import xyz.morphia.mapping.MappedField;
@@ -79,8 +81,11 @@ public class AggregationPipelineImpl implements AggregationPipeline {
                                      final ReadPreference readPreference) {
         LOG.debug("stages = " + stages);
 
+        final OperationTimer timer = OperationTimer.start(mapper, OperationEvent.Type.AGGREGATE, collection.getName());
+        final long mark = timer.mark();
         Cursor cursor = collection.aggregate(stages, options, readPreference);
-        return new MorphiaCursor<U>(datastore, cursor, mapper, target, mapper.createEntityCache());
+        timer.driver(mark);
+        return new MorphiaCursor<U>(datastore, cursor, mapper, target, mapper.createEntityCache(), 0, timer);
     }
 
     @Override
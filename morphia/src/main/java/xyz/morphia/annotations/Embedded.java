@@ -40,6 +40,17 @@ public @interface Embedded {
      */
     Class<?> concreteClass() default Object.class;
 
+    /**
+     * Lazily maps the field.  The document read from the database is kept and mapped the first time the field is accessed.  An entity
+     * saved before the field is accessed writes the document back unchanged.  Only fields declared as a List, Set, Collection or Map can
+     * be lazy, and only when their values are embedded: collections of simple values, such as strings, are mapped when the entity is read.
+     *
+     * @return true if the field is mapped on first access
+     * @see xyz.morphia.mapping.lazy.LazyEmbedded
+     * @since 1.5
+     */
+    boolean lazy() default false;
+
     /**
      * @return The name of the Mongo value to store the field. Defaults to the name of the field being annotated.
      */
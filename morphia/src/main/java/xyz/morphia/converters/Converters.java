@@ -3,18 +3,22 @@ package xyz.morphia.converters;
 import com.mongodb.DBObject;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.EphemeralMappedField;
+import xyz.morphia.mapping.MappedClass;
 import xyz.morphia.mapping.MappedField;
 import xyz.morphia.mapping.Mapper;
 import xyz.morphia.mapping.MapperOptions;
 import xyz.morphia.mapping.MappingException;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 
@@ -25,12 +29,18 @@ public abstract class Converters {
     private static final Logger LOG = MorphiaLoggerFactory.get(Converters.class);
 
     private final Mapper mapper;
-    private final List<TypeConverter> untypedTypeEncoders = new LinkedList<TypeConverter>();
+    private final List<TypeConverter> untypedTypeEncoders = new CopyOnWriteArrayList<TypeConverter>();
     private final Map<Class, List<TypeConverter>> tcMap = new ConcurrentHashMap<Class, List<TypeConverter>>();
-    private final List<Class<? extends TypeConverter>> registeredConverterClasses = new ArrayList<Class<? extends TypeConverter>>();
+    private final List<Class<? extends TypeConverter>> registeredConverterClasses =
+        new CopyOnWriteArrayList<Class<? extends TypeConverter>>();
 
-    private final Map<Class, TypeConverter> classConverterCache = new HashMap<Class, TypeConverter>();
-    private final Map<MappedField, TypeConverter> mfConverterCache = new HashMap<MappedField, TypeConverter>();
+    // resolved converters, cleared whenever the set of converters changes
+    private final ConcurrentMap<Class, TypeConverter> classConverterCache = new ConcurrentHashMap<Class, TypeConverter>();
+    private final ConcurrentMap<MappedField, FieldConverters> mfConverterCache = new ConcurrentHashMap<MappedField, FieldConverters>();
+    private final AtomicInteger generation = new AtomicInteger();
+    private volatile boolean frozen;
+    // the converters resolved when the bundle was frozen, read without going through the caches
+    private volatile FrozenConverters frozenConverters;
 
     private static final TypeConverter CONVERTER_CACHE_NULL_PLACEHOLDER = new TypeConverter() {
         @Override
@@ -64,7 +74,8 @@ public abstract class Converters {
      * @param tc the converter to add
      * @return the TypeConverter passed in
      */
-    public TypeConverter addConverter(final TypeConverter tc) {
+    public synchronized TypeConverter addConverter(final TypeConverter tc) {
+        checkNotFrozen();
         if (tc.getSupportedTypes() != null) {
             for (final Class c : tc.getSupportedTypes()) {
                 addTypedConverter(c, tc);
@@ -75,10 +86,60 @@ public abstract class Converters {
 
         registeredConverterClasses.add(tc.getClass());
         tc.setMapper(mapper);
+        clearCaches();
 
         return tc;
     }
 
+    /**
+     * Freezes the set of converters.  Once frozen, converters can no longer be added or removed.  The converters of every registered type
+     * and of every field of the classes mapped so far are resolved once, into identity tables which later lookups read before the
+     * caches.  This is typically done once all the entities have been mapped.
+     *
+     * @since 1.5
+     */
+    public synchronized void freeze() {
+        if (frozen) {
+            return;
+        }
+        frozen = true;
+
+        final Map<Class, TypeConverter> byClass = new IdentityHashMap<Class, TypeConverter>(classConverterCache);
+        for (final Class c : tcMap.keySet()) {
+            if (!byClass.containsKey(c)) {
+                byClass.put(c, toCacheValue(getInternalEnc(c)));
+            }
+        }
+        final Map<MappedField, FieldConverters> byField = new IdentityHashMap<MappedField, FieldConverters>();
+        for (final MappedClass mc : mapper.getMappedClasses()) {
+            for (final MappedField mf : mc.getPersistenceFields()) {
+                byField.put(mf, getFieldConverters(mf));
+            }
+        }
+        frozenConverters = new FrozenConverters(byClass, byField);
+    }
+
+    /**
+     * Gets the generation of this bundle, which changes whenever a converter is added or removed.  Anything resolved from the converters
+     * is current as long as the generation is unchanged.  This method is primarily an internal method.  Reliance on this method may break
+     * your application in future releases.
+     *
+     * @return the generation of the converters
+     * @since 1.5
+     */
+    public int getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @return true if the set of converters has been frozen
+     * @see #freeze()
+     * @since 1.5
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
     /**
      * decode the {@link com.mongodb.DBObject} and provide the corresponding java (type-safe) object
      * <br><b>NOTE: mf might be null</b>
@@ -131,14 +192,27 @@ public abstract class Converters {
     public void fromDBObject(final DBObject dbObj, final MappedField mf, final Object targetEntity) {
         final Object object = mf.getDbObjectValue(dbObj);
         if (object != null) {
-            final TypeConverter enc = getEncoder(mf);
-            final Object decodedValue = enc.decode(mf.getType(), object, mf);
-            try {
-                mf.setFieldValue(targetEntity, decodedValue);
-            } catch (IllegalArgumentException e) {
-                throw new MappingException(format("Error setting value from converter (%s) for %s to %s",
-                                                  enc.getClass().getSimpleName(), mf.getFullName(), decodedValue), e);
-            }
+            fromDBValue(object, mf, targetEntity);
+        }
+    }
+
+    /**
+     * Decodes a single value read from the database and sets it on the field of an entity.  This method is primarily an internal method.
+     * Reliance on this method may break your application in future releases.
+     *
+     * @param object       the non-null value from the database
+     * @param mf           the MappedField containing the metadata to use when decoding in to a field
+     * @param targetEntity then entity to hold the state from the database
+     * @since 1.5
+     */
+    public void fromDBValue(final Object object, final MappedField mf, final Object targetEntity) {
+        final TypeConverter enc = getEncoder(mf);
+        final Object decodedValue = enc.decode(mf.getType(), object, mf);
+        try {
+            mf.setFieldValue(targetEntity, decodedValue);
+        } catch (IllegalArgumentException e) {
+            throw new MappingException(format("Error setting value from converter (%s) for %s to %s",
+                                              enc.getClass().getSimpleName(), mf.getFullName(), decodedValue), e);
         }
     }
 
@@ -209,7 +283,8 @@ public abstract class Converters {
      *
      * @param tc the converter to remove
      */
-    public void removeConverter(final TypeConverter tc) {
+    public synchronized void removeConverter(final TypeConverter tc) {
+        checkNotFrozen();
         if (tc.getSupportedTypes() == null) {
             untypedTypeEncoders.remove(tc);
             registeredConverterClasses.remove(tc.getClass());
@@ -225,7 +300,7 @@ public abstract class Converters {
             }
             registeredConverterClasses.remove(tc.getClass());
         }
-
+        clearCaches();
     }
 
     /**
@@ -237,24 +312,39 @@ public abstract class Converters {
      * @param opts             the options to apply
      */
     public void toDBObject(final Object containingObject, final MappedField mf, final DBObject dbObj, final MapperOptions opts) {
-        final Object fieldValue = mf.getFieldValue(containingObject);
-        final TypeConverter enc = getEncoder(fieldValue, mf);
-
-        final Object encoded = enc.encode(fieldValue, mf);
+        final Object encoded = toDBValue(containingObject, mf);
         if (encoded != null || opts.isStoreNulls()) {
             dbObj.put(mf.getNameToStore(), encoded);
         }
     }
 
+    /**
+     * Encodes the value of a field of an entity to the value stored in the database.  This method is primarily an internal method.
+     * Reliance on this method may break your application in future releases.
+     *
+     * @param containingObject The object holding the field
+     * @param mf               the MappedField to extract
+     * @return the encoded value
+     * @since 1.5
+     */
+    public Object toDBValue(final Object containingObject, final MappedField mf) {
+        final Object fieldValue = mf.getFieldValue(containingObject);
+        return getEncoder(fieldValue, mf).encode(fieldValue, mf);
+    }
+
     protected TypeConverter getEncoder(final Class c) {
-        TypeConverter cached = classConverterCache.get(c);
+        final FrozenConverters frozenTable = frozenConverters;
+        TypeConverter cached = frozenTable != null ? frozenTable.byClass.get(c) : null;
+        if (cached != null) {
+            return fromCacheValue(cached);
+        }
+        cached = classConverterCache.get(c);
         if (cached == null) {
-            TypeConverter encoder = getInternalEnc(c);
-            cached = encoder == null ? CONVERTER_CACHE_NULL_PLACEHOLDER : encoder;
-            classConverterCache.put(c, cached);
+            cached = toCacheValue(getInternalEnc(c));
+            classConverterCache.putIfAbsent(c, cached);
         }
 
-        return cached == CONVERTER_CACHE_NULL_PLACEHOLDER ? null : cached;
+        return fromCacheValue(cached);
     }
 
     private TypeConverter getInternalEnc(final Class c) {
@@ -276,7 +366,23 @@ public abstract class Converters {
     }
 
     protected TypeConverter getEncoder(final Object val, final MappedField mf) {
+        final FieldConverters fieldConverters = getFieldConverters(mf);
+        if (fieldConverters == null) {
+            return resolveEncoder(val, mf);
+        }
+        if (val == null) {
+            return fromCacheValue(fieldConverters.forField);
+        }
+
+        TypeConverter cached = fieldConverters.byValueType.get(val.getClass());
+        if (cached == null) {
+            cached = toCacheValue(resolveEncoder(val, mf));
+            fieldConverters.byValueType.putIfAbsent(val.getClass(), cached);
+        }
+        return fromCacheValue(cached);
+    }
 
+    private TypeConverter resolveEncoder(final Object val, final MappedField mf) {
         List<TypeConverter> tcs = null;
 
         if (val != null) {
@@ -315,12 +421,76 @@ public abstract class Converters {
     }
 
     private TypeConverter getEncoder(final MappedField mf) {
-        TypeConverter cached = mfConverterCache.get(mf);
-        if (cached == null) {
-            TypeConverter enc = getEncoder(null, mf);
-            cached = enc == null ? CONVERTER_CACHE_NULL_PLACEHOLDER : enc;
-            mfConverterCache.put(mf, cached);
+        return getEncoder(null, mf);
+    }
+
+    /**
+     * Finds the converters resolved for a field.  Ephemeral fields are created while decoding and are not cached.
+     */
+    private FieldConverters getFieldConverters(final MappedField mf) {
+        if (mf instanceof EphemeralMappedField) {
+            return null;
+        }
+        final FrozenConverters frozenTable = frozenConverters;
+        FieldConverters fieldConverters = frozenTable != null ? frozenTable.byField.get(mf) : null;
+        if (fieldConverters != null) {
+            return fieldConverters;
+        }
+        fieldConverters = mfConverterCache.get(mf);
+        if (fieldConverters == null) {
+            fieldConverters = new FieldConverters(toCacheValue(resolveEncoder(null, mf)));
+            final FieldConverters existing = mfConverterCache.putIfAbsent(mf, fieldConverters);
+            if (existing != null) {
+                fieldConverters = existing;
+            }
+        }
+        return fieldConverters;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("The converters have been frozen and can no longer be changed.");
         }
+    }
+
+    private void clearCaches() {
+        classConverterCache.clear();
+        mfConverterCache.clear();
+        generation.incrementAndGet();
+    }
+
+    private static TypeConverter toCacheValue(final TypeConverter converter) {
+        return converter == null ? CONVERTER_CACHE_NULL_PLACEHOLDER : converter;
+    }
+
+    private static TypeConverter fromCacheValue(final TypeConverter cached) {
         return cached == CONVERTER_CACHE_NULL_PLACEHOLDER ? null : cached;
     }
+
+    /**
+     * The converters resolved for one field: the converter for the declared type of the field and those for the runtime types of the
+     * values written to it.
+     */
+    private static final class FieldConverters {
+        private final TypeConverter forField;
+        private final ConcurrentMap<Class, TypeConverter> byValueType = new ConcurrentHashMap<Class, TypeConverter>();
+
+        private FieldConverters(final TypeConverter forField) {
+            this.forField = forField;
+        }
+    }
+
+    /**
+     * The converters resolved when the bundle was frozen.  The tables are never modified once built, so they are read without
+     * synchronization; types and fields first seen after freezing are resolved through the caches.
+     */
+    private static final class FrozenConverters {
+        private final Map<Class, TypeConverter> byClass;
+        private final Map<MappedField, FieldConverters> byField;
+
+        private FrozenConverters(final Map<Class, TypeConverter> byClass, final Map<MappedField, FieldConverters> byField) {
+            this.byClass = byClass;
+            this.byField = byField;
+        }
+    }
 }
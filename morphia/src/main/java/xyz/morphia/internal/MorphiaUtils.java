@@ -45,4 +45,24 @@ public final class MorphiaUtils {
         }
         return builder.toString();
     }
+
+    /**
+     * Checks if a path segment is a positional array index.  This is cheaper than matching a regular expression.
+     *
+     * @param segment the path segment
+     * @return true if the segment is made of digits only
+     * @since 1.5
+     */
+    public static boolean isArrayIndex(final String segment) {
+        if (segment.length() == 0) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            final char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,158 @@
+package xyz.morphia.internal;
+
+import xyz.morphia.OperationEvent;
+import xyz.morphia.OperationListener;
+import xyz.morphia.mapping.Mapper;
+
+/**
+ * Measures the phases of a database operation for the {@link OperationListener}s.  Each phase is measured from a mark: the methods
+ * recording a phase take the mark of its start and return the mark for the next phase, so that consecutive phases read the clock once.
+ * When no listener is registered the operations share a disabled timer which never reads the clock.
+ * <p>
+ * A timer is used by a single thread.  This is an internal class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class OperationTimer {
+    private static final OperationTimer DISABLED = new OperationTimer(null, null, null);
+
+    private final Mapper mapper;
+    private final OperationEvent.Type type;
+    private final String collection;
+    private long driverTime;
+    private long decodeTime;
+    private long encodeTime;
+    private long documents;
+    private boolean completed;
+
+    private OperationTimer(final Mapper mapper, final OperationEvent.Type type, final String collection) {
+        this.mapper = mapper;
+        this.type = type;
+        this.collection = collection;
+    }
+
+    /**
+     * Starts measuring an operation
+     *
+     * @param mapper     the Mapper holding the listeners
+     * @param type       the type of the operation
+     * @param collection the name of the collection
+     * @return the timer, disabled if no listener is registered
+     */
+    public static OperationTimer start(final Mapper mapper, final OperationEvent.Type type, final String collection) {
+        return mapper.hasOperationListeners() ? new OperationTimer(mapper, type, collection) : DISABLED;
+    }
+
+    /**
+     * @return a timer which does not measure anything
+     */
+    public static OperationTimer disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * @return true if the operation is measured
+     */
+    public boolean isEnabled() {
+        return mapper != null;
+    }
+
+    /**
+     * @return the mark starting a phase
+     */
+    public long mark() {
+        return mapper != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records time spent in the driver
+     *
+     * @param mark the start of the phase
+     * @return the mark starting the next phase
+     */
+    public long driver(final long mark) {
+        if (mapper == null) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        driverTime += now - mark;
+        return now;
+    }
+
+    /**
+     * Records time spent mapping documents to entities
+     *
+     * @param mark the start of the phase
+     * @return the mark starting the next phase
+     */
+    public long decode(final long mark) {
+        if (mapper == null) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        decodeTime += now - mark;
+        return now;
+    }
+
+    /**
+     * Records time spent mapping entities to documents
+     *
+     * @param mark the start of the phase
+     * @return the mark starting the next phase
+     */
+    public long encode(final long mark) {
+        if (mapper == null) {
+            return 0;
+        }
+        final long now = System.nanoTime();
+        encodeTime += now - mark;
+        return now;
+    }
+
+    /**
+     * Records time already measured by the caller as spent in the driver
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public void addDriverTime(final long nanos) {
+        if (mapper != null) {
+            driverTime += nanos;
+        }
+    }
+
+    /**
+     * Records time already measured by the caller as spent mapping documents to entities
+     *
+     * @param nanos the elapsed nanoseconds
+     */
+    public void addDecodeTime(final long nanos) {
+        if (mapper != null) {
+            decodeTime += nanos;
+        }
+    }
+
+    /**
+     * Counts documents read or written
+     *
+     * @param count the number of documents
+     */
+    public void documents(final long count) {
+        if (mapper != null) {
+            documents += count;
+        }
+    }
+
+    /**
+     * Notifies the listeners of the operation, at most once
+     */
+    public void complete() {
+        if (mapper == null || completed) {
+            return;
+        }
+        completed = true;
+        final OperationEvent event = new OperationEvent(type, collection, driverTime, decodeTime, encodeTime, documents);
+        for (final OperationListener listener : mapper.getOperationListeners()) {
+            listener.operationCompleted(event);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package xyz.morphia.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches the resolution of field paths so queries and updates on the same fields are only validated and translated once.  The cache is
+ * cleared whenever a class is mapped.  Paths are no longer cached once the maximum size is reached, which protects against unbounded
+ * paths such as those including map keys.  This is an internal class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class PathCache {
+    /**
+     * The default maximum number of paths cached
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final ConcurrentMap<PathKey, ResolvedPath> paths = new ConcurrentHashMap<PathKey, ResolvedPath>();
+    private final int maximumSize;
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAXIMUM_SIZE} paths
+     */
+    public PathCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param maximumSize the maximum number of paths cached
+     */
+    public PathCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Looks up a resolved path
+     *
+     * @param resolver      the class which resolved the path, since resolution rules differ between queries and updates
+     * @param type          the root type of the path
+     * @param path          the path as given by the user
+     * @param validateNames true if the path was validated
+     * @return the resolved path or null if it is not cached
+     */
+    public ResolvedPath get(final Class<?> resolver, final Class<?> type, final String path, final boolean validateNames) {
+        return paths.get(new PathKey(resolver, type, path, validateNames));
+    }
+
+    /**
+     * Caches a resolved path
+     *
+     * @param resolver      the class which resolved the path
+     * @param type          the root type of the path
+     * @param path          the path as given by the user
+     * @param validateNames true if the path was validated
+     * @param resolved      the resolved path
+     * @return the resolved path already cached for this key, or the one given
+     */
+    public ResolvedPath put(final Class<?> resolver, final Class<?> type, final String path, final boolean validateNames,
+                            final ResolvedPath resolved) {
+        if (paths.size() >= maximumSize) {
+            return resolved;
+        }
+        final ResolvedPath existing = paths.putIfAbsent(new PathKey(resolver, type, path, validateNames), resolved);
+        return existing != null ? existing : resolved;
+    }
+
+    /**
+     * Removes all the cached paths
+     */
+    public void clear() {
+        paths.clear();
+    }
+
+    /**
+     * @return the number of paths cached
+     */
+    public int size() {
+        return paths.size();
+    }
+
+    private static final class PathKey {
+        private final Class<?> resolver;
+        private final Class<?> type;
+        private final String path;
+        private final boolean validateNames;
+
+        private PathKey(final Class<?> resolver, final Class<?> type, final String path, final boolean validateNames) {
+            this.resolver = resolver;
+            this.type = type;
+            this.path = path;
+            this.validateNames = validateNames;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PathKey)) {
+                return false;
+            }
+            final PathKey that = (PathKey) o;
+            return validateNames == that.validateNames && resolver.equals(that.resolver) && type.equals(that.type)
+                   && path.equals(that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = resolver.hashCode();
+            result = 31 * result + type.hashCode();
+            result = 31 * result + path.hashCode();
+            result = 31 * result + (validateNames ? 1 : 0);
+            return result;
+        }
+    }
+}
@@ -26,6 +26,7 @@ import java.util.List;
 
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
+import static xyz.morphia.internal.MorphiaUtils.isArrayIndex;
 import static xyz.morphia.internal.MorphiaUtils.join;
 
 /**
@@ -35,7 +36,8 @@ import static xyz.morphia.internal.MorphiaUtils.join;
  */
 public class PathTarget {
     private final String path;
-    private final List<String> segments;
+    private List<String> segments;
+    private String translatedPath;
     private boolean validateNames = true;
     private int position;
     private Mapper mapper;
@@ -53,7 +55,6 @@ public class PathTarget {
      */
     public PathTarget(final Mapper mapper, final MappedClass root, final String path) {
         this.root = root;
-        segments = asList(path.split("\\."));
         this.mapper = mapper;
         this.path = path;
     }
@@ -79,7 +80,7 @@ public class PathTarget {
         if (!resolved) {
             resolve();
         }
-        return join(segments, '.');
+        return translatedPath;
     }
 
     /**
@@ -98,14 +99,29 @@ public class PathTarget {
         return segments.get(position++);
     }
 
+    /**
+     * Resolves the path, reusing the resolution cached by the Mapper for the same root, path and validation setting.
+     */
     private void resolve() {
+        final PathCache cache = mapper.getPathCache();
+        ResolvedPath resolvedPath = cache.get(PathTarget.class, root.getClazz(), path, validateNames);
+        if (resolvedPath == null) {
+            resolvedPath = cache.put(PathTarget.class, root.getClazz(), path, validateNames, walk());
+        }
+        target = resolvedPath.getField();
+        translatedPath = resolvedPath.getTranslatedPath();
+        resolved = true;
+    }
+
+    private ResolvedPath walk() {
+        segments = asList(path.split("\\."));
         context = this.root;
         position = 0;
         MappedField field = null;
         while (hasNext()) {
             String segment = next();
 
-            if (segment.equals("$") || segment.matches("[0-9]+")) {  // array operator
+            if (segment.equals("$") || isArrayIndex(segment)) {  // array operator
                 if (!hasNext()) {
                     break;
                 }
@@ -125,8 +141,7 @@ public class PathTarget {
                 }
             }
         }
-        target = field;
-        resolved = true;
+        return new ResolvedPath(field, null, join(segments, '.'));
     }
 
     private void translate(final String nameToStore) {
@@ -154,6 +169,7 @@ public class PathTarget {
 
     @Override
     public String toString() {
-        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getClazz().getSimpleName(), segments, target);
+        return String.format("PathTarget{root=%s, segments=%s, target=%s}", root.getClazz().getSimpleName(),
+                             asList((resolved ? translatedPath : path).split("\\.")), target);
     }
 }
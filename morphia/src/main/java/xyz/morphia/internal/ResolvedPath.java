@@ -0,0 +1,74 @@
+package xyz.morphia.internal;
+
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.MappedField;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The result of resolving a field path against a mapped class.  This is an internal class and is subject to change or removal.
+ *
+ * @see PathCache
+ * @since 1.5
+ */
+public final class ResolvedPath {
+    private final MappedField field;
+    private final MappedClass mappedClass;
+    private final String translatedPath;
+    private final Set<Object> compatibleValues = Collections.newSetFromMap(new ConcurrentHashMap<Object, Boolean>());
+
+    /**
+     * Creates a resolved path
+     *
+     * @param field          the field at the end of the path.  May be null if validation was disabled.
+     * @param mappedClass    the class the field at the end of the path was resolved against.  May be null.
+     * @param translatedPath the path using the stored names of each field
+     */
+    public ResolvedPath(final MappedField field, final MappedClass mappedClass, final String translatedPath) {
+        this.field = field;
+        this.mappedClass = mappedClass;
+        this.translatedPath = translatedPath;
+    }
+
+    /**
+     * @return the field at the end of the path.  May be null if validation was disabled.
+     */
+    public MappedField getField() {
+        return field;
+    }
+
+    /**
+     * @return the class the field at the end of the path was resolved against.  May be null.
+     */
+    public MappedClass getMappedClass() {
+        return mappedClass;
+    }
+
+    /**
+     * @return the path using the stored names of each field
+     */
+    public String getTranslatedPath() {
+        return translatedPath;
+    }
+
+    /**
+     * Checks if a kind of value has already been found to be compatible with the field at the end of this path.
+     *
+     * @param key describes the kind of value, e.g. the operator and the class of the value
+     * @return true if the value has already been validated
+     */
+    public boolean isCompatible(final Object key) {
+        return compatibleValues.contains(key);
+    }
+
+    /**
+     * Records that a kind of value is compatible with the field at the end of this path.
+     *
+     * @param key describes the kind of value, e.g. the operator and the class of the value
+     */
+    public void markCompatible(final Object key) {
+        compatibleValues.add(key);
+    }
+}
@@ -0,0 +1,53 @@
+package xyz.morphia.internal;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the pool running Morphia's background work when the application does not supply its own executor.  The pool is created on first
+ * use, is bounded by the number of processors and runs daemon threads which stop after a minute without work, so it never keeps the JVM
+ * alive nor holds threads for work that was abandoned.  It is shared by all the Mappers and must not be shut down.  This is an internal
+ * class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class SharedExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private SharedExecutor() {
+    }
+
+    /**
+     * @return the shared pool
+     */
+    public static ExecutorService get() {
+        return Holder.EXECUTOR;
+    }
+
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = create();
+
+        private static ExecutorService create() {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                                                       new LinkedBlockingQueue<Runnable>(), new WorkerThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "morphia-worker-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package xyz.morphia.internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A counter which starts as a single value and spreads its updates over several cells, picked by thread, once two threads contend for
+ * it.  Each cell is padded to its own cache line, so threads updating a contended counter rarely touch the same cell.  Counters which
+ * are never contended, such as those of a cache used by one thread, never allocate the cells.  Reading the count sums the cells and is
+ * only exact when no update is in progress.  This is an internal class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class StripedCounter {
+    private static final int STRIPES = stripes();
+    private static final int PADDING = 8;
+    private static final AtomicLongFieldUpdater<StripedCounter> BASE = AtomicLongFieldUpdater.newUpdater(StripedCounter.class, "base");
+
+    private volatile long base;
+    private volatile AtomicLongArray cells; // created on the first contended update
+
+    /**
+     * Adds one to the count
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Adds to the count
+     *
+     * @param delta the value to add, which may be negative
+     */
+    public void add(final long delta) {
+        AtomicLongArray current = cells;
+        if (current == null) {
+            final long value = base;
+            if (BASE.compareAndSet(this, value, value + delta)) {
+                return;
+            }
+            current = inflate();
+        }
+        current.getAndAdd(cell(), delta);
+    }
+
+    /**
+     * @return the current count
+     */
+    public long sum() {
+        long sum = base;
+        final AtomicLongArray current = cells;
+        if (current != null) {
+            for (int i = 0; i < STRIPES; i++) {
+                sum += current.get(i * PADDING);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sets the count back to 0.  Updates made while resetting may or may not be kept.
+     */
+    public void reset() {
+        base = 0;
+        final AtomicLongArray current = cells;
+        if (current != null) {
+            for (int i = 0; i < STRIPES; i++) {
+                current.set(i * PADDING, 0);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(sum());
+    }
+
+    private synchronized AtomicLongArray inflate() {
+        if (cells == null) {
+            cells = new AtomicLongArray(STRIPES * PADDING);
+        }
+        return cells;
+    }
+
+    private static int cell() {
+        final long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32));
+        hash *= 0x9E3779B9;
+        hash ^= hash >>> 16;
+        return (hash & (STRIPES - 1)) * PADDING;
+    }
+
+    private static int stripes() {
+        final int processors = Math.min(Runtime.getRuntime().availableProcessors() * 2, 64);
+        return Integer.highestOneBit(Math.max(processors - 1, 1)) << 1;
+    }
+}
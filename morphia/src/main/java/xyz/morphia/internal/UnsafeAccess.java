@@ -0,0 +1,134 @@
+package xyz.morphia.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Gives access to the {@code sun.misc.Unsafe} of the JVM.  The class is looked up by name and its methods are called reflectively, so
+ * nothing refers to the proprietary API at compile time and JVMs which do not provide it simply report it as unavailable.  This is an
+ * internal class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class UnsafeAccess {
+    private static final Object UNSAFE;
+    private static final Method OBJECT_FIELD_OFFSET;
+    private static final Method ALLOCATE_INSTANCE;
+    private static final Map<Class<?>, Method> GETTERS = new HashMap<Class<?>, Method>();
+    private static final Map<Class<?>, Method> PUTTERS = new HashMap<Class<?>, Method>();
+
+    static {
+        Object unsafe = null;
+        Method objectFieldOffset = null;
+        Method allocateInstance = null;
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            objectFieldOffset = unsafeClass.getMethod("objectFieldOffset", Field.class);
+            allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+            for (final Class<?> type : new Class<?>[]{Object.class, boolean.class, byte.class, char.class, short.class, int.class,
+                                                       long.class, float.class, double.class}) {
+                final String name = type == Object.class ? "Object" : Character.toUpperCase(type.getName().charAt(0))
+                                                                      + type.getName().substring(1);
+                GETTERS.put(type, unsafeClass.getMethod("get" + name, Object.class, long.class));
+                PUTTERS.put(type, unsafeClass.getMethod("put" + name, Object.class, long.class, type));
+            }
+            unsafe = theUnsafe.get(null);
+        } catch (Exception e) {
+            unsafe = null; // not provided by this JVM
+        } catch (LinkageError e) {
+            unsafe = null; // not provided by this JVM
+        }
+        UNSAFE = unsafe;
+        OBJECT_FIELD_OFFSET = objectFieldOffset;
+        ALLOCATE_INSTANCE = allocateInstance;
+    }
+
+    private UnsafeAccess() {
+    }
+
+    /**
+     * @return true if this JVM provides {@code sun.misc.Unsafe}
+     */
+    public static boolean isAvailable() {
+        return UNSAFE != null;
+    }
+
+    /**
+     * Gets the memory offset of an instance field
+     *
+     * @param field the field
+     * @return the offset
+     */
+    public static long objectFieldOffset(final Field field) {
+        return (Long) invoke(OBJECT_FIELD_OFFSET, field);
+    }
+
+    /**
+     * Allocates an instance of a class without running any constructor
+     *
+     * @param type the class to allocate
+     * @return the instance
+     * @throws InstantiationException if the class can not be allocated
+     */
+    public static Object allocateInstance(final Class<?> type) throws InstantiationException {
+        try {
+            return ALLOCATE_INSTANCE.invoke(UNSAFE, type);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof InstantiationException) {
+                throw (InstantiationException) e.getCause();
+            }
+            throw unchecked(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Reads a field at its memory offset
+     *
+     * @param target the instance holding the field
+     * @param offset the offset of the field
+     * @param type   the primitive type of the field, or Object for references
+     * @return the boxed value of the field
+     */
+    public static Object get(final Object target, final long offset, final Class<?> type) {
+        return invoke(GETTERS.get(type), target, offset);
+    }
+
+    /**
+     * Writes a field at its memory offset.  The value must already be of the type of the field.
+     *
+     * @param target the instance holding the field
+     * @param offset the offset of the field
+     * @param type   the primitive type of the field, or Object for references
+     * @param value  the boxed value to write
+     */
+    public static void put(final Object target, final long offset, final Class<?> type, final Object value) {
+        invoke(PUTTERS.get(type), target, offset, value);
+    }
+
+    private static Object invoke(final Method method, final Object... arguments) {
+        try {
+            return method.invoke(UNSAFE, arguments);
+        } catch (InvocationTargetException e) {
+            throw unchecked(e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException unchecked(final InvocationTargetException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,216 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import xyz.morphia.Datastore;
+import xyz.morphia.mapping.cache.EntityCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The fields to read when mapping the documents of a projection.  Mapping a projected document only visits the fields the projection
+ * returns, instead of every persistence field of the class and its aliases, so a narrow projection of a wide entity costs less to map.
+ * A plan can also map the documents to a type other than the entity: a class whose fields are mapped like an embedded class, or an
+ * interface whose getters return the projected values.
+ * <p>
+ * Plans are created and cached by the {@link Mapper}, and keep the fields to read of each MappedClass they are used with.  This is an
+ * internal class and is subject to change or removal.
+ *
+ * @see Mapper#getDecodePlan(DBObject)
+ * @see Mapper#getDecodePlan(Class, Class)
+ * @since 1.5
+ */
+public final class DecodePlan {
+    private final Set<String> included;
+    private final Set<String> excluded;
+    private final boolean inclusive;
+    private final Class<?> type;
+    private final DBObject projection;
+    private final InterfaceProjection interfaceProjection;
+    private final Map<Class<?>, Fields> fields = new ConcurrentHashMap<Class<?>, Fields>();
+
+    private DecodePlan(final Set<String> included, final Set<String> excluded, final boolean inclusive, final Class<?> type,
+                       final DBObject projection, final InterfaceProjection interfaceProjection) {
+        this.included = included;
+        this.excluded = excluded;
+        this.inclusive = inclusive;
+        this.type = type;
+        this.projection = projection;
+        this.interfaceProjection = interfaceProjection;
+    }
+
+    /**
+     * Creates the plan of a projection of the entities.
+     *
+     * @param projection the projection sent to the server
+     * @return the plan, or null if the projection returns every field
+     */
+    static DecodePlan forProjection(final DBObject projection) {
+        if (projection == null) {
+            return null;
+        }
+        final Set<String> included = new HashSet<String>();
+        final Set<String> excluded = new HashSet<String>();
+        boolean inclusive = false;
+        for (final String key : projection.keySet()) {
+            final Object value = projection.get(key);
+            final String name = topLevelName(key);
+            if (isExclusion(value)) {
+                excluded.add(name);
+            } else {
+                // $slice and $elemMatch return the field without limiting the other fields
+                included.add(name);
+                inclusive |= !(value instanceof DBObject);
+            }
+        }
+        if (!inclusive && excluded.isEmpty()) {
+            return null;
+        }
+        return new DecodePlan(included, excluded, inclusive, null, projection, null);
+    }
+
+    /**
+     * Creates the plan mapping the documents of an entity to another type.
+     *
+     * @param mapper the Mapper to use
+     * @param entity the MappedClass of the entity queried
+     * @param type   the class or interface to map the documents to
+     * @return the plan
+     */
+    static DecodePlan forType(final Mapper mapper, final MappedClass entity, final Class<?> type) {
+        final Set<String> names = new HashSet<String>();
+        InterfaceProjection interfaceProjection = null;
+        if (type.isInterface()) {
+            interfaceProjection = new InterfaceProjection(entity, type);
+            names.addAll(interfaceProjection.getStoredNames());
+        } else {
+            for (final MappedField mf : mapper.getMappedClass(type).getPersistenceFields()) {
+                names.add(mf.getNameToStore());
+            }
+        }
+        final DBObject projection = new BasicDBObject();
+        for (final String name : names) {
+            projection.put(name, 1);
+        }
+        return new DecodePlan(names, Collections.<String>emptySet(), true, type, projection, interfaceProjection);
+    }
+
+    /**
+     * @return the projection sent to the server
+     */
+    public DBObject getProjection() {
+        return projection;
+    }
+
+    /**
+     * @return the type the documents are mapped to, or null if they are mapped to the entities queried
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the persistence fields to read for a class.  Fields read by a custom mapper are always read, since such a mapper may not need
+     * the field in the document.
+     *
+     * @param mapper the Mapper to use
+     * @param mc     the MappedClass of the instance being mapped
+     * @return the fields to read
+     */
+    public List<MappedField> getFields(final Mapper mapper, final MappedClass mc) {
+        Fields cached = fields.get(mc.getClazz());
+        if (cached == null || cached.source != mc || cached.size != mc.getPersistenceFields().size()) {
+            cached = new Fields(mc, select(mapper, mc));
+            fields.put(mc.getClazz(), cached);
+        }
+        return cached.fields;
+    }
+
+    <P> P createProxy(final Mapper mapper, final Datastore datastore, final DBObject document, final EntityCache cache) {
+        return interfaceProjection.<P>createProxy(mapper, datastore, document, cache);
+    }
+
+    boolean isInterface() {
+        return interfaceProjection != null;
+    }
+
+    private List<MappedField> select(final Mapper mapper, final MappedClass mc) {
+        final List<MappedField> selected = new ArrayList<MappedField>();
+        for (final MappedField mf : mc.getPersistenceFields()) {
+            if (isProjected(mf) || !isBuiltIn(mapper.getCustomMapper(mf))) {
+                selected.add(mf);
+            }
+        }
+        return Collections.unmodifiableList(selected);
+    }
+
+    private boolean isProjected(final MappedField mf) {
+        for (final String name : mf.getLoadNames()) {
+            if (excluded.contains(name)) {
+                return false;
+            }
+        }
+        if (!inclusive || Mapper.ID_KEY.equals(mf.getNameToStore())) {
+            return true;
+        }
+        for (final String name : mf.getLoadNames()) {
+            if (included.contains(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBuiltIn(final CustomMapper customMapper) {
+        final Class<?> mapperClass = customMapper.getClass();
+        return mapperClass == ValueMapper.class || mapperClass == EmbeddedMapper.class || mapperClass == ReferenceMapper.class;
+    }
+
+    /**
+     * Builds the key caching the plan of a projection from its sorted field names and whether each is excluded, included or returned by
+     * an operator such as $slice, which are all the plan depends on.  Projections listing the same fields in another order share a key.
+     *
+     * @param projection the projection
+     * @return the key
+     */
+    static String projectionKey(final DBObject projection) {
+        final String[] keys = projection.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        final StringBuilder key = new StringBuilder();
+        for (final String name : keys) {
+            final Object value = projection.get(name);
+            key.append(isExclusion(value) ? '-' : value instanceof DBObject ? '*' : '+')
+               .append(name)
+               .append('\0');
+        }
+        return key.toString();
+    }
+
+    private static boolean isExclusion(final Object value) {
+        return value instanceof Number && ((Number) value).intValue() == 0 || Boolean.FALSE.equals(value);
+    }
+
+    private static String topLevelName(final String key) {
+        final int dot = key.indexOf('.');
+        return dot < 0 ? key : key.substring(0, dot);
+    }
+
+    private static final class Fields {
+        private final MappedClass source;
+        private final int size;
+        private final List<MappedField> fields;
+
+        private Fields(final MappedClass source, final List<MappedField> fields) {
+            this.source = source;
+            size = source.getPersistenceFields().size();
+            this.fields = fields;
+        }
+    }
+}
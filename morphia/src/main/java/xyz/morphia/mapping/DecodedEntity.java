@@ -0,0 +1,39 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.LazyDBObject;
+import org.bson.LazyBSONCallback;
+
+/**
+ * A document which has already been decoded into an entity.  The document itself stays readable lazily for lifecycle methods and
+ * anything else needing the raw values.
+ */
+@SuppressWarnings("unchecked")
+final class DecodedEntity extends LazyDBObject {
+    private final Object id;
+    private Object entity;
+
+    DecodedEntity(final byte[] bytes, final LazyBSONCallback callback, final Object entity, final Object id) {
+        super(bytes, callback);
+        this.entity = entity;
+        this.id = id;
+    }
+
+    Object getId() {
+        return id;
+    }
+
+    /**
+     * Hands out the entity once so that mapping the same document again creates a new instance, as it would for any other document.
+     *
+     * @param type the type requested
+     * @return the entity or null if it has already been handed out or is not of the type requested
+     */
+    <T> T takeEntity(final Class<T> type) {
+        final Object taken = entity;
+        if (taken == null || type != null && !type.isInstance(taken)) {
+            return null;
+        }
+        entity = null;
+        return (T) taken;
+    }
+}
@@ -6,6 +6,9 @@ import xyz.morphia.ObjectFactory;
 import xyz.morphia.annotations.ConstructorArgs;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.instantiator.ConstructorInstantiatorFactory;
+import xyz.morphia.mapping.instantiator.Instantiator;
+import xyz.morphia.mapping.instantiator.InstantiatorFactory;
 
 import java.lang.reflect.Constructor;
 import java.util.ArrayList;
@@ -16,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 /**
@@ -27,12 +31,17 @@ public class DefaultCreator implements ObjectFactory {
 
     private Map<String, Class> classNameCache = new ConcurrentHashMap<String, Class>();
 
+    private final ConcurrentMap<Class, Instantiator> instantiators = new ConcurrentHashMap<Class, Instantiator>();
+
+    private final InstantiatorFactory instantiatorFactory;
+
     private MapperOptions options = null;
 
     /**
      * Creates a new DefaultCreator with no options
      */
     public DefaultCreator() {
+        this(null);
     }
 
     /**
@@ -41,17 +50,44 @@ public class DefaultCreator implements ObjectFactory {
      * @param options the options to apply
      */
     public DefaultCreator(final MapperOptions options) {
+        this(options, new ConstructorInstantiatorFactory());
+    }
+
+    /**
+     * Creates a new DefaultCreator with options and an instantiation strategy
+     *
+     * @param options             the options to apply
+     * @param instantiatorFactory the strategy used to create new instances
+     * @see xyz.morphia.mapping.instantiator.UnsafeInstantiatorFactory
+     * @since 1.5
+     */
+    public DefaultCreator(final MapperOptions options, final InstantiatorFactory instantiatorFactory) {
+        if (instantiatorFactory == null) {
+            throw new IllegalArgumentException("The instantiator factory can not be null.");
+        }
         this.options = options;
+        this.instantiatorFactory = instantiatorFactory;
     }
 
-    private static <T> Constructor<T> getNoArgsConstructor(final Class<T> type) {
-        try {
-            final Constructor<T> constructor = type.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return constructor;
-        } catch (NoSuchMethodException e) {
-            throw new MappingException("No usable constructor for " + type.getName(), e);
+    /**
+     * @return the strategy used to create new instances
+     * @since 1.5
+     */
+    public InstantiatorFactory getInstantiatorFactory() {
+        return instantiatorFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Instantiator<T> getInstantiator(final Class<T> type) {
+        Instantiator<T> instantiator = instantiators.get(type);
+        if (instantiator == null) {
+            instantiator = instantiatorFactory.create(type);
+            final Instantiator<T> existing = instantiators.putIfAbsent(type, instantiator);
+            if (existing != null) {
+                instantiator = existing;
+            }
         }
+        return instantiator;
     }
 
     /**
@@ -69,7 +105,7 @@ public class DefaultCreator implements ObjectFactory {
     @SuppressWarnings("unchecked")
     public <T> T createInstance(final Class<T> clazz) {
         try {
-            return getNoArgsConstructor(clazz).newInstance();
+            return getInstantiator(clazz).newInstance();
         } catch (Exception e) {
             if (Collection.class.isAssignableFrom(clazz)) {
                 return (T) createList(null);
@@ -187,11 +223,11 @@ public class DefaultCreator implements ObjectFactory {
     }
 
     /**
-     * creates an instance of testType (if it isn't Object.class or null) or fallbackType
+     * creates an instance of testType (if it isn't Object.class or null) or fallbackType.  MappedField makes its constructor accessible
+     * when it is discovered.
      */
     private <T> T newInstance(final Constructor<T> tryMe, final Class<T> fallbackType) {
         if (tryMe != null) {
-            tryMe.setAccessible(true);
             try {
                 return tryMe.newInstance();
             } catch (Exception e) {
@@ -4,7 +4,13 @@ import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import xyz.morphia.Datastore;
+import xyz.morphia.annotations.Embedded;
 import xyz.morphia.mapping.cache.EntityCache;
+import xyz.morphia.mapping.lazy.LazyEmbedded;
+import xyz.morphia.mapping.lazy.LazyEmbedded.Loader;
+import xyz.morphia.mapping.lazy.LazyEmbeddedList;
+import xyz.morphia.mapping.lazy.LazyEmbeddedMap;
+import xyz.morphia.mapping.lazy.LazyEmbeddedSet;
 import xyz.morphia.utils.IterHelper;
 import xyz.morphia.utils.IterHelper.MapIterCallback;
 import xyz.morphia.utils.ReflectionUtils;
@@ -16,8 +22,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 class EmbeddedMapper implements CustomMapper {
+    private static final List<Class<?>> LAZY_TYPES = Arrays.<Class<?>>asList(List.class, Collection.class, Set.class, Map.class);
+
     static boolean shouldSaveClassName(final Object rawVal, final Object convertedVal, final MappedField mf) {
         if (rawVal == null || mf == null) {
             return true;
@@ -84,6 +93,12 @@ class EmbeddedMapper implements CustomMapper {
 
         final Object fieldValue = mf.getFieldValue(entity);
 
+        if (fieldValue instanceof LazyEmbedded && !((LazyEmbedded) fieldValue).isLoaded()) {
+            // never accessed, so write back what was read
+            dbObject.put(name, ((LazyEmbedded) fieldValue).getDocument());
+            return;
+        }
+
         if (mf.isMap()) {
             writeMap(mf, dbObject, involvedObjects, name, fieldValue, mapper);
         } else if (mf.isMultipleValues()) {
@@ -108,45 +123,23 @@ class EmbeddedMapper implements CustomMapper {
         }
     }
 
+    private static boolean isLazy(final MappedField mf) {
+        final Embedded embedded = mf.getAnnotation(Embedded.class);
+        return embedded != null && embedded.lazy() && LAZY_TYPES.contains(mf.getType());
+    }
+
     @SuppressWarnings("unchecked")
     private void readCollection(final Datastore datastore, final Mapper mapper, final Object entity, final EntityCache cache,
                                 final MappedField mf, final DBObject dbObject) {
-        Collection values;
-
         final Object dbVal = mf.getDbObjectValue(dbObject);
         if (dbVal != null) {
-            // multiple documents in a List
-            values = mf.isSet() ? mapper.getOptions().getObjectFactory().createSet(mf)
-                                : mapper.getOptions().getObjectFactory().createList(mf);
-
-            final List dbValues;
-            if (dbVal instanceof List) {
-                dbValues = (List) dbVal;
-            } else {
-                dbValues = new BasicDBList();
-                dbValues.add(dbVal);
-            }
-
-            EphemeralMappedField ephemeralMappedField = !mapper.isMapped(mf.getType()) && isMapOrCollection(mf)
-                                                            && (mf.getSubType() instanceof ParameterizedType)
-                                                        ? new EphemeralMappedField((ParameterizedType) mf.getSubType(), mf, mapper)
-                                                        : null;
-            for (final Object o : dbValues) {
-
-                Object newEntity = null;
-
-                if (o != null) {
-                    //run converters
-                    if (mapper.getConverters().hasSimpleValueConverter(mf) || mapper.getConverters()
-                                                                                    .hasSimpleValueConverter(mf.getSubClass())) {
-                        newEntity = mapper.getConverters().decode(mf.getSubClass(), o, mf);
-                    } else {
-                        newEntity = readMapOrCollectionOrEntity(datastore, mapper, cache, mf, ephemeralMappedField, (DBObject) o);
-                    }
+            if (isLazy(mf)) {
+                if (!(dbVal instanceof List && ((List) dbVal).isEmpty()) || mapper.getOptions().isStoreEmpties()) {
+                    mf.setFieldValue(entity, lazyCollection(datastore, mapper, cache, mf, dbVal));
                 }
-
-                values.add(newEntity);
+                return;
             }
+            final Collection values = readValues(datastore, mapper, cache, mf, dbVal);
             if (!values.isEmpty() || mapper.getOptions().isStoreEmpties()) {
                 if (mf.getType().isArray()) {
                     mf.setFieldValue(entity, ReflectionUtils.convertToArray(mf.getSubClass(), ReflectionUtils.iterToList(values)));
@@ -157,46 +150,120 @@ class EmbeddedMapper implements CustomMapper {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private Collection lazyCollection(final Datastore datastore, final Mapper mapper, final EntityCache cache, final MappedField mf,
+                                      final Object dbVal) {
+        if (mf.isSet()) {
+            return new LazyEmbeddedSet(dbVal, new Loader<Set>() {
+                @Override
+                public Set load(final Object document) {
+                    return (Set) readValues(datastore, mapper, cache, mf, document);
+                }
+            });
+        }
+        return new LazyEmbeddedList(dbVal, new Loader<List>() {
+            @Override
+            public List load(final Object document) {
+                return (List) readValues(datastore, mapper, cache, mf, document);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection readValues(final Datastore datastore, final Mapper mapper, final EntityCache cache, final MappedField mf,
+                                  final Object dbVal) {
+        // multiple documents in a List
+        final Collection values = mf.isSet() ? mapper.getOptions().getObjectFactory().createSet(mf)
+                                             : mapper.getOptions().getObjectFactory().createList(mf);
+
+        final List dbValues;
+        if (dbVal instanceof List) {
+            dbValues = (List) dbVal;
+        } else {
+            dbValues = new BasicDBList();
+            dbValues.add(dbVal);
+        }
+
+        EphemeralMappedField ephemeralMappedField = !mapper.isMapped(mf.getType()) && isMapOrCollection(mf)
+                                                        && (mf.getSubType() instanceof ParameterizedType)
+                                                    ? new EphemeralMappedField((ParameterizedType) mf.getSubType(), mf, mapper)
+                                                    : null;
+        for (final Object o : dbValues) {
+
+            Object newEntity = null;
+
+            if (o != null) {
+                //run converters
+                if (mapper.getConverters().hasSimpleValueConverter(mf) || mapper.getConverters()
+                                                                                .hasSimpleValueConverter(mf.getSubClass())) {
+                    newEntity = mapper.getConverters().decode(mf.getSubClass(), o, mf);
+                } else {
+                    newEntity = readMapOrCollectionOrEntity(datastore, mapper, cache, mf, ephemeralMappedField, (DBObject) o);
+                }
+            }
+
+            values.add(newEntity);
+        }
+        return values;
+    }
+
     @SuppressWarnings("unchecked")
     private void readMap(final Datastore datastore, final Mapper mapper, final Object entity, final EntityCache cache,
                          final MappedField mf, final DBObject dbObject) {
         final DBObject dbObj = (DBObject) mf.getDbObjectValue(dbObject);
 
         if (dbObj != null) {
-            final Map map = mapper.getOptions().getObjectFactory().createMap(mf);
+            if (isLazy(mf)) {
+                if (!dbObj.keySet().isEmpty() || mapper.getOptions().isStoreEmpties()) {
+                    mf.setFieldValue(entity, new LazyEmbeddedMap(dbObj, new Loader<Map>() {
+                        @Override
+                        public Map load(final Object document) {
+                            return readMapValues(datastore, mapper, cache, mf, (DBObject) document);
+                        }
+                    }));
+                }
+                return;
+            }
+            final Map map = readMapValues(datastore, mapper, cache, mf, dbObj);
+            if (!map.isEmpty() || mapper.getOptions().isStoreEmpties()) {
+                mf.setFieldValue(entity, map);
+            }
+        }
+    }
 
-            final EphemeralMappedField ephemeralMappedField = isMapOrCollection(mf)
-                                                              ? new EphemeralMappedField((ParameterizedType) mf.getSubType(), mf, mapper)
-                                                              : null;
-            new IterHelper<Object, Object>().loopMap(dbObj, new MapIterCallback<Object, Object>() {
-                @Override
-                public void eval(final Object k, final Object val) {
-                    Object newEntity = null;
+    @SuppressWarnings("unchecked")
+    private Map readMapValues(final Datastore datastore, final Mapper mapper, final EntityCache cache, final MappedField mf,
+                              final DBObject dbObj) {
+        final Map map = mapper.getOptions().getObjectFactory().createMap(mf);
+
+        final EphemeralMappedField ephemeralMappedField = isMapOrCollection(mf)
+                                                          ? new EphemeralMappedField((ParameterizedType) mf.getSubType(), mf, mapper)
+                                                          : null;
+        new IterHelper<Object, Object>().loopMap(dbObj, new MapIterCallback<Object, Object>() {
+            @Override
+            public void eval(final Object k, final Object val) {
+                Object newEntity = null;
 
-                    //run converters
-                    if (val != null) {
-                        if (mapper.getConverters().hasSimpleValueConverter(mf)
-                            || mapper.getConverters().hasSimpleValueConverter(mf.getSubClass())) {
-                            newEntity = mapper.getConverters().decode(mf.getSubClass(), val, mf);
+                //run converters
+                if (val != null) {
+                    if (mapper.getConverters().hasSimpleValueConverter(mf)
+                        || mapper.getConverters().hasSimpleValueConverter(mf.getSubClass())) {
+                        newEntity = mapper.getConverters().decode(mf.getSubClass(), val, mf);
+                    } else {
+                        if (val instanceof DBObject) {
+                            newEntity = readMapOrCollectionOrEntity(datastore, mapper, cache, mf, ephemeralMappedField, (DBObject) val);
                         } else {
-                            if (val instanceof DBObject) {
-                                newEntity = readMapOrCollectionOrEntity(datastore, mapper, cache, mf, ephemeralMappedField, (DBObject) val);
-                            } else {
-                                newEntity = val;
-                            }
-
+                            newEntity = val;
                         }
-                    }
 
-                    final Object objKey = mapper.getConverters().decode(mf.getMapKeyClass(), k, mf);
-                    map.put(objKey, newEntity);
+                    }
                 }
-            });
 
-            if (!map.isEmpty() || mapper.getOptions().isStoreEmpties()) {
-                mf.setFieldValue(entity, map);
+                final Object objKey = mapper.getConverters().decode(mf.getMapKeyClass(), k, mf);
+                map.put(objKey, newEntity);
             }
-        }
+        });
+        return map;
     }
 
     private Object readMapOrCollectionOrEntity(final Datastore datastore, final Mapper mapper, final EntityCache cache,
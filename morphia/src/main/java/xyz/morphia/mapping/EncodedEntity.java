@@ -0,0 +1,28 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.LazyDBObject;
+import org.bson.LazyBSONCallback;
+
+/**
+ * A document written by an {@link EntityEncoder}.  It holds the encoded BSON of an entity and is read only, as the writes only need the
+ * {@code _id} from it.  It has to be written with an encoder from {@link EntityEncoder#FACTORY} to skip decoding the fields again.
+ * <p>
+ * This is an internal class and is subject to change or removal.
+ *
+ * @since 1.5
+ */
+public final class EncodedEntity extends LazyDBObject {
+    private final boolean generatedId;
+
+    EncodedEntity(final byte[] bytes, final boolean generatedId) {
+        super(bytes, new LazyBSONCallback());
+        this.generatedId = generatedId;
+    }
+
+    /**
+     * @return true if the {@code _id} was generated while encoding, making this a new document which can be inserted
+     */
+    public boolean isGeneratedId() {
+        return generatedId;
+    }
+}
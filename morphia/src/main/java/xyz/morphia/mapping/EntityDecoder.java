@@ -0,0 +1,117 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.DefaultDBDecoder;
+import com.mongodb.LazyDBCallback;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonType;
+import xyz.morphia.logging.Logger;
+import xyz.morphia.logging.MorphiaLoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Reads a document straight into a new entity.  Falls back to the default decoding whenever the document holds something only the
+ * DBObject based mapping handles.
+ */
+final class EntityDecoder extends DefaultDBDecoder {
+    private static final Logger LOG = MorphiaLoggerFactory.get(EntityDecoder.class);
+    private static final Object UNSUPPORTED = new Object();
+
+    private final Mapper mapper;
+    private final Class<?> type;
+    private final Map<String, MappedField> fields;
+
+    EntityDecoder(final Mapper mapper, final Class<?> type, final Map<String, MappedField> fields) {
+        this.mapper = mapper;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    @Override
+    public DBObject decode(final byte[] bytes, final DBCollection collection) {
+        if (mapper.getInterceptors().isEmpty()) {
+            final DecodedEntity decoded = decodeEntity(bytes, collection);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+        return super.decode(bytes, collection);
+    }
+
+    private DecodedEntity decodeEntity(final byte[] bytes, final DBCollection collection) {
+        final BsonBinaryReader reader = new BsonBinaryReader(ByteBuffer.wrap(bytes));
+        try {
+            final Object entity = mapper.getOptions().getObjectFactory().createInstance(type);
+            Object id = null;
+            reader.readStartDocument();
+            while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+                final String name = reader.readName();
+                final MappedField mf = fields.get(name);
+                if (mf == null && !Mapper.ID_KEY.equals(name) && !Mapper.CLASS_NAME_FIELDNAME.equals(name)) {
+                    reader.skipValue();
+                    continue;
+                }
+
+                final Object value = readValue(reader);
+                if (value == UNSUPPORTED) {
+                    return null;
+                }
+                if (Mapper.CLASS_NAME_FIELDNAME.equals(name) && mf == null) {
+                    if (!type.getName().equals(value)) {
+                        return null;
+                    }
+                    continue;
+                }
+                if (Mapper.ID_KEY.equals(name)) {
+                    id = value;
+                }
+                if (mf != null && value != null) {
+                    mapper.getConverters().fromDBValue(value, mf, entity);
+                }
+            }
+            reader.readEndDocument();
+            return new DecodedEntity(bytes, new LazyDBCallback(collection), entity, id);
+        } catch (RuntimeException e) {
+            // the regular mapping reports the problem with the full context of the document
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(format("Falling back to DBObject decoding for %s", type.getName()), e);
+            }
+            return null;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Reads the scalar values the same way the default decoder does.
+     */
+    private Object readValue(final BsonBinaryReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case STRING:
+                return reader.readString();
+            case INT32:
+                return reader.readInt32();
+            case INT64:
+                return reader.readInt64();
+            case DOUBLE:
+                return reader.readDouble();
+            case BOOLEAN:
+                return reader.readBoolean();
+            case DATE_TIME:
+                return new Date(reader.readDateTime());
+            case OBJECT_ID:
+                return reader.readObjectId();
+            case NULL:
+                reader.readNull();
+                return null;
+            default:
+                return UNSUPPORTED;
+        }
+    }
+}
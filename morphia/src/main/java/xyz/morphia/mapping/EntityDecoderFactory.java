@@ -0,0 +1,81 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBDecoder;
+import com.mongodb.DBDecoderFactory;
+import xyz.morphia.annotations.PreLoad;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates decoders which read documents straight into new entities of one class, without building a DBObject first.  Only classes whose
+ * fields are all simple values handled by the value mapper and converters qualify.  Documents which hold anything else, such as embedded
+ * documents, arrays or the class name of a subtype, are decoded to DBObjects as usual.
+ *
+ * @see MapperOptions#setDirectDecoding(boolean)
+ * @since 1.5
+ */
+public final class EntityDecoderFactory implements DBDecoderFactory {
+    private final Mapper mapper;
+    private final Class<?> type;
+    private final Map<String, MappedField> fields;
+
+    private EntityDecoderFactory(final Mapper mapper, final Class<?> type, final Map<String, MappedField> fields) {
+        this.mapper = mapper;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    /**
+     * Creates a factory for the given type if its documents can be decoded directly.
+     *
+     * @param mapper the Mapper to use
+     * @param type   the type of the entities to decode
+     * @return the factory or null if the type does not qualify for direct decoding
+     */
+    @SuppressWarnings("unchecked")
+    public static EntityDecoderFactory forClass(final Mapper mapper, final Class<?> type) {
+        if (type == null || type.isInterface() || Modifier.isAbstract(type.getModifiers())
+            || Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type)
+            || !(mapper.getOptions().getObjectFactory() instanceof DefaultCreator)) {
+            return null;
+        }
+
+        final MappedClass mc = mapper.getMappedClass(type);
+        final List<?> preLoad = mc.getLifecycleMethods((Class<Annotation>) (Class) PreLoad.class);
+        if (preLoad != null && !preLoad.isEmpty()) {
+            return null;
+        }
+
+        final Map<String, MappedField> fields = new HashMap<String, MappedField>();
+        for (final MappedField mf : mc.getPersistenceFields()) {
+            if (mapper.getCustomMapper(mf) != mapper.getOptions().getValueMapper() || mf.getLoadNames().size() != 1) {
+                return null;
+            }
+            fields.put(mf.getNameToStore(), mf);
+        }
+        return new EntityDecoderFactory(mapper, type, Collections.unmodifiableMap(fields));
+    }
+
+    @Override
+    public DBDecoder create() {
+        return new EntityDecoder(mapper, type, fields);
+    }
+
+    /**
+     * @return the type of the entities decoded
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityDecoderFactory{type=" + type.getName() + "}";
+    }
+}
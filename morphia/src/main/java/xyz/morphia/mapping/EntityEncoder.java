@@ -0,0 +1,168 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBEncoder;
+import com.mongodb.DBEncoderFactory;
+import com.mongodb.DefaultDBEncoder;
+import org.bson.BSONObject;
+import org.bson.BsonBinaryWriter;
+import org.bson.BsonWriter;
+import org.bson.io.BasicOutputBuffer;
+import org.bson.io.OutputBuffer;
+import org.bson.types.ObjectId;
+import xyz.morphia.annotations.NotSaved;
+import xyz.morphia.annotations.PostPersist;
+import xyz.morphia.annotations.PrePersist;
+import xyz.morphia.annotations.PreSave;
+import xyz.morphia.converters.Converters;
+
+import java.io.IOException;
+import java.util.Date;
+
+/**
+ * Writes entities straight to BSON from their mapping metadata, without building a DBObject first.  Only unversioned classes whose
+ * fields are all handled by the value mapper qualify.  Entities holding anything but simple values, such as embedded documents or
+ * collections, are left to the regular mapping.
+ * <p>
+ * The encoders created by {@link #FACTORY} write the {@link EncodedEntity} documents as they are and any other document as the
+ * {@link DefaultDBEncoder} does.
+ *
+ * @see MapperOptions#setDirectEncoding(boolean)
+ * @since 1.5
+ */
+public final class EntityEncoder implements DBEncoder {
+    /**
+     * Creates the encoders to use when writing {@link EncodedEntity} documents
+     */
+    public static final DBEncoderFactory FACTORY = new DBEncoderFactory() {
+        @Override
+        public DBEncoder create() {
+            return new EntityEncoder();
+        }
+
+        @Override
+        public String toString() {
+            return "EntityEncoder.FACTORY";
+        }
+    };
+
+    private EntityEncoder() {
+    }
+
+    @Override
+    public int writeObject(final OutputBuffer buffer, final BSONObject document) {
+        if (document instanceof EncodedEntity) {
+            try {
+                return ((EncodedEntity) document).pipe(buffer);
+            } catch (IOException e) {
+                throw new MappingException("Could not write encoded entity", e);
+            }
+        }
+        return DefaultDBEncoder.FACTORY.create().writeObject(buffer, document);
+    }
+
+    /**
+     * Checks whether the entities of a class can be encoded directly.
+     *
+     * @param mapper the Mapper to use
+     * @param mc     the MappedClass of the entities
+     * @return true if the entities qualify
+     */
+    static boolean isEncodable(final Mapper mapper, final MappedClass mc) {
+        if (mc.getMappedIdField() == null || mc.getMappedVersionField() != null
+            || mc.isDocumentAware(PrePersist.class) || mc.isDocumentAware(PreSave.class) || mc.isDocumentAware(PostPersist.class)) {
+            return false;
+        }
+        for (final MappedField mf : mc.getPersistenceFields()) {
+            if (mapper.getCustomMapper(mf) != mapper.getOptions().getValueMapper()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Encodes an entity.  The lifecycle methods are left to the caller.
+     *
+     * @param mapper the Mapper to use
+     * @param mc     the MappedClass of the entity
+     * @param entity the entity to encode
+     * @return the document or null if the entity holds values which are not encoded directly
+     */
+    static EncodedEntity encode(final Mapper mapper, final MappedClass mc, final Object entity) {
+        final Converters converters = mapper.getConverters();
+        final MappedField idField = mc.getMappedIdField();
+        Object id = toDBValue(converters, entity, idField);
+        final boolean generatedId = id == null;
+        if (generatedId) {
+            if (!ObjectId.class.equals(idField.getType())) {
+                return null;
+            }
+            id = new ObjectId();
+        }
+
+        final BasicOutputBuffer buffer = new BasicOutputBuffer();
+        final BsonBinaryWriter writer = new BsonBinaryWriter(buffer);
+        try {
+            writer.writeStartDocument();
+            writer.writeName(Mapper.ID_KEY);
+            if (!writeValue(writer, id)) {
+                return null;
+            }
+            if (mc.getEntityAnnotation() == null || !mc.getEntityAnnotation().noClassnameStored()) {
+                writer.writeString(Mapper.CLASS_NAME_FIELDNAME, entity.getClass().getName());
+            }
+
+            final boolean storeNulls = mapper.getOptions().isStoreNulls();
+            for (final MappedField mf : mc.getPersistenceFields()) {
+                if (mf == idField || mf.hasAnnotation(NotSaved.class)) {
+                    continue;
+                }
+                final Object value = toDBValue(converters, entity, mf);
+                if (value != null || storeNulls) {
+                    writer.writeName(mf.getNameToStore());
+                    if (!writeValue(writer, value)) {
+                        return null;
+                    }
+                }
+            }
+            writer.writeEndDocument();
+            return new EncodedEntity(buffer.toByteArray(), generatedId);
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static Object toDBValue(final Converters converters, final Object entity, final MappedField mf) {
+        try {
+            return converters.toDBValue(entity, mf);
+        } catch (Exception e) {
+            throw new MappingException("Error mapping field:" + mf.getFullName(), e);
+        }
+    }
+
+    /**
+     * Writes the scalar values the same way the default encoder does.
+     */
+    private static boolean writeValue(final BsonWriter writer, final Object value) {
+        if (value == null) {
+            writer.writeNull();
+        } else if (value instanceof String) {
+            writer.writeString((String) value);
+        } else if (value instanceof Integer) {
+            writer.writeInt32((Integer) value);
+        } else if (value instanceof Long) {
+            writer.writeInt64((Long) value);
+        } else if (value instanceof Double) {
+            writer.writeDouble((Double) value);
+        } else if (value instanceof Boolean) {
+            writer.writeBoolean((Boolean) value);
+        } else if (value instanceof Date) {
+            writer.writeDateTime(((Date) value).getTime());
+        } else if (value instanceof ObjectId) {
+            writer.writeObjectId((ObjectId) value);
+        } else {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBObject;
+import xyz.morphia.Datastore;
+import xyz.morphia.mapping.cache.EntityCache;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Maps projected documents to proxies of an interface.  Each getter of the interface, such as {@code getName()}, {@code isActive()} or
+ * {@code name()}, returns the value of the entity field of that java name, read from the document by its stored name.  The values are
+ * mapped when the proxy is created.
+ */
+final class InterfaceProjection {
+    private static final Map<Class<?>, Object> PRIMITIVE_DEFAULTS = new HashMap<Class<?>, Object>();
+
+    static {
+        PRIMITIVE_DEFAULTS.put(boolean.class, false);
+        PRIMITIVE_DEFAULTS.put(byte.class, (byte) 0);
+        PRIMITIVE_DEFAULTS.put(char.class, (char) 0);
+        PRIMITIVE_DEFAULTS.put(short.class, (short) 0);
+        PRIMITIVE_DEFAULTS.put(int.class, 0);
+        PRIMITIVE_DEFAULTS.put(long.class, 0L);
+        PRIMITIVE_DEFAULTS.put(float.class, 0F);
+        PRIMITIVE_DEFAULTS.put(double.class, 0D);
+    }
+
+    private final Class<?> type;
+    private final Map<Method, String> storedNames = new LinkedHashMap<Method, String>();
+
+    InterfaceProjection(final MappedClass entity, final Class<?> type) {
+        this.type = type;
+        for (final Method method : type.getMethods()) {
+            if (method.getParameterTypes().length != 0 || method.getReturnType() == void.class) {
+                throw new MappingException(format("%s can not be used as a projection: %s is not a getter", type.getName(), method));
+            }
+            final String property = propertyName(method);
+            final MappedField mf = entity.getMappedFieldByJavaField(property);
+            storedNames.put(method, mf != null ? mf.getNameToStore() : property);
+        }
+    }
+
+    Collection<String> getStoredNames() {
+        return storedNames.values();
+    }
+
+    @SuppressWarnings("unchecked")
+    <P> P createProxy(final Mapper mapper, final Datastore datastore, final DBObject document, final EntityCache cache) {
+        final Map<Method, Object> values = new HashMap<Method, Object>();
+        for (final Map.Entry<Method, String> entry : storedNames.entrySet()) {
+            values.put(entry.getKey(), decode(mapper, datastore, entry.getKey().getReturnType(), document.get(entry.getValue()), cache));
+        }
+        return (P) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Values(type, values));
+    }
+
+    private static Object decode(final Mapper mapper, final Datastore datastore, final Class<?> returnType, final Object value,
+                                 final EntityCache cache) {
+        if (value == null) {
+            return PRIMITIVE_DEFAULTS.get(returnType);
+        }
+        if (!returnType.isPrimitive() && returnType.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof DBObject && !mapper.getConverters().hasSimpleValueConverter(returnType)) {
+            return mapper.fromDBObject(datastore, returnType, (DBObject) value, cache);
+        }
+        return mapper.getConverters().decode(returnType, value, null);
+    }
+
+    private static String propertyName(final Method method) {
+        final String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        } else if (name.startsWith("is") && name.length() > 2
+                   && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return name;
+    }
+
+    private static String decapitalize(final String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static final class Values implements InvocationHandler {
+        private final Class<?> type;
+        private final Map<Method, Object> values;
+
+        private Values(final Class<?> type, final Map<Method, Object> values) {
+            this.type = type;
+            this.values = values;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(method.getName())) {
+                    return proxy == args[0];
+                } else if ("hashCode".equals(method.getName())) {
+                    return System.identityHashCode(proxy);
+                }
+                return type.getSimpleName() + values.values();
+            }
+            return values.get(method);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBObject;
+import xyz.morphia.EntityInterceptor;
+import xyz.morphia.annotations.PostLoad;
+import xyz.morphia.annotations.PostPersist;
+import xyz.morphia.annotations.PreLoad;
+import xyz.morphia.annotations.PrePersist;
+import xyz.morphia.annotations.PreSave;
+import xyz.morphia.logging.Logger;
+import xyz.morphia.logging.MorphiaLoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * The calls made for one lifecycle event of a class: its lifecycle methods and those of its entity listeners, followed by the global
+ * interceptors.  The methods are made accessible and their arguments worked out when the class is mapped, and the listener instances are
+ * looked up once per Mapper, so raising an event only invokes the methods.  An event with no methods and no interceptors does nothing.
+ */
+final class LifecyclePlan {
+    private static final Logger LOG = MorphiaLoggerFactory.get(LifecyclePlan.class);
+
+    private final Class<? extends Annotation> event;
+    private final Invoker[] invokers;
+    private final List<Class<?>> listenerClasses = new ArrayList<Class<?>>();
+    private volatile Listeners listeners;
+
+    LifecyclePlan(final Class<? extends Annotation> event, final List<MappedClass.ClassMethodPair> methodPairs) {
+        this.event = event;
+        invokers = new Invoker[methodPairs == null ? 0 : methodPairs.size()];
+        for (int i = 0; i < invokers.length; i++) {
+            final MappedClass.ClassMethodPair cm = methodPairs.get(i);
+            int listener = -1;
+            if (cm.getClazz() != null) {
+                listener = listenerClasses.indexOf(cm.getClazz());
+                if (listener < 0) {
+                    listener = listenerClasses.size();
+                    listenerClasses.add(cm.getClazz());
+                }
+            }
+            invokers[i] = new Invoker(cm.getMethod(), listener);
+        }
+    }
+
+    /**
+     * @return true if the event calls no lifecycle methods
+     */
+    boolean isEmpty() {
+        return invokers.length == 0;
+    }
+
+    DBObject call(final MappedClass mc, final Object entity, final DBObject dbObj, final Mapper mapper) {
+        final boolean noInterceptors = mapper.getInterceptors().isEmpty();
+        if (invokers.length == 0 && noInterceptors) {
+            return dbObj;
+        }
+        DBObject retDbObj = dbObj;
+        try {
+            if (invokers.length != 0) {
+                final Object[] instances = getListeners(mc, mapper);
+                for (final Invoker invoker : invokers) {
+                    final Object inst = invoker.listener < 0 ? null : instances[invoker.listener];
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug(format("Calling lifecycle method(@%s %s) on %s", event.getSimpleName(), invoker.method, inst));
+                    }
+                    final Object tempObj = invoker.invoke(inst, entity, retDbObj);
+                    if (tempObj != null) {
+                        retDbObj = (DBObject) tempObj;
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException(e);
+        }
+        if (!noInterceptors) {
+            callInterceptors(entity, dbObj, mapper);
+        }
+        return retDbObj;
+    }
+
+    private Object[] getListeners(final MappedClass mc, final Mapper mapper) {
+        final Listeners current = listeners;
+        if (current != null && current.mapper == mapper) {
+            return current.instances;
+        }
+        final Object[] instances = new Object[listenerClasses.size()];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = mc.getOrCreateInstance(listenerClasses.get(i), mapper);
+        }
+        listeners = new Listeners(mapper, instances);
+        return instances;
+    }
+
+    private void callInterceptors(final Object entity, final DBObject dbObj, final Mapper mapper) {
+        for (final EntityInterceptor ei : mapper.getInterceptors()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Calling interceptor method " + event.getSimpleName() + " on " + ei);
+            }
+
+            if (event == PreLoad.class) {
+                ei.preLoad(entity, dbObj, mapper);
+            } else if (event == PostLoad.class) {
+                ei.postLoad(entity, dbObj, mapper);
+            } else if (event == PrePersist.class) {
+                ei.prePersist(entity, dbObj, mapper);
+            } else if (event == PreSave.class) {
+                ei.preSave(entity, dbObj, mapper);
+            } else if (event == PostPersist.class) {
+                ei.postPersist(entity, dbObj, mapper);
+            }
+        }
+    }
+
+    private static final class Invoker {
+        private final Method method;
+        private final int listener;
+        private final int parameters;
+
+        private Invoker(final Method method, final int listener) {
+            this.method = method;
+            this.listener = listener;
+            parameters = method.getParameterTypes().length;
+            method.setAccessible(true);
+        }
+
+        private Object invoke(final Object inst, final Object entity, final DBObject dbObj)
+            throws IllegalAccessException, InvocationTargetException {
+            if (inst == null) {
+                return parameters == 0 ? method.invoke(entity) : method.invoke(entity, dbObj);
+            }
+            switch (parameters) {
+                case 0:
+                    return method.invoke(inst);
+                case 1:
+                    return method.invoke(inst, entity);
+                default:
+                    return method.invoke(inst, entity, dbObj);
+            }
+        }
+    }
+
+    /**
+     * The listener instances of a Mapper, in the order of listenerClasses
+     */
+    private static final class Listeners {
+        private final Mapper mapper;
+        private final Object[] instances;
+
+        private Listeners(final Mapper mapper, final Object[] instances) {
+            this.mapper = mapper;
+            this.instances = instances;
+        }
+    }
+}
@@ -17,6 +17,7 @@
 package xyz.morphia.mapping;
 
 
+import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
 import xyz.morphia.EntityInterceptor;
 import xyz.morphia.annotations.Converters;
@@ -40,14 +41,16 @@ import xyz.morphia.annotations.Validation;
 import xyz.morphia.annotations.Version;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.generated.GeneratedMapping;
+import xyz.morphia.mapping.generated.GeneratedMappings;
 import xyz.morphia.mapping.validation.MappingValidator;
 import xyz.morphia.utils.ReflectionUtils;
 
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -105,10 +108,19 @@ public class MappedClass {
      */
     private final Map<Class<? extends Annotation>, List<ClassMethodPair>> lifecycleMethods =
         new HashMap<Class<? extends Annotation>, List<ClassMethodPair>>();
+    /**
+     * The compiled calls of each life-cycle event
+     */
+    private final Map<Class<? extends Annotation>, LifecyclePlan> lifecyclePlans =
+        new HashMap<Class<? extends Annotation>, LifecyclePlan>();
     /**
      * a list of the fields to map
      */
-    private final List<MappedField> persistenceFields = new ArrayList<MappedField>();
+    private final FieldList persistenceFields = new FieldList();
+    /**
+     * the indexes of persistenceFields, rebuilt whenever the fields or their annotations change
+     */
+    private volatile FieldIndex fieldIndex;
     /**
      * the type we are mapping to/from
      */
@@ -142,6 +154,10 @@ public class MappedClass {
 
         basicValidate();
         discover(mapper);
+        fieldIndex = new FieldIndex(persistenceFields);
+        for (final Class<? extends Annotation> event : LIFECYCLE_ANNOTATIONS) {
+            lifecyclePlans.put(event, new LifecyclePlan(event, lifecycleMethods.get(event)));
+        }
 
         if (LOG.isDebugEnabled()) {
             LOG.debug("MappedClass done: " + toString());
@@ -234,7 +250,8 @@ public class MappedClass {
     }
 
     /**
-     * Call the lifecycle methods
+     * Call the lifecycle methods, then the {@link EntityInterceptor}s.  The calls of each event are compiled when the class is mapped,
+     * so an event without lifecycle methods or interceptors returns at once.
      *
      * @param event  the lifecycle annotation
      * @param entity the entity to process
@@ -242,61 +259,10 @@ public class MappedClass {
      * @param mapper  the Mapper to use
      * @return dbObj
      */
-    @SuppressWarnings({"WMI", "unchecked"})
     public DBObject callLifecycleMethods(final Class<? extends Annotation> event, final Object entity, final DBObject dbObj,
                                          final Mapper mapper) {
-        final List<ClassMethodPair> methodPairs = getLifecycleMethods((Class<Annotation>) event);
-        DBObject retDbObj = dbObj;
-        try {
-            Object tempObj;
-            if (methodPairs != null) {
-                final HashMap<Class<?>, Object> toCall = new HashMap<Class<?>, Object>((int) (methodPairs.size() * 1.3));
-                for (final ClassMethodPair cm : methodPairs) {
-                    toCall.put(cm.clazz, null);
-                }
-                for (final Class<?> c : toCall.keySet()) {
-                    if (c != null) {
-                        toCall.put(c, getOrCreateInstance(c, mapper));
-                    }
-                }
-
-                for (final ClassMethodPair cm : methodPairs) {
-                    final Method method = cm.method;
-                    final Object inst = toCall.get(cm.clazz);
-                    method.setAccessible(true);
-
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug(format("Calling lifecycle method(@%s %s) on %s", event.getSimpleName(), method, inst));
-                    }
-
-                    if (inst == null) {
-                        if (method.getParameterTypes().length == 0) {
-                            tempObj = method.invoke(entity);
-                        } else {
-                            tempObj = method.invoke(entity, retDbObj);
-                        }
-                    } else if (method.getParameterTypes().length == 0) {
-                        tempObj = method.invoke(inst);
-                    } else if (method.getParameterTypes().length == 1) {
-                        tempObj = method.invoke(inst, entity);
-                    } else {
-                        tempObj = method.invoke(inst, entity, retDbObj);
-                    }
-
-                    if (tempObj != null) {
-                        retDbObj = (DBObject) tempObj;
-                    }
-                }
-            }
-
-            callGlobalInterceptors(event, entity, dbObj, mapper);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        } catch (InvocationTargetException e) {
-            throw new RuntimeException(e);
-        }
-
-        return retDbObj;
+        final LifecyclePlan plan = lifecyclePlans.get(event);
+        return plan == null ? dbObj : plan.call(this, entity, dbObj, mapper);
     }
 
     /**
@@ -407,6 +373,26 @@ public class MappedClass {
         return lifecycleMethods.get(clazz);
     }
 
+    /**
+     * Checks whether any lifecycle method for an event is handed the document or may replace it.  Methods which only see the entity can
+     * be invoked without a DBObject being built.
+     *
+     * @param event the lifecycle annotation
+     * @return true if the document is visible to the lifecycle methods of the event
+     */
+    boolean isDocumentAware(final Class<? extends Annotation> event) {
+        final List<ClassMethodPair> methodPairs = lifecycleMethods.get(event);
+        if (methodPairs != null) {
+            for (final ClassMethodPair cm : methodPairs) {
+                final int parameters = cm.method.getParameterTypes().length;
+                if (parameters > (cm.clazz == null ? 0 : 1) || cm.method.getReturnType().isAssignableFrom(BasicDBObject.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns the MappedField by the name that it will stored in mongodb as
      *
@@ -414,15 +400,7 @@ public class MappedClass {
      * @return true if that mapped field name is found
      */
     public MappedField getMappedField(final String storedName) {
-        for (final MappedField mf : persistenceFields) {
-            for (final String n : mf.getLoadNames()) {
-                if (storedName.equals(n)) {
-                    return mf;
-                }
-            }
-        }
-
-        return null;
+        return getFieldIndex().byStoredName.get(storedName);
     }
 
     /**
@@ -432,29 +410,21 @@ public class MappedClass {
      * @return the MappedField for the named Java field
      */
     public MappedField getMappedFieldByJavaField(final String name) {
-        for (final MappedField mf : persistenceFields) {
-            if (name.equals(mf.getJavaFieldName())) {
-                return mf;
-            }
-        }
-
-        return null;
+        return getFieldIndex().byJavaName.get(name);
     }
 
     /**
      * @return the ID field for the class
      */
     public MappedField getMappedIdField() {
-        List<MappedField> fields = getFieldsAnnotatedWith(Id.class);
-        return fields.isEmpty() ? null : fields.get(0);
+        return getFieldIndex().idField;
     }
 
     /**
      * @return the ID field for the class
      */
     public MappedField getMappedVersionField() {
-        List<MappedField> fields = getFieldsAnnotatedWith(Version.class);
-        return fields.isEmpty() ? null : fields.get(0);
+        return getFieldIndex().versionField;
     }
 
     /**
@@ -500,6 +470,20 @@ public class MappedClass {
         return "MappedClass - kind:" + getCollectionName() + " for " + getClazz().getName() + " fields:" + persistenceFields;
     }
 
+    /**
+     * Resolves the CustomMapper used to read each of the persistence fields so that decoding needs no lookups.  A MappedClass shared
+     * with another Mapper keeps the CustomMappers resolved by the Mapper which mapped it first.  Bindings made stale by later changes to
+     * the converters or the options are resolved again on their next use.
+     *
+     * @param mapper the Mapper to resolve the CustomMappers with
+     * @see MappedField#bindCustomMapper(Mapper)
+     */
+    void resolveCustomMappers(final Mapper mapper) {
+        for (final MappedField mf : persistenceFields) {
+            mf.bindCustomMapper(mapper);
+        }
+    }
+
     /**
      * Update mappings based on fields/annotations.
      */
@@ -523,6 +507,23 @@ public class MappedClass {
         new MappingValidator(mapper.getOptions().getObjectFactory()).validate(mapper, this);
     }
 
+    /**
+     * Discards the field indexes so they are rebuilt on their next use.  Called whenever the persistence fields or their annotations
+     * change.
+     */
+    void invalidateFieldIndex() {
+        fieldIndex = null;
+    }
+
+    private FieldIndex getFieldIndex() {
+        FieldIndex index = fieldIndex;
+        if (index == null) {
+            index = new FieldIndex(persistenceFields);
+            fieldIndex = index;
+        }
+        return index;
+    }
+
     protected void basicValidate() {
         final boolean isStatic = Modifier.isStatic(clazz.getModifiers());
         if (!isStatic && clazz.isMemberClass()) {
@@ -555,13 +556,7 @@ public class MappedClass {
         }
 
         for (final Class<?> cls : lifecycleClasses) {
-            for (final Method m : ReflectionUtils.getDeclaredAndInheritedMethods(cls)) {
-                for (final Class<? extends Annotation> c : LIFECYCLE_ANNOTATIONS) {
-                    if (m.isAnnotationPresent(c)) {
-                        addLifecycleEventMethod(c, m, cls.equals(clazz) ? null : cls);
-                    }
-                }
-            }
+            discoverLifecycleMethods(cls, cls.equals(clazz) ? null : cls);
         }
 
         update();
@@ -570,13 +565,13 @@ public class MappedClass {
             field.setAccessible(true);
             final int fieldMods = field.getModifiers();
             if (!isIgnorable(field, fieldMods, mapper)) {
-                if (field.isAnnotationPresent(Id.class)) {
+                if (GeneratedMappings.isAnnotationPresent(field, Id.class)) {
                     persistenceFields.add(new MappedField(field, clazz, mapper));
                     update();
-                } else if (field.isAnnotationPresent(Property.class)
-                           || field.isAnnotationPresent(Reference.class)
-                           || field.isAnnotationPresent(Embedded.class)
-                           || field.isAnnotationPresent(Serialized.class)
+                } else if (GeneratedMappings.isAnnotationPresent(field, Property.class)
+                           || GeneratedMappings.isAnnotationPresent(field, Reference.class)
+                           || GeneratedMappings.isAnnotationPresent(field, Embedded.class)
+                           || GeneratedMappings.isAnnotationPresent(field, Serialized.class)
                            || isSupportedType(field.getType())
                            || ReflectionUtils.implementsInterface(field.getType(), Serializable.class)) {
                     persistenceFields.add(new MappedField(field, clazz, mapper));
@@ -592,6 +587,39 @@ public class MappedClass {
         }
     }
 
+    /**
+     * Adds the lifecycle methods declared by a class and its superclasses, superclasses first.  The methods listed by the generated mapping
+     * of a class are used instead of scanning all its methods.
+     *
+     * @param type     the class declaring the methods
+     * @param listener the EntityListener class declaring the methods, or null for the entity itself
+     */
+    private void discoverLifecycleMethods(final Class<?> type, final Class<?> listener) {
+        if (type == null || type == Object.class) {
+            return;
+        }
+        discoverLifecycleMethods(type.getSuperclass(), listener);
+
+        final GeneratedMapping mapping = GeneratedMappings.find(type);
+        if (mapping != null && mapping.getLifecycleMethods(PrePersist.class) != null) {
+            for (final Class<? extends Annotation> event : LIFECYCLE_ANNOTATIONS) {
+                for (final Method m : mapping.getLifecycleMethods(event)) {
+                    addLifecycleEventMethod(event, m, listener);
+                }
+            }
+        } else {
+            for (final Method m : type.getDeclaredMethods()) {
+                if (!Modifier.isStatic(m.getModifiers())) {
+                    for (final Class<? extends Annotation> event : LIFECYCLE_ANNOTATIONS) {
+                        if (m.isAnnotationPresent(event)) {
+                            addLifecycleEventMethod(event, m, listener);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Adds the annotation, if it exists on the field.
      */
@@ -613,28 +641,7 @@ public class MappedClass {
         }
     }
 
-    private void callGlobalInterceptors(final Class<? extends Annotation> event, final Object entity, final DBObject dbObj,
-                                        final Mapper mapper) {
-        for (final EntityInterceptor ei : mapper.getInterceptors()) {
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Calling interceptor method " + event.getSimpleName() + " on " + ei);
-            }
-
-            if (event.equals(PreLoad.class)) {
-                ei.preLoad(entity, dbObj, mapper);
-            } else if (event.equals(PostLoad.class)) {
-                ei.postLoad(entity, dbObj, mapper);
-            } else if (event.equals(PrePersist.class)) {
-                ei.prePersist(entity, dbObj, mapper);
-            } else if (event.equals(PreSave.class)) {
-                ei.preSave(entity, dbObj, mapper);
-            } else if (event.equals(PostPersist.class)) {
-                ei.postPersist(entity, dbObj, mapper);
-            }
-        }
-    }
-
-    private Object getOrCreateInstance(final Class<?> clazz, final Mapper mapper) {
+    Object getOrCreateInstance(final Class<?> clazz, final Mapper mapper) {
         if (mapper.getInstanceCache().containsKey(clazz)) {
             return mapper.getInstanceCache().get(clazz);
         }
@@ -652,13 +659,13 @@ public class MappedClass {
     }
 
     private boolean isIgnorable(final java.lang.reflect.Field field, final int fieldMods, final Mapper mapper) {
-        return field.isAnnotationPresent(Transient.class)
+        return GeneratedMappings.isAnnotationPresent(field, Transient.class)
                || Modifier.isTransient(fieldMods)
                || field.isSynthetic() && Modifier.isTransient(fieldMods)
                || mapper.getOptions().isIgnoreFinals() && Modifier.isFinal(fieldMods);
     }
 
-    private static class ClassMethodPair {
+    static class ClassMethodPair {
         private final Class<?> clazz;
         private final Method method;
 
@@ -666,6 +673,90 @@ public class MappedClass {
             clazz = c;
             method = m;
         }
+
+        Class<?> getClazz() {
+            return clazz;
+        }
+
+        Method getMethod() {
+            return method;
+        }
     }
 
+
+    /**
+     * The persistence fields.  Every change to the list goes through {@link #set(int, MappedField)}, {@link #add(int, MappedField)} or
+     * {@link #remove(int)}, which invalidate the field indexes and keep the owner of each field current.
+     */
+    private final class FieldList extends AbstractList<MappedField> {
+        private final List<MappedField> fields = new ArrayList<MappedField>();
+
+        @Override
+        public MappedField get(final int index) {
+            return fields.get(index);
+        }
+
+        @Override
+        public int size() {
+            return fields.size();
+        }
+
+        @Override
+        public MappedField set(final int index, final MappedField element) {
+            final MappedField previous = fields.set(index, element);
+            previous.setOwner(null);
+            element.setOwner(MappedClass.this);
+            invalidateFieldIndex();
+            return previous;
+        }
+
+        @Override
+        public void add(final int index, final MappedField element) {
+            fields.add(index, element);
+            element.setOwner(MappedClass.this);
+            invalidateFieldIndex();
+        }
+
+        @Override
+        public MappedField remove(final int index) {
+            final MappedField removed = fields.remove(index);
+            removed.setOwner(null);
+            invalidateFieldIndex();
+            return removed;
+        }
+    }
+
+    /**
+     * Immutable hash indexes of the persistence fields by stored name (including aliases) and java name.  When several fields share a
+     * name the first one wins, as the linear scans this replaces did.
+     */
+    private static final class FieldIndex {
+        private final Map<String, MappedField> byStoredName = new HashMap<String, MappedField>();
+        private final Map<String, MappedField> byJavaName = new HashMap<String, MappedField>();
+        private final MappedField idField;
+        private final MappedField versionField;
+
+        private FieldIndex(final List<MappedField> fields) {
+            MappedField id = null;
+            MappedField version = null;
+            for (final MappedField mf : fields) {
+                for (final String name : mf.getLoadNames()) {
+                    if (!byStoredName.containsKey(name)) {
+                        byStoredName.put(name, mf);
+                    }
+                }
+                if (!byJavaName.containsKey(mf.getJavaFieldName())) {
+                    byJavaName.put(mf.getJavaFieldName(), mf);
+                }
+                if (id == null && mf.hasAnnotation(Id.class)) {
+                    id = mf;
+                }
+                if (version == null && mf.hasAnnotation(Version.class)) {
+                    version = mf;
+                }
+            }
+            idField = id;
+            versionField = version;
+        }
+    }
 }
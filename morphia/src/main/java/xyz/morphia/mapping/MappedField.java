@@ -34,6 +34,9 @@ import xyz.morphia.annotations.Transient;
 import xyz.morphia.annotations.Version;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.accessor.ReflectiveFieldAccessorFactory;
+import xyz.morphia.mapping.generated.GeneratedMappings;
 import xyz.morphia.utils.ReflectionUtils;
 
 import java.lang.annotation.Annotation;
@@ -89,6 +92,7 @@ public class MappedField {
     private final List<MappedField> typeParameters = new ArrayList<MappedField>();
     private Class persistedClass;
     private Field field; // the field :)
+    private FieldAccessor accessor; // reads and writes the field
     private Class realType; // the real type
     private Constructor constructor; // the constructor for the type
     private Type subType; // the type (T) for the Collection<T>/T[]/Map<?,T>
@@ -105,10 +109,13 @@ public class MappedField {
 
     private String nameToStore; // the field name in the db.
     private List<String> loadNames; // List of stored names in order of trying, contains nameToStore and potential aliases
+    private volatile CustomMapperBinding customMapperBinding; // the CustomMapper selected for this field by a Mapper
+    private volatile MappedClass owner; // the MappedClass whose persistence fields include this field
 
     MappedField(final Field f, final Class<?> clazz, final Mapper mapper) {
         f.setAccessible(true);
         field = f;
+        accessor = mapper.getOptions().getFieldAccessorFactory().create(f);
         persistedClass = clazz;
         realType = field.getType();
         genericType = field.getGenericType();
@@ -125,11 +132,23 @@ public class MappedField {
      */
     MappedField(final Field field, final Type type, final Mapper mapper) {
         this.field = field;
+        if (field != null) {
+            accessor = new ReflectiveFieldAccessorFactory().create(field);
+        }
         genericType = type;
         discoverType(mapper);
         discoverNames();
     }
 
+    /**
+     * Sets the MappedClass holding this field, whose field indexes have to be rebuilt when the annotations of this field change
+     *
+     * @param owner the MappedClass, or null once the field is removed from it
+     */
+    void setOwner(final MappedClass owner) {
+        this.owner = owner;
+    }
+
     private void discoverNames() {
         nameToStore = getMappedFieldName();
         loadNames = inferLoadNames();
@@ -150,7 +169,7 @@ public class MappedField {
      * @param clazz the annotation to add
      */
     public void addAnnotation(final Class<? extends Annotation> clazz) {
-        if (field.isAnnotationPresent(clazz)) {
+        if (GeneratedMappings.isAnnotationPresent(field, clazz)) {
             addAnnotation(clazz, field.getAnnotation(clazz));
         }
     }
@@ -164,6 +183,7 @@ public class MappedField {
     public void addAnnotation(final Class<? extends Annotation> clazz, final Annotation ann) {
         foundAnnotations.put(clazz, ann);
         discoverNames();
+        invalidateOwner();
     }
 
     /**
@@ -241,11 +261,15 @@ public class MappedField {
      * @return the value stored in the java field
      */
     public Object getFieldValue(final Object instance) {
-        try {
-            return field.get(instance);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return accessor.get(instance);
+    }
+
+    /**
+     * @return the accessor used to read and write the java field
+     * @since 1.5
+     */
+    public FieldAccessor getAccessor() {
+        return accessor;
     }
 
     /**
@@ -437,9 +461,17 @@ public class MappedField {
     public Annotation putAnnotation(final Annotation ann) {
         Annotation put = foundAnnotations.put(ann.getClass(), ann);
         discoverNames();
+        invalidateOwner();
         return put;
     }
 
+    private void invalidateOwner() {
+        final MappedClass mappedClass = owner;
+        if (mappedClass != null) {
+            mappedClass.invalidateFieldIndex();
+        }
+    }
+
     /**
      * Sets the value for the java field
      *
@@ -447,11 +479,7 @@ public class MappedField {
      * @param value    the value to set
      */
     public void setFieldValue(final Object instance, final Object value) {
-        try {
-            field.set(instance, value);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        accessor.set(instance, value);
     }
 
     @Override
@@ -762,4 +790,60 @@ public class MappedField {
     void setMapKeyType(final Class mapKeyType) {
         this.mapKeyType = mapKeyType;
     }
+
+    /**
+     * @param mapper the Mapper decoding this field
+     * @return the CustomMapper bound to this field by the given Mapper, or null if that Mapper has not bound one or the binding is stale
+     * @see #bindCustomMapper(Mapper)
+     */
+    CustomMapper getCustomMapper(final Mapper mapper) {
+        final CustomMapperBinding binding = customMapperBinding;
+        return binding != null && binding.isCurrent(mapper) ? binding.customMapper : null;
+    }
+
+    /**
+     * Selects the CustomMapper of this field and binds it to the given Mapper.  The binding records the options and the converters it was
+     * resolved with, and becomes stale once the Mapper's options are replaced, one of their CustomMappers is changed, or a converter is
+     * added or removed.  A field already bound by another Mapper keeps its binding.
+     *
+     * @param mapper the Mapper to select the CustomMapper with
+     * @return the selected CustomMapper
+     */
+    CustomMapper bindCustomMapper(final Mapper mapper) {
+        final MapperOptions options = mapper.getOptions();
+        final int optionsGeneration = options.getMapperGeneration();
+        final int convertersGeneration = mapper.getConverters().getGeneration();
+        final CustomMapper customMapper = mapper.selectMapper(this);
+
+        final CustomMapperBinding binding = customMapperBinding;
+        if (binding == null || binding.mapper == mapper) {
+            customMapperBinding = new CustomMapperBinding(mapper, options, optionsGeneration, convertersGeneration, customMapper);
+        }
+        return customMapper;
+    }
+
+    private static final class CustomMapperBinding {
+        private final Mapper mapper;
+        private final MapperOptions options;
+        private final int optionsGeneration;
+        private final int convertersGeneration;
+        private final CustomMapper customMapper;
+
+        private CustomMapperBinding(final Mapper mapper, final MapperOptions options, final int optionsGeneration,
+                                    final int convertersGeneration, final CustomMapper customMapper) {
+            this.mapper = mapper;
+            this.options = options;
+            this.optionsGeneration = optionsGeneration;
+            this.convertersGeneration = convertersGeneration;
+            this.customMapper = customMapper;
+        }
+
+        private boolean isCurrent(final Mapper current) {
+            final MapperOptions currentOptions = current.getOptions();
+            return mapper == current
+                   && options == currentOptions
+                   && optionsGeneration == currentOptions.getMapperGeneration()
+                   && convertersGeneration == current.getConverters().getGeneration();
+        }
+    }
 }
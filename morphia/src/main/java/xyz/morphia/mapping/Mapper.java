@@ -19,6 +19,7 @@ import org.bson.BSONEncoder;
 import org.bson.BasicBSONEncoder;
 import xyz.morphia.Datastore;
 import xyz.morphia.EntityInterceptor;
+import xyz.morphia.OperationListener;
 import xyz.morphia.Key;
 import xyz.morphia.annotations.Converters;
 import xyz.morphia.annotations.Embedded;
@@ -32,6 +33,7 @@ import xyz.morphia.annotations.Reference;
 import xyz.morphia.annotations.Serialized;
 import xyz.morphia.converters.CustomConverters;
 import xyz.morphia.converters.TypeConverter;
+import xyz.morphia.internal.PathCache;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
 import xyz.morphia.mapping.cache.EntityCache;
@@ -51,15 +53,24 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.IdentityHashMap;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static xyz.morphia.utils.ReflectionUtils.getParameterizedClass;
 import static xyz.morphia.utils.ReflectionUtils.implementsInterface;
 import static xyz.morphia.utils.ReflectionUtils.isPropertyType;
@@ -88,24 +99,43 @@ public class Mapper {
      */
     public static final String CLASS_NAME_FIELDNAME = "className";
     private static final Logger LOG = MorphiaLoggerFactory.get(Mapper.class);
+    private static final int MAX_DECODE_PLANS = 1024;
     /**
      * Set of classes that registered by this mapper
      */
     private final Map<String, MappedClass> mappedClasses = new ConcurrentHashMap<String, MappedClass>();
+    /**
+     * The MappedClasses by Class, filled as classes are looked up.  Proxy classes are left out since their referent class depends on the
+     * instance.
+     */
+    private final Map<Class, MappedClass> mappedClassesByType = new ConcurrentHashMap<Class, MappedClass>();
+    /**
+     * Held while a class is being mapped so concurrent lookups of an unmapped class create a single MappedClass
+     */
+    private final Object mappingLock = new Object();
+    /**
+     * The MappedClasses built by addMappedClasses and not published yet, looked up while the classes depending on them are built.  Only
+     * the threads building the batch see them.
+     */
+    private final ThreadLocal<Map<String, MappedClass>> stagedClasses = new ThreadLocal<Map<String, MappedClass>>();
+    private final Object stagingLock = new Object();
     private final ConcurrentHashMap<String, Set<MappedClass>> mappedClassesByCollection = new ConcurrentHashMap<String, Set<MappedClass>>();
 
-    //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities
-    private final List<EntityInterceptor> interceptors = new LinkedList<EntityInterceptor>();
+    //EntityInterceptors; these are called after EntityListeners and lifecycle methods on an Entity, for all Entities, and are read by the
+    //threads decoding documents concurrently
+    private final List<EntityInterceptor> interceptors = new CopyOnWriteArrayList<EntityInterceptor>();
+    private final List<OperationListener> operationListeners = new CopyOnWriteArrayList<OperationListener>();
 
     //A general cache of instances of classes; used by MappedClass for EntityListener(s)
     private final Map<Class, Object> instanceCache = new ConcurrentHashMap();
     // TODO: make these configurable
     private final LazyProxyFactory proxyFactory = LazyFeatureDependencies.createDefaultProxyFactory();
     private final xyz.morphia.converters.Converters converters;
+    private final PathCache pathCache = new PathCache();
+    private final Map<Class, Boolean> directlyEncodable = new ConcurrentHashMap<Class, Boolean>();
+    private final Map<String, DecodePlan> decodePlans = new ConcurrentHashMap<String, DecodePlan>();
     private MapperOptions opts = new MapperOptions();
 
-    private final IdentityHashMap<MappedField, CustomMapper> mapperCache = new IdentityHashMap<MappedField, CustomMapper>();
-
     /**
      * Creates a Mapper with the given options.
      *
@@ -148,6 +178,26 @@ public class Mapper {
         interceptors.add(ei);
     }
 
+    /**
+     * Adds an {@link OperationListener} notified of the operations of the Datastores using this Mapper
+     *
+     * @param listener the listener to add
+     * @since 1.5
+     */
+    public void addOperationListener(final OperationListener listener) {
+        operationListeners.add(listener);
+    }
+
+    /**
+     * Removes an {@link OperationListener}
+     *
+     * @param listener the listener to remove
+     * @since 1.5
+     */
+    public void removeOperationListener(final OperationListener listener) {
+        operationListeners.remove(listener);
+    }
+
     /**
      * Creates a MappedClass and validates it.
      *
@@ -155,15 +205,48 @@ public class Mapper {
      * @return the MappedClass for the given Class
      */
     public MappedClass addMappedClass(final Class c) {
-
         MappedClass mappedClass = mappedClasses.get(c.getName());
         if (mappedClass == null) {
-            mappedClass = new MappedClass(c, this);
-            return addMappedClass(mappedClass, true);
+            synchronized (mappingLock) {
+                mappedClass = mappedClasses.get(c.getName());
+                if (mappedClass == null) {
+                    mappedClass = addMappedClass(new MappedClass(c, this), true);
+                }
+            }
         }
         return mappedClass;
     }
 
+    /**
+     * Creates and validates the MappedClasses of several classes.  With more than one
+     * {@link MapperOptions#setMappingThreads(int) mapping thread}, the classes are built and validated in parallel, each after the
+     * classes of the collection it extends or implements, and are then added together: a class failing to map or validate leaves none
+     * of them mapped.  With one thread the classes are mapped one at a time, as {@link #addMappedClass(Class)} does.
+     *
+     * @param classes the classes to map
+     * @return the MappedClasses of the classes, in the order of the collection
+     * @since 1.5
+     */
+    public List<MappedClass> addMappedClasses(final Collection<Class> classes) {
+        final List<Class> unmapped = new ArrayList<Class>();
+        for (final Class c : new LinkedHashSet<Class>(classes)) {
+            if (!mappedClasses.containsKey(c.getName())) {
+                unmapped.add(c);
+            }
+        }
+        final int threads = Math.min(opts.getMappingThreads(), unmapped.size());
+        if (threads > 1) {
+            synchronized (stagingLock) {
+                addMappedClasses(unmapped, threads);
+            }
+        }
+        final List<MappedClass> mapped = new ArrayList<MappedClass>(classes.size());
+        for (final Class c : classes) {
+            mapped.add(addMappedClass(c));
+        }
+        return mapped;
+    }
+
     /**
      * Creates a cache for tracking entities seen during processing
      *
@@ -185,18 +268,99 @@ public class Mapper {
      * @see Mapper#CLASS_NAME_FIELDNAME
      */
     public <T> T fromDBObject(final Datastore datastore, final Class<T> entityClass, final DBObject dbObject, final EntityCache cache) {
+        return fromDBObject(datastore, entityClass, dbObject, cache, null);
+    }
+
+    /**
+     * Converts a DBObject back to a type-safe java object (POJO), reading only the fields of a projection.  When the plan maps the
+     * documents to a class or interface other than the entity, an instance of that type is returned instead.
+     *
+     * @param <T>         the type of the entity
+     * @param datastore   the Datastore to use when fetching this reference
+     * @param entityClass The type to return, or use; can be overridden by the @see Mapper.CLASS_NAME_FIELDNAME in the DBObject
+     * @param dbObject    the DBObject containing the document from mongodb
+     * @param cache       the EntityCache to use
+     * @param plan        the plan of the projection, or null to read every field
+     * @return the new entity
+     * @see #getDecodePlan(DBObject)
+     * @see #getDecodePlan(Class, Class)
+     * @since 1.5
+     */
+    public <T> T fromDBObject(final Datastore datastore, final Class<T> entityClass, final DBObject dbObject, final EntityCache cache,
+                              final DecodePlan plan) {
         if (dbObject == null) {
             final Throwable t = new Throwable();
             LOG.error("A null reference was passed in for the dbObject", t);
             return null;
         }
 
+        if (dbObject instanceof DecodedEntity) {
+            final T decoded = ((DecodedEntity) dbObject).takeEntity(entityClass);
+            if (decoded != null) {
+                return fromDecoded((DecodedEntity) dbObject, decoded, cache);
+            }
+        }
+
+        if (plan != null && plan.getType() != null) {
+            if (plan.isInterface()) {
+                return plan.createProxy(this, datastore, dbObject, cache);
+            }
+            return fromDb(datastore, dbObject, opts.getObjectFactory().createInstance(entityClass), cache, plan);
+        }
+
         T entity;
         entity = opts.getObjectFactory().createInstance(entityClass, dbObject);
-        entity = fromDb(datastore, dbObject, entity, cache);
+        entity = fromDb(datastore, dbObject, entity, cache, plan);
         return entity;
     }
 
+    /**
+     * Gets the plan reading only the fields returned by a projection.  Plans are cached per projection.
+     *
+     * @param projection the projection sent to the server
+     * @return the plan, or null if the projection returns every field
+     * @since 1.5
+     */
+    public DecodePlan getDecodePlan(final DBObject projection) {
+        if (projection == null || projection.keySet().isEmpty()) {
+            return null;
+        }
+        final String key = DecodePlan.projectionKey(projection);
+        DecodePlan plan = decodePlans.get(key);
+        if (plan == null) {
+            plan = DecodePlan.forProjection(projection);
+            cache(key, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the plan mapping the documents of an entity to another type.  A class is mapped like an embedded class, its fields matching
+     * the stored names of the entity.  An interface is implemented by a proxy whose getters return the values of the entity fields of the
+     * same java name.  Only the fields of the type are projected.
+     *
+     * @param entityClass the entity queried
+     * @param type        the class or interface to map the documents to
+     * @return the plan
+     * @since 1.5
+     */
+    public DecodePlan getDecodePlan(final Class<?> entityClass, final Class<?> type) {
+        final String key = entityClass.getName() + " as " + type.getName();
+        DecodePlan plan = decodePlans.get(key);
+        if (plan == null) {
+            plan = DecodePlan.forType(this, getMappedClass(entityClass), type);
+            cache(key, plan);
+        }
+        return plan;
+    }
+
+    private void cache(final String key, final DecodePlan plan) {
+        // projections built from user input should not grow the cache without bound
+        if (plan != null && decodePlans.size() < MAX_DECODE_PLANS) {
+            decodePlans.put(key, plan);
+        }
+    }
+
     /**
      * Finds any subtypes for the given MappedClass.
      *
@@ -247,6 +411,23 @@ public class Mapper {
      * @return the entity
      */
     public <T> T fromDb(final Datastore datastore, final DBObject dbObject, final T entity, final EntityCache cache) {
+        return fromDb(datastore, dbObject, entity, cache, null);
+    }
+
+    /**
+     * Converts a DBObject back to a type-safe java object (POJO), reading only the fields of a projection.
+     *
+     * @param <T>       the type of the entity
+     * @param datastore the Datastore to use when fetching this reference
+     * @param dbObject  the DBObject containing the document from mongodb
+     * @param entity    the instance to populate
+     * @param cache     the EntityCache to use
+     * @param plan      the plan of the projection, or null to read every field
+     * @return the entity
+     * @since 1.5
+     */
+    public <T> T fromDb(final Datastore datastore, final DBObject dbObject, final T entity, final EntityCache cache,
+                        final DecodePlan plan) {
         //hack to bypass things and just read the value.
         if (entity instanceof MappedField) {
             readMappedField(datastore, (MappedField) entity, entity, cache, dbObject);
@@ -281,7 +462,7 @@ public class Mapper {
             final MappedClass mc = getMappedClass(entity);
             final DBObject updated = mc.callLifecycleMethods(PreLoad.class, entity, dbObject, this);
             try {
-                for (final MappedField mf : mc.getPersistenceFields()) {
+                for (final MappedField mf : plan == null ? mc.getPersistenceFields() : plan.getFields(this, mc)) {
                     readMappedField(datastore, mf, entity, cache, updated);
                 }
             } catch (final MappingException e) {
@@ -300,6 +481,27 @@ public class Mapper {
         return entity;
     }
 
+    /**
+     * Completes the mapping of an entity whose fields were read by an {@link EntityDecoderFactory} decoder, applying the same caching and
+     * lifecycle steps as {@link #fromDb(Datastore, DBObject, Object, EntityCache)}.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T fromDecoded(final DecodedEntity dbObject, final T entity, final EntityCache cache) {
+        final MappedClass mc = getMappedClass(entity);
+        if (dbObject.getId() != null && mc.getIdField() != null) {
+            final Key<T> key = new Key(entity.getClass(), getCollectionName(entity.getClass()), dbObject.getId());
+            if (mc.getEntityAnnotation() != null) {
+                final T cachedInstance = cache.getEntity(key);
+                if (cachedInstance != null) {
+                    return cachedInstance;
+                }
+            }
+            cache.putEntity(key, entity);
+        }
+        mc.callLifecycleMethods(PostLoad.class, entity, dbObject, this);
+        return entity;
+    }
+
     /**
      * Looks up the class mapped to a named collection.
      *
@@ -360,6 +562,16 @@ public class Mapper {
         }
     }
 
+    /**
+     * This is an internal method subject to change without notice.
+     *
+     * @return the cache of resolved query and update paths
+     * @since 1.5
+     */
+    public PathCache getPathCache() {
+        return pathCache;
+    }
+
     /**
      * @return the cache of instances
      */
@@ -376,6 +588,24 @@ public class Mapper {
         return interceptors;
     }
 
+    /**
+     * Gets list of {@link OperationListener}s
+     *
+     * @return the listeners
+     * @since 1.5
+     */
+    public Collection<OperationListener> getOperationListeners() {
+        return operationListeners;
+    }
+
+    /**
+     * @return true if an {@link OperationListener} is registered and operations have to be measured
+     * @since 1.5
+     */
+    public boolean hasOperationListeners() {
+        return !operationListeners.isEmpty();
+    }
+
     /**
      * Gets the Key for an entity
      *
@@ -478,15 +708,30 @@ public class Mapper {
         }
 
         Class type = (obj instanceof Class) ? (Class) obj : obj.getClass();
+        MappedClass mc = mappedClassesByType.get(type);
+        if (mc != null) {
+            return mc;
+        }
         if (ProxyHelper.isProxy(obj)) {
             type = ProxyHelper.getReferentClass(obj);
         }
 
-        MappedClass mc = mappedClasses.get(type.getName());
+        mc = mappedClasses.get(type.getName());
         if (mc == null) {
-            mc = new MappedClass(type, this);
-            // no validation
-            addMappedClass(mc, false);
+            final Map<String, MappedClass> staged = stagedClasses.get();
+            if (staged != null && staged.containsKey(type.getName())) {
+                return staged.get(type.getName());
+            }
+            synchronized (mappingLock) {
+                mc = mappedClasses.get(type.getName());
+                if (mc == null) {
+                    // no validation
+                    mc = addMappedClass(new MappedClass(type, this), false);
+                }
+            }
+        }
+        if (!ProxyHelper.isProxied(type)) {
+            mappedClassesByType.put(type, mc);
         }
         return mc;
     }
@@ -596,6 +841,35 @@ public class Mapper {
         return toDBObject(entity, involvedObjects, true);
     }
 
+    /**
+     * Converts an entity to the document to write, encoding it straight to BSON when {@link MapperOptions#isDirectEncoding()} is set and
+     * the entity qualifies.  An {@link EncodedEntity} has to be written with an encoder from {@link EntityEncoder#FACTORY}.  The
+     * PrePersist and PreSave lifecycle methods are called as for {@link #toDBObject(Object, Map)}.
+     * <p>
+     * This is an internal method subject to change without notice.
+     *
+     * @param entity          the entity to convert
+     * @param involvedObjects a Map of (already converted) POJOs
+     * @return the document to write
+     * @since 1.5
+     */
+    public DBObject toDocument(final Object entity, final Map<Object, DBObject> involvedObjects) {
+        final MappedClass mc = getMappedClass(entity);
+        if (!opts.isDirectEncoding() || !interceptors.isEmpty() || !isDirectlyEncodable(mc)) {
+            return toDBObject(entity, involvedObjects);
+        }
+
+        mc.callLifecycleMethods(PrePersist.class, entity, null, this);
+        DBObject document = EntityEncoder.encode(this, mc, entity);
+        if (document == null) {
+            document = toDBObject(entity, involvedObjects, false);
+        } else if (involvedObjects != null) {
+            involvedObjects.put(entity, document);
+        }
+        mc.callLifecycleMethods(PreSave.class, entity, document, this);
+        return document;
+    }
+
     /**
      * Converts a java object to a mongo-compatible object (possibly a DBObject for complex mappings).  Very similar to {@link
      * Mapper#toDBObject}.  Used (mainly) by query/update operations.
@@ -693,6 +967,25 @@ public class Mapper {
         return mappedValue;
     }
 
+    /**
+     * Fetches the entities referenced by a batch of documents using one query per referenced collection and puts them in the cache so
+     * that converting the documents afterwards does not go back to the database for each reference.  Only eager {@link Reference}
+     * fields are resolved this way.
+     *
+     * @param datastore   the Datastore to use when fetching the references
+     * @param entityClass the type the documents will be converted to
+     * @param dbObjects   the documents about to be converted
+     * @param cache       the EntityCache the documents will be converted with
+     * @see MapperOptions#setBatchReferenceResolution(boolean)
+     * @since 1.5
+     */
+    public void resolveReferences(final Datastore datastore, final Class<?> entityClass, final List<DBObject> dbObjects,
+                                  final EntityCache cache) {
+        if (!dbObjects.isEmpty()) {
+            new ReferenceBatchResolver(datastore, this, cache).resolve(entityClass, dbObjects);
+        }
+    }
+
     /**
      * Updates the collection value on a Key with the mapped value on the Key's type Class
      *
@@ -775,12 +1068,18 @@ public class Mapper {
      */
     private MappedClass addMappedClass(final MappedClass mc, final boolean validate) {
         addConverters(mc);
+        mc.resolveCustomMappers(this);
 
         if (validate && !mc.isInterface()) {
             mc.validate(this);
         }
 
+        return register(mc);
+    }
+
+    private MappedClass register(final MappedClass mc) {
         mappedClasses.put(mc.getClazz().getName(), mc);
+        mappedClassesByType.clear();
 
         Set<MappedClass> mcs = mappedClassesByCollection.get(mc.getCollectionName());
         if (mcs == null) {
@@ -792,10 +1091,185 @@ public class Mapper {
         }
 
         mcs.add(mc);
+        // newly mapped classes can change how paths resolve, e.g. through subtypes
+        pathCache.clear();
+        directlyEncodable.clear();
 
         return mc;
     }
 
+    /**
+     * Builds the MappedClasses level by level, supertypes first, so that building a class finds the classes of the collection it
+     * extends or implements among the staged ones; validates them; then publishes them together.  If another thread mapped one of the
+     * classes meanwhile, nothing is published and the classes are left to be mapped one at a time, so that no class has two MappedClasses.
+     */
+    private void addMappedClasses(final List<Class> classes, final int threads) {
+        final Map<String, MappedClass> staged = new ConcurrentHashMap<String, MappedClass>();
+        final Map<String, MappedClass> previous = stagedClasses.get();
+        stagedClasses.set(staged);
+        try {
+            for (final List<Class> level : orderBySupertypes(classes)) {
+                final List<Callable<MappedClass>> tasks = new ArrayList<Callable<MappedClass>>(level.size());
+                for (final Class c : level) {
+                    tasks.add(new Callable<MappedClass>() {
+                        @Override
+                        public MappedClass call() {
+                            return new MappedClass(c, Mapper.this);
+                        }
+                    });
+                }
+                for (final MappedClass mc : invokeAll(tasks, threads, staged)) {
+                    staged.put(mc.getClazz().getName(), mc);
+                }
+            }
+
+            final List<MappedClass> built = new ArrayList<MappedClass>(staged.values());
+            synchronized (mappingLock) {
+                for (final MappedClass mc : built) {
+                    addConverters(mc);
+                }
+                for (final MappedClass mc : built) {
+                    mc.resolveCustomMappers(this);
+                }
+            }
+
+            final List<Callable<MappedClass>> validations = new ArrayList<Callable<MappedClass>>(built.size());
+            for (final MappedClass mc : built) {
+                if (!mc.isInterface()) {
+                    validations.add(new Callable<MappedClass>() {
+                        @Override
+                        public MappedClass call() {
+                            mc.validate(Mapper.this);
+                            return mc;
+                        }
+                    });
+                }
+            }
+            invokeAll(validations, threads, staged);
+
+            synchronized (mappingLock) {
+                for (final MappedClass mc : built) {
+                    if (mappedClasses.containsKey(mc.getClazz().getName())) {
+                        return;
+                    }
+                }
+                for (final MappedClass mc : built) {
+                    register(mc);
+                }
+            }
+        } finally {
+            if (previous == null) {
+                stagedClasses.remove();
+            } else {
+                stagedClasses.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Runs tasks on the executor of the options, at most the given number at once, with the staged classes visible.  The calling thread
+     * runs the tasks too, so the batch completes even when the executor is busy.
+     */
+    private <T> List<T> invokeAll(final List<Callable<T>> tasks, final int threads, final Map<String, MappedClass> staged) {
+        final AtomicReferenceArray<T> results = new AtomicReferenceArray<T>(tasks.size());
+        final AtomicInteger next = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final CountDownLatch done = new CountDownLatch(tasks.size());
+        final Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                final Map<String, MappedClass> previous = stagedClasses.get();
+                stagedClasses.set(staged);
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < tasks.size()) {
+                        try {
+                            if (failure.get() == null) {
+                                results.set(index, tasks.get(index).call());
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            done.countDown();
+                        }
+                    }
+                } finally {
+                    if (previous == null) {
+                        stagedClasses.remove();
+                    } else {
+                        stagedClasses.set(previous);
+                    }
+                }
+            }
+        };
+
+        final List<Future<?>> helpers = new ArrayList<Future<?>>();
+        try {
+            final ExecutorService executor = opts.getExecutor();
+            for (int i = 1; i < Math.min(threads, tasks.size()); i++) {
+                helpers.add(executor.submit(worker));
+            }
+            worker.run();
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MappingException("Interrupted while mapping classes", e);
+        } finally {
+            for (final Future<?> helper : helpers) {
+                helper.cancel(false);
+            }
+        }
+
+        final Throwable cause = failure.get();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        } else if (cause != null) {
+            throw new MappingException("Could not map classes", cause);
+        }
+        final List<T> list = new ArrayList<T>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            list.add(results.get(i));
+        }
+        return list;
+    }
+
+    /**
+     * Groups classes by the depth of their supertypes within the collection, so each group only extends or implements classes of the
+     * groups before it.
+     */
+    private static List<List<Class>> orderBySupertypes(final List<Class> classes) {
+        final Set<Class> members = new HashSet<Class>(classes);
+        final Map<Class, Integer> depths = new HashMap<Class, Integer>();
+        final List<List<Class>> levels = new ArrayList<List<Class>>();
+        for (final Class c : classes) {
+            final int depth = depth(c, members, depths);
+            while (levels.size() <= depth) {
+                levels.add(new ArrayList<Class>());
+            }
+            levels.get(depth).add(c);
+        }
+        return levels;
+    }
+
+    private static int depth(final Class<?> c, final Set<Class> members, final Map<Class, Integer> depths) {
+        Integer depth = depths.get(c);
+        if (depth == null) {
+            depth = 0;
+            final List<Class<?>> supertypes = new ArrayList<Class<?>>(asList(c.getInterfaces()));
+            if (c.getSuperclass() != null) {
+                supertypes.add(c.getSuperclass());
+            }
+            for (final Class<?> supertype : supertypes) {
+                final int superDepth = depth(supertype, members, depths);
+                depth = Math.max(depth, members.contains(supertype) ? superDepth + 1 : superDepth);
+            }
+            depths.put(c, depth);
+        }
+        return depth;
+    }
+
     private Object extractFirstElement(final Object value) {
         return value.getClass().isArray() ? Array.get(value, 0) : ((Iterable) value).iterator().next();
     }
@@ -842,16 +1316,10 @@ public class Mapper {
 
     private void readMappedField(final Datastore datastore, final MappedField mf, final Object entity, final EntityCache cache,
                                  final DBObject dbObject) {
-        CustomMapper selectedMapper = mapperCache.get(mf);
-        if (selectedMapper == null) {
-            selectedMapper = selectMapper(mf);
-            mapperCache.put(mf, selectedMapper);
-        }
-
-        selectedMapper.fromDBObject(datastore, dbObject, mf, entity, cache, this);
+        getCustomMapper(mf).fromDBObject(datastore, dbObject, mf, entity, cache, this);
     }
 
-    private CustomMapper selectMapper(final MappedField mf) {
+    CustomMapper selectMapper(final MappedField mf) {
         CustomMapper mapper;
         if (mf.hasAnnotation(Property.class) || mf.hasAnnotation(Serialized.class)
             || mf.isTypeMongoCompatible() || getConverters().hasSimpleValueConverter(mf)) {
@@ -893,6 +1361,14 @@ public class Mapper {
 
     }
 
+    CustomMapper getCustomMapper(final MappedField mf) {
+        final CustomMapper resolved = mf.getCustomMapper(this);
+        if (resolved != null) {
+            return resolved;
+        }
+        return mf instanceof EphemeralMappedField ? selectMapper(mf) : mf.bindCustomMapper(this);
+    }
+
     <T> Key<T> manualRefToKey(final String collection, final Object id) {
         return id == null ? null : new Key<T>((Class<? extends T>) getClassFromCollection(collection), collection, id);
     }
@@ -1010,6 +1486,38 @@ public class Mapper {
         return dbObject;
     }
 
+    /**
+     * Creates the Key of a document in the {@link xyz.morphia.mapping.cache.SecondLevelCache}, holding the id as it is stored.
+     * <p>
+     * This is an internal method subject to change without notice.
+     *
+     * @param type       the type of the entity
+     * @param collection the collection of the document
+     * @param id         the id of the entity
+     * @param <T>        the type of the entity
+     * @return the Key or null if documents with such ids are not cached
+     * @since 1.5
+     */
+    public <T> Key<T> toCacheKey(final Class<T> type, final String collection, final Object id) {
+        if (id == null || id instanceof DBObject || isMapped(id.getClass())) {
+            return null;
+        }
+        final Object storedId = getConverters().encode(id);
+        if (storedId == null || storedId instanceof DBObject || storedId instanceof Iterable || storedId.getClass().isArray()) {
+            return null;
+        }
+        return new Key<T>(type, collection, storedId);
+    }
+
+    private boolean isDirectlyEncodable(final MappedClass mc) {
+        Boolean encodable = directlyEncodable.get(mc.getClazz());
+        if (encodable == null) {
+            encodable = EntityEncoder.isEncodable(this, mc);
+            directlyEncodable.put(mc.getClazz(), encodable);
+        }
+        return encodable;
+    }
+
     <T> Key<T> createKey(final Class<T> clazz, final Serializable id) {
         return new Key<T>(clazz, getCollectionName(clazz), id);
     }
@@ -1023,5 +1531,4 @@ public class Mapper {
         final BSONEncoder enc = new BasicBSONEncoder();
         return new Key<T>(clazz, getCollectionName(clazz), enc.encode(toDBObject(id)));
     }
-
 }
@@ -3,10 +3,16 @@ package xyz.morphia.mapping;
 
 import xyz.morphia.ObjectFactory;
 import xyz.morphia.annotations.Reference;
+import xyz.morphia.internal.SharedExecutor;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.accessor.FieldAccessorFactory;
+import xyz.morphia.mapping.accessor.ReflectiveFieldAccessorFactory;
 import xyz.morphia.mapping.cache.DefaultEntityCacheFactory;
 import xyz.morphia.mapping.cache.EntityCacheFactory;
+import xyz.morphia.mapping.cache.SecondLevelCache;
+
+import java.util.concurrent.ExecutorService;
 
 /**
  * Options to control mapping behavior.
@@ -27,13 +33,22 @@ public class MapperOptions {
     private boolean useLowerCaseCollectionNames;
     private boolean cacheClassLookups = false;
     private boolean mapSubPackages = false;
+    private boolean batchReferenceResolution = false;
+    private boolean directDecoding = false;
+    private boolean directEncoding = false;
+    private int referenceBatchSize = 100;
+    private int mappingThreads = 1;
     private ObjectFactory objectFactory = new DefaultCreator(this);
     private EntityCacheFactory cacheFactory = new DefaultEntityCacheFactory();
+    private SecondLevelCache secondLevelCache;
+    private FieldAccessorFactory fieldAccessorFactory = new ReflectiveFieldAccessorFactory();
     private CustomMapper embeddedMapper = new EmbeddedMapper();
     private CustomMapper defaultMapper = embeddedMapper;
     private CustomMapper referenceMapper = new ReferenceMapper();
     private CustomMapper valueMapper = new ValueMapper();
     private xyz.morphia.mapping.lazy.DatastoreProvider datastoreProvider = null;
+    private ExecutorService executor;
+    private volatile int mapperGeneration; // changed whenever one of the CustomMappers is replaced
 
     /**
      * Creates a default options instance.
@@ -55,10 +70,18 @@ public class MapperOptions {
         setCacheClassLookups(options.isCacheClassLookups());
         setObjectFactory(options.getObjectFactory());
         setCacheFactory(options.getCacheFactory());
+        setSecondLevelCache(options.getSecondLevelCache());
         setEmbeddedMapper(options.getEmbeddedMapper());
         setDefaultMapper(options.getDefaultMapper());
         setReferenceMapper(options.getReferenceMapper());
         setValueMapper(options.getValueMapper());
+        setBatchReferenceResolution(options.isBatchReferenceResolution());
+        setReferenceBatchSize(options.getReferenceBatchSize());
+        setFieldAccessorFactory(options.getFieldAccessorFactory());
+        setDirectDecoding(options.isDirectDecoding());
+        setDirectEncoding(options.isDirectEncoding());
+        setMappingThreads(options.getMappingThreads());
+        setExecutor(options.executor);
     }
 
     /**
@@ -77,6 +100,27 @@ public class MapperOptions {
         this.cacheFactory = cacheFactory;
     }
 
+    /**
+     * @return the cache shared by all queries, or null if there is none
+     * @since 1.5
+     */
+    public SecondLevelCache getSecondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Sets the cache of documents shared by all queries.  Lookups by id and the resolution of references read through it, and writes
+     * invalidate it.  Only documents with simple ids, such as ObjectIds, strings and numbers, are cached.  Writes made without this
+     * Datastore, or by another process, are not seen until the entries expire.
+     *
+     * @param secondLevelCache the cache to use or null to disable it
+     * @see xyz.morphia.mapping.cache.DefaultSecondLevelCache
+     * @since 1.5
+     */
+    public void setSecondLevelCache(final SecondLevelCache secondLevelCache) {
+        this.secondLevelCache = secondLevelCache;
+    }
+
     /**
      * @return the DatastoreProvider Morphia should use
      * @deprecated unused
@@ -112,6 +156,7 @@ public class MapperOptions {
      */
     public void setDefaultMapper(final CustomMapper pDefaultMapper) {
         defaultMapper = pDefaultMapper;
+        mapperGeneration++;
     }
 
     /**
@@ -128,6 +173,7 @@ public class MapperOptions {
      */
     public void setEmbeddedMapper(final CustomMapper pEmbeddedMapper) {
         embeddedMapper = pEmbeddedMapper;
+        mapperGeneration++;
     }
 
     /**
@@ -163,6 +209,7 @@ public class MapperOptions {
      */
     public void setReferenceMapper(final CustomMapper pReferenceMapper) {
         referenceMapper = pReferenceMapper;
+        mapperGeneration++;
     }
 
     /**
@@ -179,6 +226,7 @@ public class MapperOptions {
      */
     public void setValueMapper(final CustomMapper pValueMapper) {
         valueMapper = pValueMapper;
+        mapperGeneration++;
     }
 
     /**
@@ -295,4 +343,164 @@ public class MapperOptions {
     public void setMapSubPackages(final boolean mapSubPackages) {
         this.mapSubPackages = mapSubPackages;
     }
+
+    /**
+     * @return true if Morphia should resolve the eager references of query results in batches
+     * @since 1.5
+     */
+    public boolean isBatchReferenceResolution() {
+        return batchReferenceResolution;
+    }
+
+    /**
+     * Controls if the eager {@link Reference} fields of query results are resolved with one query per referenced collection for each
+     * batch of results rather than with one query per reference.
+     *
+     * @param batchReferenceResolution true if Morphia should resolve the eager references of query results in batches
+     * @since 1.5
+     */
+    public void setBatchReferenceResolution(final boolean batchReferenceResolution) {
+        this.batchReferenceResolution = batchReferenceResolution;
+    }
+
+    /**
+     * @return the number of query results whose references are resolved together when the query does not define a batch size
+     * @since 1.5
+     */
+    public int getReferenceBatchSize() {
+        return referenceBatchSize;
+    }
+
+    /**
+     * Sets the number of query results whose references are resolved together when the query does not define a batch size.
+     *
+     * @param referenceBatchSize the number of results to read ahead
+     * @see #setBatchReferenceResolution(boolean)
+     * @since 1.5
+     */
+    public void setReferenceBatchSize(final int referenceBatchSize) {
+        if (referenceBatchSize < 1) {
+            throw new IllegalArgumentException("The reference batch size must be positive.");
+        }
+        this.referenceBatchSize = referenceBatchSize;
+    }
+
+    /**
+     * @return the number of threads mapping the classes passed to {@link Mapper#addMappedClasses(java.util.Collection)}
+     * @since 1.5
+     */
+    public int getMappingThreads() {
+        return mappingThreads;
+    }
+
+    /**
+     * Sets the number of threads mapping the classes passed to {@link Mapper#addMappedClasses(java.util.Collection)}, such as those of
+     * {@link xyz.morphia.Morphia#map(java.util.Set)} and {@link xyz.morphia.Morphia#mapPackage(String)}.  The calling thread maps
+     * classes along with the threads of the {@link #getExecutor() executor}.  The default of 1 maps the classes one at a time.
+     *
+     * @param mappingThreads the number of threads
+     * @since 1.5
+     */
+    public void setMappingThreads(final int mappingThreads) {
+        if (mappingThreads < 1) {
+            throw new IllegalArgumentException("The number of mapping threads must be positive.");
+        }
+        this.mappingThreads = mappingThreads;
+    }
+
+    /**
+     * @return the executor running the background work of the Mapper, a pool shared by all Mappers unless one has been set
+     * @see #setExecutor(ExecutorService)
+     * @since 1.5
+     */
+    public ExecutorService getExecutor() {
+        return executor != null ? executor : SharedExecutor.get();
+    }
+
+    /**
+     * Sets the executor running the background work of the Mapper, such as the mapping of query results to entities requested with
+     * {@link xyz.morphia.query.FindOptions#decodingThreads(int)} and the mapping of classes in parallel.  By default this work runs on a
+     * pool shared by all Mappers, sized to the number of processors, whose daemon threads stop when idle.  The executor is not shut down
+     * by Morphia.
+     *
+     * @param executor the executor to use, or null to use the shared pool
+     * @since 1.5
+     */
+    public void setExecutor(final ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * @return the factory creating the accessors used to read and write mapped fields
+     * @since 1.5
+     */
+    public FieldAccessorFactory getFieldAccessorFactory() {
+        return fieldAccessorFactory;
+    }
+
+    /**
+     * Sets the factory creating the accessors used to read and write mapped fields.  The accessors are created when a class is mapped so
+     * this should be set before any classes are mapped.  The default factory uses reflection.
+     *
+     * @param fieldAccessorFactory the factory to use
+     * @see xyz.morphia.mapping.accessor.UnsafeFieldAccessorFactory
+     * @see xyz.morphia.mapping.generated.GeneratedFieldAccessorFactory
+     * @since 1.5
+     */
+    public void setFieldAccessorFactory(final FieldAccessorFactory fieldAccessorFactory) {
+        if (fieldAccessorFactory == null) {
+            throw new IllegalArgumentException("The field accessor factory can not be null.");
+        }
+        this.fieldAccessorFactory = fieldAccessorFactory;
+    }
+
+    /**
+     * @return true if query results are decoded straight into entities when their class allows it
+     * @since 1.5
+     */
+    public boolean isDirectDecoding() {
+        return directDecoding;
+    }
+
+    /**
+     * Enables decoding query results straight into entities, skipping the intermediate DBObject.  This applies to entities whose fields
+     * are all simple values and to documents holding only such values.  Everything else is mapped as before.  Decoding falls back to
+     * DBObjects as well when a custom DBDecoderFactory is set on the Datastore or when EntityInterceptors are registered.
+     *
+     * @param directDecoding true to decode directly
+     * @see EntityDecoderFactory
+     * @since 1.5
+     */
+    public void setDirectDecoding(final boolean directDecoding) {
+        this.directDecoding = directDecoding;
+    }
+
+    /**
+     * @return true if entities are encoded straight to BSON when saved or inserted and their class allows it
+     * @since 1.5
+     */
+    public boolean isDirectEncoding() {
+        return directEncoding;
+    }
+
+    /**
+     * Enables encoding entities straight to BSON on save, insert and bulk writes, skipping the intermediate DBObject.  This applies to
+     * unversioned entities whose fields are all handled by the value mapper and whose lifecycle methods do not take the DBObject.
+     * Entities holding values other than simple ones are mapped to DBObjects as before, as are all entities while EntityInterceptors are
+     * registered.
+     *
+     * @param directEncoding true to encode directly
+     * @see EntityEncoder
+     * @since 1.5
+     */
+    public void setDirectEncoding(final boolean directEncoding) {
+        this.directEncoding = directEncoding;
+    }
+
+    /**
+     * @return a number changed whenever one of the CustomMappers of these options is replaced
+     */
+    int getMapperGeneration() {
+        return mapperGeneration;
+    }
 }
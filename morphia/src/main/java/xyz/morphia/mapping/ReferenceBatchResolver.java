@@ -0,0 +1,217 @@
+package xyz.morphia.mapping;
+
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBCollection;
+import com.mongodb.DBCursor;
+import com.mongodb.DBObject;
+import com.mongodb.DBRef;
+import xyz.morphia.Datastore;
+import xyz.morphia.Key;
+import xyz.morphia.annotations.Reference;
+import xyz.morphia.logging.Logger;
+import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.cache.EntityCache;
+import xyz.morphia.mapping.lazy.LazyFeatureDependencies;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+/**
+ * Resolves the eager references of a batch of documents using one {@code $in} query per referenced collection rather than one query per
+ * reference.  The resolved entities are placed in the {@link EntityCache} so that the regular decoding of the batch finds them there.
+ * Anything this class can not resolve is left for {@link ReferenceMapper} to fetch individually as before.
+ *
+ * @see MapperOptions#setBatchReferenceResolution(boolean)
+ */
+@SuppressWarnings({"unchecked", "rawtypes"})
+class ReferenceBatchResolver {
+    private static final Logger LOG = MorphiaLoggerFactory.get(ReferenceBatchResolver.class);
+
+    private final Datastore datastore;
+    private final Mapper mapper;
+    private final EntityCache cache;
+    private final Set<Key> requested = new HashSet<Key>();
+
+    ReferenceBatchResolver(final Datastore datastore, final Mapper mapper, final EntityCache cache) {
+        this.datastore = datastore;
+        this.mapper = mapper;
+        this.cache = cache;
+    }
+
+    /**
+     * Fetches and caches the entities referenced by the given documents, and then those referenced by the fetched documents, one level
+     * at a time.
+     *
+     * @param entityClass the type the documents are being decoded to
+     * @param dbObjects   the documents to scan for references
+     */
+    void resolve(final Class<?> entityClass, final List<DBObject> dbObjects) {
+        final Map<String, CollectionBatch> batches = new LinkedHashMap<String, CollectionBatch>();
+        for (final DBObject dbObject : dbObjects) {
+            final MappedClass mc = findMappedClass(entityClass, dbObject);
+            if (mc != null) {
+                for (final MappedField mf : mc.getPersistenceFields()) {
+                    if (isBatchable(mf)) {
+                        collect(batches, mf, mf.getDbObjectValue(dbObject));
+                    }
+                }
+            }
+        }
+
+        final Map<Class, List<DBObject>> fetched = new LinkedHashMap<Class, List<DBObject>>();
+        for (final CollectionBatch batch : batches.values()) {
+            batch.fetch(fetched);
+        }
+
+        for (final Map.Entry<Class, List<DBObject>> entry : fetched.entrySet()) {
+            resolve(entry.getKey(), entry.getValue());
+        }
+
+        for (final CollectionBatch batch : batches.values()) {
+            batch.decode();
+        }
+    }
+
+    private boolean isBatchable(final MappedField mf) {
+        final Reference refAnn = mf.getAnnotation(Reference.class);
+        return refAnn != null
+               && !(refAnn.lazy() && LazyFeatureDependencies.testDependencyFullFilled())
+               && mapper.getCustomMapper(mf) instanceof ReferenceMapper;
+    }
+
+    private MappedClass findMappedClass(final Class<?> entityClass, final DBObject dbObject) {
+        final Object className = dbObject.get(Mapper.CLASS_NAME_FIELDNAME);
+        if (className != null) {
+            final MappedClass mc = mapper.getMCMap().get(className.toString());
+            if (mc != null) {
+                return mc;
+            }
+        }
+        return entityClass != null ? mapper.getMappedClass(entityClass) : null;
+    }
+
+    private void collect(final Map<String, CollectionBatch> batches, final MappedField mf, final Object dbVal) {
+        if (dbVal == null) {
+            return;
+        }
+        if (mf.isMap()) {
+            if (dbVal instanceof DBObject) {
+                for (final String name : ((DBObject) dbVal).keySet()) {
+                    add(batches, mf, ((DBObject) dbVal).get(name));
+                }
+            }
+        } else if (mf.isMultipleValues() && dbVal instanceof Collection) {
+            for (final Object val : (Collection) dbVal) {
+                add(batches, mf, val);
+            }
+        } else {
+            add(batches, mf, dbVal);
+        }
+    }
+
+    private void add(final Map<String, CollectionBatch> batches, final MappedField mf, final Object ref) {
+        final boolean idOnly = mf.getAnnotation(Reference.class).idOnly();
+        if (ref == null || !idOnly && !(ref instanceof DBRef)) {
+            return;
+        }
+
+        final Class type = mf.isSingleValue() ? mf.getType() : mf.getSubClass();
+        final Object id = idOnly ? ref : ((DBRef) ref).getId();
+        final Key key = mapper.createKey(type, id);
+        if (!requested.add(key)) {
+            return;
+        }
+
+        final String collectionName = idOnly ? mapper.getCollectionName(type) : ((DBRef) ref).getCollectionName();
+        CollectionBatch batch = batches.get(collectionName);
+        if (batch == null) {
+            batch = new CollectionBatch(collectionName);
+            batches.put(collectionName, batch);
+        }
+        batch.add(key, mf, id);
+    }
+
+    private final class CollectionBatch {
+        private final String collectionName;
+        private final List<PendingReference> pending = new ArrayList<PendingReference>();
+        private final Map<Object, DBObject> documents = new HashMap<Object, DBObject>();
+
+        private CollectionBatch(final String collectionName) {
+            this.collectionName = collectionName;
+        }
+
+        void add(final Key key, final MappedField mf, final Object id) {
+            if (id instanceof DBObject) {
+                ((DBObject) id).removeField(Mapper.CLASS_NAME_FIELDNAME);
+            }
+            pending.add(new PendingReference(key, mf, id));
+        }
+
+        void fetch(final Map<Class, List<DBObject>> fetched) {
+            final Set<Object> ids = new HashSet<Object>();
+            for (final PendingReference reference : pending) {
+                ids.add(reference.id);
+            }
+
+            final DBCollection collection = datastore.getDB().getCollection(collectionName);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace(format("Resolving %d references from '%s'", ids.size(), collectionName));
+            }
+            final DBCursor cursor = collection.find(new BasicDBObject(Mapper.ID_KEY, new BasicDBObject("$in", ids)));
+            try {
+                while (cursor.hasNext()) {
+                    final DBObject dbObject = cursor.next();
+                    documents.put(dbObject.get(Mapper.ID_KEY), dbObject);
+                }
+            } finally {
+                cursor.close();
+            }
+
+            for (final PendingReference reference : pending) {
+                final DBObject dbObject = documents.get(reference.id);
+                if (dbObject != null) {
+                    List<DBObject> list = fetched.get(reference.key.getType());
+                    if (list == null) {
+                        list = new ArrayList<DBObject>();
+                        fetched.put(reference.key.getType(), list);
+                    }
+                    list.add(dbObject);
+                }
+            }
+        }
+
+        void decode() {
+            for (final PendingReference reference : pending) {
+                final DBObject dbObject = documents.get(reference.id);
+                if (dbObject == null) {
+                    cache.notifyExists(reference.key, false);
+                } else if (cache.getEntity(reference.key) == null) {
+                    Object entity = mapper.getOptions().getObjectFactory().createInstance(mapper, reference.mf, dbObject);
+                    entity = mapper.fromDb(datastore, dbObject, entity, cache);
+                    cache.putEntity(reference.key, entity);
+                }
+            }
+        }
+    }
+
+    private static final class PendingReference {
+        private final Key key;
+        private final MappedField mf;
+        private final Object id;
+
+        private PendingReference(final Key key, final MappedField mf, final Object id) {
+            this.key = key;
+            this.mf = mf;
+            this.id = id;
+        }
+    }
+}
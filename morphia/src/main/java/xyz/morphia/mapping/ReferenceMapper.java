@@ -10,6 +10,7 @@ import xyz.morphia.annotations.Reference;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
 import xyz.morphia.mapping.cache.EntityCache;
+import xyz.morphia.mapping.cache.SecondLevelCache;
 import xyz.morphia.mapping.lazy.LazyFeatureDependencies;
 import xyz.morphia.mapping.lazy.proxy.ProxiedEntityReference;
 import xyz.morphia.mapping.lazy.proxy.ProxiedEntityReferenceList;
@@ -294,6 +295,24 @@ class ReferenceMapper implements CustomMapper {
         }
     }
 
+    private DBObject findOne(final Mapper mapper, final DBCollection collection, final Class type, final Object id) {
+        final SecondLevelCache secondLevelCache = mapper.getOptions().getSecondLevelCache();
+        final Key<?> cacheKey = secondLevelCache != null ? mapper.toCacheKey(type, collection.getName(), id) : null;
+        if (cacheKey == null) {
+            return collection.findOne(id);
+        }
+
+        DBObject document = secondLevelCache.get(cacheKey);
+        if (document == null) {
+            final long version = secondLevelCache.getVersion();
+            document = collection.findOne(id);
+            if (document != null) {
+                secondLevelCache.put(cacheKey, document, version);
+            }
+        }
+        return document;
+    }
+
     Object resolveObject(final Datastore datastore, final Mapper mapper, final EntityCache cache, final MappedField mf,
                          final boolean idOnly, final Object ref) {
         if (ref == null) {
@@ -309,21 +328,24 @@ class ReferenceMapper implements CustomMapper {
             return cached;
         }
 
-        final DBObject refDbObject;
-        DBCollection collection;
-        Object id;
+        DBObject refDbObject = null;
+        // a batch lookup has already found this reference to be missing
+        if (!Boolean.FALSE.equals(cache.exists(key))) {
+            DBCollection collection;
+            Object id;
 
-        if (idOnly) {
-            collection = datastore.getCollection(key.getType());
-            id = ref;
-        } else {
-            collection = datastore.getDB().getCollection(dbRef.getCollectionName());
-            id = dbRef.getId();
-        }
-        if (id instanceof DBObject) {
-            ((DBObject) id).removeField(Mapper.CLASS_NAME_FIELDNAME);
+            if (idOnly) {
+                collection = datastore.getCollection(key.getType());
+                id = ref;
+            } else {
+                collection = datastore.getDB().getCollection(dbRef.getCollectionName());
+                id = dbRef.getId();
+            }
+            if (id instanceof DBObject) {
+                ((DBObject) id).removeField(Mapper.CLASS_NAME_FIELDNAME);
+            }
+            refDbObject = findOne(mapper, collection, key.getType(), id);
         }
-        refDbObject = collection.findOne(id);
 
         if (refDbObject != null) {
             Object refObj = mapper.getOptions().getObjectFactory().createInstance(mapper, mf, refDbObject);
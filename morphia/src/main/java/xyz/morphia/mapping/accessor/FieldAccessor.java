@@ -0,0 +1,118 @@
+package xyz.morphia.mapping.accessor;
+
+/**
+ * Reads and writes the value of one field.  The primitive methods avoid boxing and may only be used when the field has that primitive
+ * type.
+ *
+ * @see FieldAccessorFactory
+ * @since 1.5
+ */
+public interface FieldAccessor {
+    /**
+     * @param instance the instance to read from
+     * @return the value of the field, boxed if the field is primitive
+     */
+    Object get(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value, boxed if the field is primitive
+     */
+    void set(Object instance, Object value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the boolean field
+     */
+    boolean getBoolean(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setBoolean(Object instance, boolean value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the byte field
+     */
+    byte getByte(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setByte(Object instance, byte value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the char field
+     */
+    char getChar(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setChar(Object instance, char value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the short field
+     */
+    short getShort(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setShort(Object instance, short value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the int field
+     */
+    int getInt(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setInt(Object instance, int value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the long field
+     */
+    long getLong(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setLong(Object instance, long value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the float field
+     */
+    float getFloat(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setFloat(Object instance, float value);
+
+    /**
+     * @param instance the instance to read from
+     * @return the value of the double field
+     */
+    double getDouble(Object instance);
+
+    /**
+     * @param instance the instance to update
+     * @param value    the new value
+     */
+    void setDouble(Object instance, double value);
+}
@@ -0,0 +1,20 @@
+package xyz.morphia.mapping.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Factory for the accessors used to read and write the fields of mapped classes.  The factory is consulted once per field when a class
+ * is mapped.
+ *
+ * @see xyz.morphia.mapping.MapperOptions#setFieldAccessorFactory(FieldAccessorFactory)
+ * @since 1.5
+ */
+public interface FieldAccessorFactory {
+    /**
+     * Creates the accessor for a field
+     *
+     * @param field the field to access
+     * @return the accessor
+     */
+    FieldAccessor create(Field field);
+}
@@ -0,0 +1,194 @@
+package xyz.morphia.mapping.accessor;
+
+import xyz.morphia.mapping.MappingException;
+
+import java.lang.reflect.Field;
+
+import static java.lang.String.format;
+
+/**
+ * Creates accessors which use {@link Field} reflection.  This is the default strategy and works on every JVM.
+ *
+ * @since 1.5
+ */
+public class ReflectiveFieldAccessorFactory implements FieldAccessorFactory {
+    @Override
+    public FieldAccessor create(final Field field) {
+        field.setAccessible(true);
+        return new ReflectiveFieldAccessor(field);
+    }
+
+    private static final class ReflectiveFieldAccessor implements FieldAccessor {
+        private final Field field;
+
+        private ReflectiveFieldAccessor(final Field field) {
+            this.field = field;
+        }
+
+        @Override
+        public Object get(final Object instance) {
+            try {
+                return field.get(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void set(final Object instance, final Object value) {
+            try {
+                field.set(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public boolean getBoolean(final Object instance) {
+            try {
+                return field.getBoolean(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setBoolean(final Object instance, final boolean value) {
+            try {
+                field.setBoolean(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public byte getByte(final Object instance) {
+            try {
+                return field.getByte(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setByte(final Object instance, final byte value) {
+            try {
+                field.setByte(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public char getChar(final Object instance) {
+            try {
+                return field.getChar(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setChar(final Object instance, final char value) {
+            try {
+                field.setChar(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public short getShort(final Object instance) {
+            try {
+                return field.getShort(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setShort(final Object instance, final short value) {
+            try {
+                field.setShort(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public int getInt(final Object instance) {
+            try {
+                return field.getInt(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setInt(final Object instance, final int value) {
+            try {
+                field.setInt(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public long getLong(final Object instance) {
+            try {
+                return field.getLong(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setLong(final Object instance, final long value) {
+            try {
+                field.setLong(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public float getFloat(final Object instance) {
+            try {
+                return field.getFloat(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setFloat(final Object instance, final float value) {
+            try {
+                field.setFloat(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public double getDouble(final Object instance) {
+            try {
+                return field.getDouble(instance);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        @Override
+        public void setDouble(final Object instance, final double value) {
+            try {
+                field.setDouble(instance, value);
+            } catch (IllegalAccessException e) {
+                throw accessFailure(e);
+            }
+        }
+
+        private MappingException accessFailure(final IllegalAccessException e) {
+            return new MappingException(format("Could not access %s.%s", field.getDeclaringClass().getName(), field.getName()), e);
+        }
+    }
+}
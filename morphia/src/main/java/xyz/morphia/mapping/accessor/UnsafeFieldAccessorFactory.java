@@ -0,0 +1,248 @@
+package xyz.morphia.mapping.accessor;
+
+import xyz.morphia.internal.UnsafeAccess;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import static java.lang.String.format;
+
+/**
+ * Creates accessors which read and write fields directly at their memory offsets through {@code sun.misc.Unsafe}, which is reached
+ * through {@link UnsafeAccess}.  This bypasses the access checks of the reflective path.  Fields this strategy can not handle, such as
+ * volatile fields, and JVMs which do not provide {@code sun.misc.Unsafe} fall back to {@link ReflectiveFieldAccessorFactory}.  The
+ * primitive methods only touch memory when they match the type of the field; other calls go through reflection, which widens or rejects
+ * them as {@link Field} does.
+ *
+ * @since 1.5
+ */
+public class UnsafeFieldAccessorFactory implements FieldAccessorFactory {
+    private static final boolean AVAILABLE = UnsafeAccess.isAvailable();
+
+    private final ReflectiveFieldAccessorFactory fallback = new ReflectiveFieldAccessorFactory();
+
+    /**
+     * @return true if this JVM supports direct field access
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    public FieldAccessor create(final Field field) {
+        final int modifiers = field.getModifiers();
+        if (!AVAILABLE || Modifier.isStatic(modifiers) || Modifier.isVolatile(modifiers)) {
+            return fallback.create(field);
+        }
+        return new UnsafeFieldAccessor(field, fallback.create(field));
+    }
+
+    private static final class UnsafeFieldAccessor implements FieldAccessor {
+        private final Field field;
+        private final Class<?> type;
+        private final Class<?> accessType;
+        private final Class<?> declaringClass;
+        private final long offset;
+        private final FieldAccessor reflective;
+
+        private UnsafeFieldAccessor(final Field field, final FieldAccessor reflective) {
+            this.field = field;
+            this.reflective = reflective;
+            type = field.getType();
+            accessType = type.isPrimitive() ? type : Object.class;
+            declaringClass = field.getDeclaringClass();
+            offset = UnsafeAccess.objectFieldOffset(field);
+        }
+
+        @Override
+        public Object get(final Object instance) {
+            return UnsafeAccess.get(checkInstance(instance), offset, accessType);
+        }
+
+        @Override
+        public void set(final Object instance, final Object value) {
+            final Object target = checkInstance(instance);
+            final Object converted;
+            if (!type.isPrimitive()) {
+                if (value != null && !type.isInstance(value)) {
+                    throw illegalValue(value);
+                }
+                converted = value;
+            } else if (type == int.class) {
+                converted = value instanceof Character ? (int) (Character) value : (int) toLong(value, Integer.class);
+            } else if (type == long.class) {
+                converted = value instanceof Character ? (long) (Character) value : toLong(value, Long.class);
+            } else if (type == double.class) {
+                converted = toDouble(value, Double.class);
+            } else if (type == boolean.class) {
+                if (!(value instanceof Boolean)) {
+                    throw illegalValue(value);
+                }
+                converted = value;
+            } else if (type == float.class) {
+                converted = (float) toDouble(value, Float.class);
+            } else if (type == short.class) {
+                converted = (short) toLong(value, Short.class);
+            } else if (type == byte.class) {
+                converted = (byte) toLong(value, Byte.class);
+            } else {
+                if (!(value instanceof Character)) {
+                    throw illegalValue(value);
+                }
+                converted = value;
+            }
+            UnsafeAccess.put(target, offset, accessType, converted);
+        }
+
+        @Override
+        public boolean getBoolean(final Object instance) {
+            return type == boolean.class ? (Boolean) get(instance) : reflective.getBoolean(instance);
+        }
+
+        @Override
+        public void setBoolean(final Object instance, final boolean value) {
+            if (type == boolean.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, boolean.class, value);
+            } else {
+                reflective.setBoolean(instance, value);
+            }
+        }
+
+        @Override
+        public byte getByte(final Object instance) {
+            return type == byte.class ? (Byte) get(instance) : reflective.getByte(instance);
+        }
+
+        @Override
+        public void setByte(final Object instance, final byte value) {
+            if (type == byte.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, byte.class, value);
+            } else {
+                reflective.setByte(instance, value);
+            }
+        }
+
+        @Override
+        public char getChar(final Object instance) {
+            return type == char.class ? (Character) get(instance) : reflective.getChar(instance);
+        }
+
+        @Override
+        public void setChar(final Object instance, final char value) {
+            if (type == char.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, char.class, value);
+            } else {
+                reflective.setChar(instance, value);
+            }
+        }
+
+        @Override
+        public short getShort(final Object instance) {
+            return type == short.class ? (Short) get(instance) : reflective.getShort(instance);
+        }
+
+        @Override
+        public void setShort(final Object instance, final short value) {
+            if (type == short.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, short.class, value);
+            } else {
+                reflective.setShort(instance, value);
+            }
+        }
+
+        @Override
+        public int getInt(final Object instance) {
+            return type == int.class ? (Integer) get(instance) : reflective.getInt(instance);
+        }
+
+        @Override
+        public void setInt(final Object instance, final int value) {
+            if (type == int.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, int.class, value);
+            } else {
+                reflective.setInt(instance, value);
+            }
+        }
+
+        @Override
+        public long getLong(final Object instance) {
+            return type == long.class ? (Long) get(instance) : reflective.getLong(instance);
+        }
+
+        @Override
+        public void setLong(final Object instance, final long value) {
+            if (type == long.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, long.class, value);
+            } else {
+                reflective.setLong(instance, value);
+            }
+        }
+
+        @Override
+        public float getFloat(final Object instance) {
+            return type == float.class ? (Float) get(instance) : reflective.getFloat(instance);
+        }
+
+        @Override
+        public void setFloat(final Object instance, final float value) {
+            if (type == float.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, float.class, value);
+            } else {
+                reflective.setFloat(instance, value);
+            }
+        }
+
+        @Override
+        public double getDouble(final Object instance) {
+            return type == double.class ? (Double) get(instance) : reflective.getDouble(instance);
+        }
+
+        @Override
+        public void setDouble(final Object instance, final double value) {
+            if (type == double.class) {
+                UnsafeAccess.put(checkInstance(instance), offset, double.class, value);
+            } else {
+                reflective.setDouble(instance, value);
+            }
+        }
+
+        private Object checkInstance(final Object instance) {
+            if (!declaringClass.isInstance(instance)) {
+                throw new IllegalArgumentException(format("Can not access %s.%s on %s", declaringClass.getName(), field.getName(),
+                                                          instance == null ? null : instance.getClass().getName()));
+            }
+            return instance;
+        }
+
+        /**
+         * Unboxes an integral value allowing the same widening conversions as {@link Field#set(Object, Object)}.
+         */
+        private long toLong(final Object value, final Class<? extends Number> widest) {
+            if (value instanceof Byte
+                || value instanceof Short && widest != Byte.class
+                || value instanceof Integer && (widest == Integer.class || widest == Long.class)
+                || value instanceof Long && widest == Long.class) {
+                return ((Number) value).longValue();
+            }
+            throw illegalValue(value);
+        }
+
+        /**
+         * Unboxes a floating point value allowing the same widening conversions as {@link Field#set(Object, Object)}.
+         */
+        private double toDouble(final Object value, final Class<? extends Number> widest) {
+            if (value instanceof Character) {
+                return (Character) value;
+            }
+            if (value instanceof Float || value instanceof Double && widest == Double.class) {
+                return ((Number) value).doubleValue();
+            }
+            return toLong(value, Long.class);
+        }
+
+        private IllegalArgumentException illegalValue(final Object value) {
+            return new IllegalArgumentException(format("Can not set %s field %s.%s to %s", type.getName(), declaringClass.getName(),
+                                                       field.getName(), value == null ? "null value" : value.getClass().getName()));
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the strategies used to read and write the fields of mapped classes
+ */
+package xyz.morphia.mapping.accessor;
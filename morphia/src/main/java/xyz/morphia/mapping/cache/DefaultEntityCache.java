@@ -6,21 +6,39 @@ import xyz.morphia.mapping.lazy.LazyFeatureDependencies;
 import xyz.morphia.mapping.lazy.proxy.ProxyHelper;
 import relocated.morphia.org.apache.commons.collections.ReferenceMap;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 /**
- * This is the default EntityCache for Morphia
+ * This is the default EntityCache for Morphia.  It can be used by several threads at once.
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class DefaultEntityCache implements EntityCache {
 
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private final Map entityMap = new ReferenceMap(ReferenceMap.HARD, ReferenceMap.WEAK);
-    private final Map proxyMap = new ReferenceMap(ReferenceMap.WEAK, ReferenceMap.WEAK);
-    private final Map<Key, Boolean> existenceMap = new HashMap<Key, Boolean>();
-    private final EntityCacheStatistics stats = new EntityCacheStatistics();
+    private final Map entityMap = Collections.synchronizedMap(new ReferenceMap(ReferenceMap.HARD, ReferenceMap.WEAK));
+    private final Map proxyMap = Collections.synchronizedMap(new ReferenceMap(ReferenceMap.WEAK, ReferenceMap.WEAK));
+    private final Map<Key, Boolean> existenceMap = new ConcurrentHashMap<Key, Boolean>();
+    private final EntityCacheStatistics stats;
+
+    /**
+     * Creates a cache
+     */
+    public DefaultEntityCache() {
+        this(null);
+    }
+
+    /**
+     * Creates a cache whose statistics are also counted in aggregate statistics
+     *
+     * @param aggregate the statistics aggregating those of this cache, or null
+     * @since 1.5
+     */
+    public DefaultEntityCache(final EntityCacheStatistics aggregate) {
+        stats = new EntityCacheStatistics(aggregate);
+    }
 
     @Override
     public Boolean exists(final Key<?> k) {
@@ -94,7 +112,7 @@ public class DefaultEntityCache implements EntityCache {
     public <T> void putProxy(final Key<T> k, final T t) {
         proxyMap.put(k, t);
         stats.incEntities();
-
+        stats.incProxies();
     }
 
     @Override
@@ -1,9 +1,11 @@
 package xyz.morphia.mapping.cache;
 
 /**
- * Default implementation of cache factory, returning the default entity cache.
+ * Default implementation of cache factory, returning the default entity cache.  The statistics of the caches it creates are aggregated
+ * in {@link #getStatistics()}.
  */
 public class DefaultEntityCacheFactory implements EntityCacheFactory {
+    private final EntityCacheStatistics statistics = new EntityCacheStatistics();
 
     /**
      * Creates a new DefaultEntityCache
@@ -11,6 +13,18 @@ public class DefaultEntityCacheFactory implements EntityCacheFactory {
      * @return the cache
      */
     public EntityCache createCache() {
-        return new DefaultEntityCache();
+        return new DefaultEntityCache(statistics);
+    }
+
+    /**
+     * Returns the live statistics of all the caches created by this factory.  The entity count is the number of entities ever cached, as
+     * the caches are discarded without being flushed.
+     *
+     * @return the aggregate statistics
+     * @see EntityCacheMetrics#register(String, EntityCacheStatistics)
+     * @since 1.5
+     */
+    public EntityCacheStatistics getStatistics() {
+        return statistics;
     }
 }
@@ -0,0 +1,251 @@
+package xyz.morphia.mapping.cache;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import xyz.morphia.Key;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.Arrays.asList;
+
+/**
+ * A size-bounded {@link SecondLevelCache} evicting the least recently used documents, optionally expiring them after a time to live.
+ * Invalidating a collection takes constant time; its entries are dropped as they are looked up or evicted.
+ * <p>
+ * Invalidations are recorded as version stamps in fixed-size tables indexed by the hash of the key or of the collection, so they take
+ * no room in the cache and are never lost.  A document loaded before the stamp of its slot is neither cached nor returned.  Keys or
+ * collections sharing a slot may see a few extra misses after a write, never a stale document.
+ *
+ * @since 1.5
+ */
+public class DefaultSecondLevelCache implements SecondLevelCache {
+    /**
+     * The maximum number of entries used by default
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private static final int KEY_STAMPS = 1024;
+    private static final int COLLECTION_STAMPS = 64;
+
+    private final int maximumSize;
+    private final long timeToLive;
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLongArray keyStamps = new AtomicLongArray(KEY_STAMPS);
+    private final AtomicLongArray collectionStamps = new AtomicLongArray(COLLECTION_STAMPS);
+    private final Map<List<Object>, CacheEntry> entries;
+    private final EntityCacheStatistics statistics = new EntityCacheStatistics();
+    private volatile long clearedAt;
+
+    /**
+     * Creates a cache holding up to {@link #DEFAULT_MAXIMUM_SIZE} documents which do not expire
+     */
+    public DefaultSecondLevelCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a cache whose documents do not expire
+     *
+     * @param maximumSize the maximum number of entries
+     */
+    public DefaultSecondLevelCache(final int maximumSize) {
+        this(maximumSize, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a cache
+     *
+     * @param maximumSize the maximum number of entries
+     * @param timeToLive  how long documents are kept after being loaded.  0 keeps them until they are evicted or invalidated.
+     * @param unit        the unit of the time to live
+     */
+    public DefaultSecondLevelCache(final int maximumSize, final long timeToLive, final TimeUnit unit) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive");
+        }
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("The time to live can not be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = unit.toNanos(timeToLive);
+        entries = new LinkedHashMap<List<Object>, CacheEntry>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<Object>, CacheEntry> eldest) {
+                if (size() > DefaultSecondLevelCache.this.maximumSize) {
+                    statistics.incEvictions();
+                    statistics.addEntities(-1);
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public DBObject get(final Key<?> key) {
+        final List<Object> cacheKey = toCacheKey(key);
+        final long invalidated = getInvalidation(cacheKey, key.getCollection());
+        synchronized (entries) {
+            final CacheEntry entry = entries.get(cacheKey);
+            if (entry != null) {
+                if (invalidated <= entry.version && !entry.isExpired()) {
+                    statistics.incHits();
+                    return (DBObject) entry.document.copy();
+                }
+                entries.remove(cacheKey);
+                statistics.addEntities(-1);
+            }
+        }
+        statistics.incMisses();
+        return null;
+    }
+
+    @Override
+    public long getVersion() {
+        return clock.get();
+    }
+
+    @Override
+    public void put(final Key<?> key, final DBObject document, final long version) {
+        if (!(document instanceof BasicDBObject)) {
+            return;
+        }
+        final CacheEntry entry = new CacheEntry((BasicDBObject) ((BasicDBObject) document).copy(), version,
+                                      timeToLive == 0 ? 0 : System.nanoTime() + timeToLive);
+        final List<Object> cacheKey = toCacheKey(key);
+        synchronized (entries) {
+            // checked under the lock so that an invalidation can not fall between the check and the insertion
+            if (version < clearedAt || getInvalidation(cacheKey, key.getCollection()) > version) {
+                return;
+            }
+            final CacheEntry existing = entries.get(cacheKey);
+            if (existing == null || existing.version <= version) {
+                entries.put(cacheKey, entry);
+                if (existing == null) {
+                    statistics.incEntities();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(final Key<?> key) {
+        final List<Object> cacheKey = toCacheKey(key);
+        synchronized (entries) {
+            stamp(keyStamps, cacheKey.hashCode());
+            if (entries.remove(cacheKey) != null) {
+                statistics.addEntities(-1);
+            }
+        }
+    }
+
+    @Override
+    public void invalidate(final String collection) {
+        stamp(collectionStamps, collection.hashCode());
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            clearedAt = clock.incrementAndGet();
+            statistics.reset();
+        }
+    }
+
+    @Override
+    public EntityCacheStatistics stats() {
+        return statistics.copy();
+    }
+
+    /**
+     * @return the number of documents evicted to stay within the maximum size
+     */
+    public long getEvictionCount() {
+        return statistics.getEvictions();
+    }
+
+    /**
+     * Returns the live statistics of this cache, which can be exported with {@link EntityCacheMetrics}.  The entity count includes the
+     * documents of invalidated collections not dropped yet.
+     *
+     * @return the statistics
+     */
+    public EntityCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return the maximum number of entries
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time to live of the documents, 0 if they do not expire
+     */
+    public long getTimeToLive(final TimeUnit unit) {
+        return unit.convert(timeToLive, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return the number of documents in the cache, including those of invalidated collections not dropped yet
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + ": " + statistics;
+    }
+
+    private static List<Object> toCacheKey(final Key<?> key) {
+        return asList(key.getCollection(), key.getId());
+    }
+
+    private static int slot(final AtomicLongArray stamps, final int hash) {
+        final int spread = hash ^ (hash >>> 16);
+        return spread & (stamps.length() - 1);
+    }
+
+    /**
+     * @return the version of the last invalidation of the slots of a key and of its collection
+     */
+    private long getInvalidation(final List<Object> cacheKey, final String collection) {
+        return Math.max(keyStamps.get(slot(keyStamps, cacheKey.hashCode())),
+                        collectionStamps.get(slot(collectionStamps, collection.hashCode())));
+    }
+
+    private void stamp(final AtomicLongArray stamps, final int hash) {
+        stamps.set(slot(stamps, hash), clock.incrementAndGet());
+    }
+
+    /**
+     * A cached document and the version of the cache it was loaded at.
+     */
+    private static final class CacheEntry {
+        private final BasicDBObject document;
+        private final long version;
+        private final long expiresAt;
+
+        private CacheEntry(final BasicDBObject document, final long version, final long expiresAt) {
+            this.document = document;
+            this.version = version;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired() {
+            return expiresAt != 0 && System.nanoTime() - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package xyz.morphia.mapping.cache;
+
+import xyz.morphia.mapping.MappingException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Exports {@link EntityCacheStatistics} through JMX so the caches can be sized from the figures of running applications.  The statistics
+ * are registered with the platform MBean server under the name {@code xyz.morphia:type=EntityCache,name=<name>}.
+ * <p>
+ * The aggregate statistics of the query caches are available from {@link DefaultEntityCacheFactory#getStatistics()} and those of a
+ * {@link DefaultSecondLevelCache} from {@link DefaultSecondLevelCache#getStatistics()}.
+ *
+ * @since 1.5
+ */
+public final class EntityCacheMetrics {
+    /**
+     * The JMX domain of the statistics
+     */
+    public static final String DOMAIN = "xyz.morphia";
+
+    private EntityCacheMetrics() {
+    }
+
+    /**
+     * Creates the JMX name of the statistics of a cache
+     *
+     * @param name the name of the cache
+     * @return the JMX name
+     */
+    public static ObjectName objectName(final String name) {
+        try {
+            return new ObjectName(DOMAIN + ":type=EntityCache,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new MappingException("Invalid cache name: " + name, e);
+        }
+    }
+
+    /**
+     * Registers statistics with the platform MBean server, replacing any statistics registered under the same name
+     *
+     * @param name       the name of the cache
+     * @param statistics the live statistics of the cache
+     * @return the JMX name of the statistics
+     */
+    public static ObjectName register(final String name, final EntityCacheStatistics statistics) {
+        final ObjectName objectName = objectName(name);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            synchronized (EntityCacheMetrics.class) {
+                if (server.isRegistered(objectName)) {
+                    server.unregisterMBean(objectName);
+                }
+                server.registerMBean(statistics, objectName);
+            }
+        } catch (JMException e) {
+            throw new MappingException("Could not register the statistics of the cache " + name, e);
+        }
+        return objectName;
+    }
+
+    /**
+     * Removes the statistics of a cache from the platform MBean server
+     *
+     * @param name the name of the cache
+     * @return true if statistics were registered under the name
+     */
+    public static boolean unregister(final String name) {
+        final ObjectName objectName = objectName(name);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            synchronized (EntityCacheMetrics.class) {
+                if (!server.isRegistered(objectName)) {
+                    return false;
+                }
+                server.unregisterMBean(objectName);
+                return true;
+            }
+        } catch (JMException e) {
+            throw new MappingException("Could not unregister the statistics of the cache " + name, e);
+        }
+    }
+}
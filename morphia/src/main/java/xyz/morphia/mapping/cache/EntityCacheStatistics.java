@@ -1,59 +1,170 @@
 package xyz.morphia.mapping.cache;
 
 
+import xyz.morphia.internal.StripedCounter;
+
 /**
- * This class stores various statistics on an EntityCache
+ * This class stores various statistics on an EntityCache.  The counters can be updated and read concurrently.  Statistics created with
+ * a parent also count their updates in it, which lets the parent aggregate the statistics of many caches.
+ *
+ * @see EntityCacheMetrics
  */
-public class EntityCacheStatistics {
-    private int entities;
-    private int hits;
-    private int misses;
+public class EntityCacheStatistics implements EntityCacheStatisticsMBean {
+    private final EntityCacheStatistics parent;
+    private final StripedCounter entities = new StripedCounter();
+    private final StripedCounter hits = new StripedCounter();
+    private final StripedCounter misses = new StripedCounter();
+    private final StripedCounter proxies = new StripedCounter();
+    private final StripedCounter evictions = new StripedCounter();
+
+    /**
+     * Creates empty statistics
+     */
+    public EntityCacheStatistics() {
+        this(null);
+    }
+
+    /**
+     * Creates empty statistics whose updates are also counted in a parent
+     *
+     * @param parent the statistics aggregating these, or null
+     * @since 1.5
+     */
+    public EntityCacheStatistics(final EntityCacheStatistics parent) {
+        this.parent = parent;
+    }
 
     /**
-     * Copies the statistics
+     * Copies the statistics.  The copy is not linked to the parent of these statistics.
      *
      * @return the copy
      */
     public EntityCacheStatistics copy() {
         final EntityCacheStatistics copy = new EntityCacheStatistics();
-        copy.entities = entities;
-        copy.hits = hits;
-        copy.misses = misses;
+        copy.entities.add(entities.sum());
+        copy.hits.add(hits.sum());
+        copy.misses.add(misses.sum());
+        copy.proxies.add(proxies.sum());
+        copy.evictions.add(evictions.sum());
         return copy;
     }
 
+    @Override
+    public long getEntities() {
+        return entities.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getProxies() {
+        return proxies.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public double getHitRatio() {
+        final long found = getHits();
+        final long lookups = found + getMisses();
+        return lookups == 0 ? 0 : (double) found / lookups;
+    }
+
+    /**
+     * @return the statistics aggregating these, or null
+     * @since 1.5
+     */
+    public EntityCacheStatistics getParent() {
+        return parent;
+    }
+
     /**
      * Increments the entity count
      */
     public void incEntities() {
-        entities++;
+        addEntities(1);
     }
 
     /**
      * Increments the hit count
      */
     public void incHits() {
-        hits++;
+        hits.increment();
+        if (parent != null) {
+            parent.incHits();
+        }
     }
 
     /**
      * Increments the miss count
      */
     public void incMisses() {
-        misses++;
+        misses.increment();
+        if (parent != null) {
+            parent.incMisses();
+        }
     }
 
     /**
-     * Clears the statistics
+     * Increments the proxy count
+     *
+     * @since 1.5
      */
+    public void incProxies() {
+        proxies.increment();
+        if (parent != null) {
+            parent.incProxies();
+        }
+    }
+
+    /**
+     * Increments the eviction count
+     *
+     * @since 1.5
+     */
+    public void incEvictions() {
+        evictions.increment();
+        if (parent != null) {
+            parent.incEvictions();
+        }
+    }
+
+    /**
+     * Clears the statistics.  The parent keeps the updates counted so far.
+     */
+    @Override
     public void reset() {
-        entities = 0;
-        hits = 0;
-        misses = 0;
+        entities.reset();
+        hits.reset();
+        misses.reset();
+        proxies.reset();
+        evictions.reset();
     }
 
     @Override
     public String toString() {
-        return getClass().getSimpleName() + ": " + entities + " entities, " + hits + " hits, " + misses + " misses.";
+        return getClass().getSimpleName() + ": " + entities + " entities, " + proxies + " proxies, " + hits + " hits, " + misses
+               + " misses, " + evictions + " evictions.";
+    }
+
+    /**
+     * Adds to the entity count, which goes down for caches removing entities.
+     */
+    void addEntities(final long delta) {
+        entities.add(delta);
+        if (parent != null) {
+            parent.addEntities(delta);
+        }
     }
 }
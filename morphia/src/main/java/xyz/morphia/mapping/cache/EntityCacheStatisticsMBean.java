@@ -0,0 +1,44 @@
+package xyz.morphia.mapping.cache;
+
+/**
+ * The management interface of the {@link EntityCacheStatistics} registered with JMX.
+ *
+ * @see EntityCacheMetrics#register(String, EntityCacheStatistics)
+ * @since 1.5
+ */
+public interface EntityCacheStatisticsMBean {
+    /**
+     * @return the number of entities in the cache
+     */
+    long getEntities();
+
+    /**
+     * @return the number of lookups which found an entry
+     */
+    long getHits();
+
+    /**
+     * @return the number of lookups which found no entry
+     */
+    long getMisses();
+
+    /**
+     * @return the number of proxies added to the cache
+     */
+    long getProxies();
+
+    /**
+     * @return the number of entries dropped to stay within the size of the cache
+     */
+    long getEvictions();
+
+    /**
+     * @return the share of lookups which found an entry, between 0 and 1
+     */
+    double getHitRatio();
+
+    /**
+     * Clears the statistics
+     */
+    void reset();
+}
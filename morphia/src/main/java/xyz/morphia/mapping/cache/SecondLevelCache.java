@@ -0,0 +1,65 @@
+package xyz.morphia.mapping.cache;
+
+import com.mongodb.DBObject;
+import xyz.morphia.Key;
+
+/**
+ * A cache of documents shared by all queries of a Datastore, unlike the {@link EntityCache} created for every query.  Lookups by id read
+ * through it and the Datastore invalidates its entries when writing to their collections.  Entities are mapped from the cached documents
+ * for every lookup, so the cache never hands out instances shared between callers.
+ * <p>
+ * Entries are keyed by the collection and id of a {@link Key}; the type of the Key is ignored.  Implementations must be thread-safe.
+ *
+ * @see xyz.morphia.mapping.MapperOptions#setSecondLevelCache(SecondLevelCache)
+ * @since 1.5
+ */
+public interface SecondLevelCache {
+    /**
+     * Looks up a document
+     *
+     * @param key the Key of the document
+     * @return a copy of the document or null if it is not cached
+     */
+    DBObject get(Key<?> key);
+
+    /**
+     * Returns the version to pass to {@link #put(Key, DBObject, long)}.  It has to be read before the document is loaded from the
+     * database so that a document loaded concurrently with a write to it is not cached.
+     *
+     * @return the current version of the cache
+     */
+    long getVersion();
+
+    /**
+     * Caches a document unless it has been invalidated since the given version.
+     *
+     * @param key      the Key of the document
+     * @param document the document
+     * @param version  the version read before loading the document
+     */
+    void put(Key<?> key, DBObject document, long version);
+
+    /**
+     * Invalidates a document
+     *
+     * @param key the Key of the document
+     */
+    void invalidate(Key<?> key);
+
+    /**
+     * Invalidates all the documents of a collection
+     *
+     * @param collection the name of the collection
+     */
+    void invalidate(String collection);
+
+    /**
+     * Removes all entries
+     */
+    void clear();
+
+    /**
+     * @return the stats for this cache
+     */
+    EntityCacheStatistics stats();
+}
@@ -0,0 +1,158 @@
+package xyz.morphia.mapping.generated;
+
+import xyz.morphia.mapping.MappingException;
+import xyz.morphia.utils.ReflectionUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the index of the {@link xyz.morphia.annotations.Entity} and {@link xyz.morphia.annotations.Embedded} classes written at compile
+ * time by the morphia-processor module.  Each jar or class directory compiled with the processor carries a {@link #RESOURCE} file listing
+ * the binary names of its mapped classes, one per line, so the classes of a package can be found without scanning the classpath.  The
+ * mapped classes include the subclasses and implementations of the annotated types.  An index only describes the jar or directory it
+ * was found in; the other locations of the classpath still need to be scanned.
+ *
+ * @see xyz.morphia.Morphia#mapPackage(String, boolean)
+ * @since 1.5
+ */
+public final class EntityIndex {
+    /**
+     * The location of the index files
+     */
+    public static final String RESOURCE = "META-INF/morphia/entities";
+
+    private EntityIndex() {
+    }
+
+    /**
+     * Reads the names of the classes listed by the index files visible to a ClassLoader
+     *
+     * @param loader the ClassLoader to use
+     * @return the binary names of the classes, empty if no index is found
+     */
+    public static Set<String> getClassNames(final ClassLoader loader) {
+        final Set<String> names = new LinkedHashSet<String>();
+        for (final Set<String> indexed : getIndexes(loader).values()) {
+            names.addAll(indexed);
+        }
+        return names;
+    }
+
+    /**
+     * Reads the index files visible to a ClassLoader
+     *
+     * @param loader the ClassLoader to use
+     * @return the binary names of the classes listed by each index, keyed by the {@link #getRoot(URL, String) root} carrying the index
+     */
+    public static Map<String, Set<String>> getIndexes(final ClassLoader loader) {
+        final Map<String, Set<String>> indexes = new LinkedHashMap<String, Set<String>>();
+        try {
+            final Enumeration<URL> resources = loader.getResources(RESOURCE);
+            while (resources.hasMoreElements()) {
+                final URL resource = resources.nextElement();
+                final String root = getRoot(resource, RESOURCE);
+                if (!indexes.containsKey(root)) {
+                    final Set<String> names = new LinkedHashSet<String>();
+                    read(resource, names);
+                    indexes.put(root, names);
+                }
+            }
+        } catch (IOException e) {
+            throw new MappingException("Could not read the entity index " + RESOURCE, e);
+        }
+        return indexes;
+    }
+
+    /**
+     * Gets the mappable classes of a package.  The classes of the jars and directories carrying an index are read from their index, and
+     * the other locations of the package are scanned.
+     *
+     * @param loader         the ClassLoader to use
+     * @param packageName    the package to look up
+     * @param mapSubPackages whether to include the classes of the sub-packages
+     * @return the classes
+     * @throws IOException            thrown if an error is encountered scanning packages
+     * @throws ClassNotFoundException thrown if a scanned class can not be found
+     * @see ReflectionUtils#getClasses(ClassLoader, String, boolean)
+     */
+    public static Set<Class<?>> getClasses(final ClassLoader loader, final String packageName, final boolean mapSubPackages)
+        throws IOException, ClassNotFoundException {
+        final String path = packageName.replace('.', '/');
+        final Map<String, Set<String>> indexes = getIndexes(loader);
+        final Set<Class<?>> classes = new LinkedHashSet<Class<?>>();
+        final Enumeration<URL> resources = loader.getResources(path);
+        while (resources.hasMoreElements()) {
+            final URL resource = resources.nextElement();
+            final Set<String> names = indexes.get(getRoot(resource, path));
+            if (names == null) {
+                classes.addAll(ReflectionUtils.getClasses(loader, resource, packageName, mapSubPackages));
+            } else {
+                addIndexed(classes, loader, names, packageName, mapSubPackages);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Gets the jar or directory of the classpath a resource was found in.  Roots are compared as strings, in the form of the locations
+     * listed by a {@link java.net.URLClassLoader}, without any trailing slash.
+     *
+     * @param resource the URL of the resource, or of a classpath location when the path is empty
+     * @param path     the path of the resource in its root
+     * @return the root
+     */
+    public static String getRoot(final URL resource, final String path) {
+        String root = resource.toExternalForm();
+        if (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        if (!path.isEmpty() && root.endsWith(path)) {
+            root = root.substring(0, root.length() - path.length());
+        }
+        if (root.endsWith("/")) {
+            root = root.substring(0, root.length() - 1);
+        }
+        if (root.startsWith("jar:") && root.endsWith("!")) {
+            root = root.substring("jar:".length(), root.length() - 1);
+        }
+        return root;
+    }
+
+    private static void addIndexed(final Set<Class<?>> classes, final ClassLoader loader, final Set<String> names,
+                                   final String packageName, final boolean mapSubPackages) {
+        for (final String name : names) {
+            final int dot = name.lastIndexOf('.');
+            final String classPackage = dot < 0 ? "" : name.substring(0, dot);
+            if (classPackage.equals(packageName) || mapSubPackages && classPackage.startsWith(packageName + ".")) {
+                try {
+                    classes.add(Class.forName(name, true, loader));
+                } catch (ClassNotFoundException e) {
+                    throw new MappingException("Could not load the indexed class " + name, e);
+                }
+            }
+        }
+    }
+
+    private static void read(final URL resource, final Set<String> names) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    names.add(line);
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+}
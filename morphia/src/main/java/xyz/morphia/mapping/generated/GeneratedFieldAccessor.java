@@ -0,0 +1,148 @@
+package xyz.morphia.mapping.generated;
+
+import xyz.morphia.mapping.accessor.FieldAccessor;
+
+/**
+ * The base class of the generated field accessors.  The generated code implements {@link #get(Object)} and {@link #set(Object, Object)},
+ * and the primitive methods matching the type of the field; the other primitive methods go through the boxed ones.  As with
+ * {@link java.lang.reflect.Field}, the primitive getters widen the value of the field and throw an {@link IllegalArgumentException} when
+ * it can not be widened.
+ *
+ * @since 1.5
+ */
+public abstract class GeneratedFieldAccessor implements FieldAccessor {
+    @Override
+    public boolean getBoolean(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        throw mismatch(value, "boolean");
+    }
+
+    @Override
+    public void setBoolean(final Object instance, final boolean value) {
+        set(instance, value);
+    }
+
+    @Override
+    public byte getByte(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Byte) {
+            return (Byte) value;
+        }
+        throw mismatch(value, "byte");
+    }
+
+    @Override
+    public void setByte(final Object instance, final byte value) {
+        set(instance, value);
+    }
+
+    @Override
+    public char getChar(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Character) {
+            return (Character) value;
+        }
+        throw mismatch(value, "char");
+    }
+
+    @Override
+    public void setChar(final Object instance, final char value) {
+        set(instance, value);
+    }
+
+    @Override
+    public short getShort(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).shortValue();
+        }
+        throw mismatch(value, "short");
+    }
+
+    @Override
+    public void setShort(final Object instance, final short value) {
+        set(instance, value);
+    }
+
+    @Override
+    public int getInt(final Object instance) {
+        return widenInt(get(instance), "int");
+    }
+
+    @Override
+    public void setInt(final Object instance, final int value) {
+        set(instance, value);
+    }
+
+    @Override
+    public long getLong(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        return widenInt(value, "long");
+    }
+
+    @Override
+    public void setLong(final Object instance, final long value) {
+        set(instance, value);
+    }
+
+    @Override
+    public float getFloat(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Float) {
+            return (Float) value;
+        } else if (value instanceof Long) {
+            return (Long) value;
+        }
+        return widenInt(value, "float");
+    }
+
+    @Override
+    public void setFloat(final Object instance, final float value) {
+        set(instance, value);
+    }
+
+    @Override
+    public double getDouble(final Object instance) {
+        final Object value = get(instance);
+        if (value instanceof Double || value instanceof Float || value instanceof Long) {
+            return ((Number) value).doubleValue();
+        }
+        return widenInt(value, "double");
+    }
+
+    @Override
+    public void setDouble(final Object instance, final double value) {
+        set(instance, value);
+    }
+
+    /**
+     * Unboxes a value set on a numeric field, widening it as reflection does.
+     *
+     * @param value the boxed value
+     * @return the number
+     */
+    protected static Number toNumber(final Object value) {
+        if (value instanceof Character) {
+            return (int) (Character) value;
+        }
+        return (Number) value;
+    }
+
+    private static int widenInt(final Object value, final String type) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof Character) {
+            return toNumber(value).intValue();
+        }
+        throw mismatch(value, type);
+    }
+
+    private static IllegalArgumentException mismatch(final Object value, final String type) {
+        return new IllegalArgumentException("Can not get a " + type + " from a field holding "
+                                            + (value == null ? "null" : value.getClass().getName()));
+    }
+}
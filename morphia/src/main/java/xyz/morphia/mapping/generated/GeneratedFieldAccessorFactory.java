@@ -0,0 +1,44 @@
+package xyz.morphia.mapping.generated;
+
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.accessor.FieldAccessorFactory;
+import xyz.morphia.mapping.accessor.ReflectiveFieldAccessorFactory;
+
+import java.lang.reflect.Field;
+
+/**
+ * Creates the accessors generated at compile time by the morphia-processor module.  Fields without a generated accessor use the
+ * fallback strategy.
+ *
+ * @see xyz.morphia.mapping.MapperOptions#setFieldAccessorFactory(FieldAccessorFactory)
+ * @since 1.5
+ */
+public class GeneratedFieldAccessorFactory implements FieldAccessorFactory {
+    private final FieldAccessorFactory fallback;
+
+    /**
+     * Creates a factory falling back to reflection
+     */
+    public GeneratedFieldAccessorFactory() {
+        this(new ReflectiveFieldAccessorFactory());
+    }
+
+    /**
+     * Creates a factory with a fallback strategy
+     *
+     * @param fallback the strategy used for fields without a generated accessor
+     */
+    public GeneratedFieldAccessorFactory(final FieldAccessorFactory fallback) {
+        if (fallback == null) {
+            throw new IllegalArgumentException("The fallback field accessor factory can not be null.");
+        }
+        this.fallback = fallback;
+    }
+
+    @Override
+    public FieldAccessor create(final Field field) {
+        final GeneratedMapping mapping = GeneratedMappings.find(field.getDeclaringClass());
+        final FieldAccessor accessor = mapping == null ? null : mapping.getAccessor(field.getName());
+        return accessor != null ? accessor : fallback.create(field);
+    }
+}
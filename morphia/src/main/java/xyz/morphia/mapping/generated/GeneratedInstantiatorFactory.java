@@ -0,0 +1,43 @@
+package xyz.morphia.mapping.generated;
+
+import xyz.morphia.mapping.instantiator.ConstructorInstantiatorFactory;
+import xyz.morphia.mapping.instantiator.Instantiator;
+import xyz.morphia.mapping.instantiator.InstantiatorFactory;
+
+/**
+ * Creates the instantiators generated at compile time by the morphia-processor module.  Classes without a generated instantiator use the
+ * fallback strategy.
+ *
+ * @see xyz.morphia.mapping.DefaultCreator#DefaultCreator(xyz.morphia.mapping.MapperOptions, InstantiatorFactory)
+ * @since 1.5
+ */
+public class GeneratedInstantiatorFactory implements InstantiatorFactory {
+    private final InstantiatorFactory fallback;
+
+    /**
+     * Creates a factory falling back to the no-args constructors
+     */
+    public GeneratedInstantiatorFactory() {
+        this(new ConstructorInstantiatorFactory());
+    }
+
+    /**
+     * Creates a factory with a fallback strategy
+     *
+     * @param fallback the strategy used for classes without a generated instantiator
+     */
+    public GeneratedInstantiatorFactory(final InstantiatorFactory fallback) {
+        if (fallback == null) {
+            throw new IllegalArgumentException("The fallback instantiator factory can not be null.");
+        }
+        this.fallback = fallback;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Instantiator<T> create(final Class<T> type) {
+        final GeneratedMapping mapping = GeneratedMappings.find(type);
+        final Instantiator<T> instantiator = mapping == null ? null : (Instantiator<T>) mapping.getInstantiator();
+        return instantiator != null ? instantiator : fallback.create(type);
+    }
+}
@@ -0,0 +1,51 @@
+package xyz.morphia.mapping.generated;
+
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.instantiator.Instantiator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * The mapping code generated for one class by the morphia-processor annotation processor.  The generated class is named after the binary
+ * name of the mapped class followed by {@link GeneratedMappings#SUFFIX}, lives in the same package, and accesses the fields and the
+ * constructor of the class directly.  Fields and constructors the generated code can not reach, such as private ones, are left to the
+ * reflective strategies.
+ * <p>
+ * The mapping also carries the metadata {@link xyz.morphia.mapping.MappedClass} otherwise discovers by reflection: the annotations of the
+ * declared fields and the lifecycle methods.  A null result means the metadata was not generated and has to be discovered reflectively.
+ *
+ * @see GeneratedMappings#find(Class)
+ * @since 1.5
+ */
+public interface GeneratedMapping {
+    /**
+     * Gets the generated accessor of a field declared by the class
+     *
+     * @param field the java name of the field
+     * @return the accessor, or null if none was generated for the field
+     */
+    FieldAccessor getAccessor(String field);
+
+    /**
+     * @return the generated instantiator of the class, or null if the class has no constructor the generated code can call
+     */
+    Instantiator<?> getInstantiator();
+
+    /**
+     * Gets the annotations of a field declared by the class.  Only the annotations retained at runtime are listed.
+     *
+     * @param field the java name of the field
+     * @return the types of the annotations, or null if they were not generated for the field
+     */
+    List<Class<? extends Annotation>> getAnnotations(String field);
+
+    /**
+     * Gets the lifecycle methods declared by the class, in declaration order
+     *
+     * @param event the lifecycle annotation, such as {@link xyz.morphia.annotations.PrePersist}
+     * @return the instance methods annotated with the event, or null if they were not generated
+     */
+    List<Method> getLifecycleMethods(Class<? extends Annotation> event);
+}
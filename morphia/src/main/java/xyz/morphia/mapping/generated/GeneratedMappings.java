@@ -0,0 +1,124 @@
+package xyz.morphia.mapping.generated;
+
+import relocated.morphia.org.apache.commons.collections.ReferenceMap;
+import xyz.morphia.mapping.MappingException;
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.instantiator.Instantiator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the {@link GeneratedMapping} of classes.  Each class is looked up once; classes compiled without the processor are remembered as
+ * having no generated mapping.  The classes and their mappings are weakly referenced so the ClassLoaders of the applications can be
+ * collected.
+ *
+ * @since 1.5
+ */
+public final class GeneratedMappings {
+    /**
+     * The suffix appended to the binary name of a class to name its generated mapping
+     */
+    public static final String SUFFIX = "_MorphiaMapping";
+
+    private static final GeneratedMapping NONE = new GeneratedMapping() {
+        @Override
+        public FieldAccessor getAccessor(final String field) {
+            return null;
+        }
+
+        @Override
+        public Instantiator<?> getInstantiator() {
+            return null;
+        }
+
+        @Override
+        public List<Class<? extends Annotation>> getAnnotations(final String field) {
+            return null;
+        }
+
+        @Override
+        public List<Method> getLifecycleMethods(final Class<? extends Annotation> event) {
+            return null;
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    private static final Map<Class<?>, GeneratedMapping> MAPPINGS =
+        Collections.synchronizedMap(new ReferenceMap(ReferenceMap.WEAK, ReferenceMap.WEAK));
+
+    private GeneratedMappings() {
+    }
+
+    /**
+     * Finds the generated mapping of a class
+     *
+     * @param type the mapped class
+     * @return the generated mapping, or null if the class was not compiled with the processor
+     */
+    public static GeneratedMapping find(final Class<?> type) {
+        GeneratedMapping mapping = MAPPINGS.get(type);
+        if (mapping == null) {
+            mapping = load(type);
+            MAPPINGS.put(type, mapping);
+        }
+        return mapping == NONE ? null : mapping;
+    }
+
+    /**
+     * Checks whether a field carries an annotation.  The annotations listed by the generated mapping of the declaring class are used when
+     * there are some, so the annotations of the field are only read reflectively once they are known to be present.
+     *
+     * @param field      the field
+     * @param annotation the type of the annotation
+     * @return true if the field is annotated
+     */
+    public static boolean isAnnotationPresent(final Field field, final Class<? extends Annotation> annotation) {
+        final GeneratedMapping mapping = find(field.getDeclaringClass());
+        final List<Class<? extends Annotation>> annotations = mapping == null ? null : mapping.getAnnotations(field.getName());
+        return annotations == null ? field.isAnnotationPresent(annotation) : annotations.contains(annotation);
+    }
+
+    /**
+     * Gets a method declared by a class.  Used by the generated mappings to list the lifecycle methods.
+     *
+     * @param type           the class declaring the method
+     * @param name           the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return the method
+     */
+    public static Method getDeclaredMethod(final Class<?> type, final String name, final Class<?>... parameterTypes) {
+        try {
+            return type.getDeclaredMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            throw new MappingException("The generated mapping of " + type.getName() + " is out of date", e);
+        }
+    }
+
+    private static GeneratedMapping load(final Class<?> type) {
+        final Class<?> generated;
+        try {
+            generated = Class.forName(type.getName() + SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            return NONE;
+        }
+        try {
+            return (GeneratedMapping) generated.getDeclaredConstructor().newInstance();
+        } catch (NoSuchMethodException e) {
+            throw new MappingException("Could not create the generated mapping " + generated.getName(), e);
+        } catch (InstantiationException e) {
+            throw new MappingException("Could not create the generated mapping " + generated.getName(), e);
+        } catch (IllegalAccessException e) {
+            throw new MappingException("Could not create the generated mapping " + generated.getName(), e);
+        } catch (InvocationTargetException e) {
+            throw new MappingException("Could not create the generated mapping " + generated.getName(), e.getCause());
+        } catch (ClassCastException e) {
+            throw new MappingException(generated.getName() + " is not a generated mapping", e);
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides support for the mapping code and the entity index generated at compile time by the morphia-processor module
+ */
+package xyz.morphia.mapping.generated;
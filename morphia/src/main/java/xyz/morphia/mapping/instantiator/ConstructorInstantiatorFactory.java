@@ -0,0 +1,50 @@
+package xyz.morphia.mapping.instantiator;
+
+import xyz.morphia.mapping.MappingException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates instantiators which invoke the no-args constructor of a class.  The constructor is looked up and made accessible once.  This is
+ * the default strategy.
+ *
+ * @since 1.5
+ */
+public class ConstructorInstantiatorFactory implements InstantiatorFactory {
+    @Override
+    public <T> Instantiator<T> create(final Class<T> type) {
+        try {
+            final Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return new ConstructorInstantiator<T>(constructor);
+        } catch (NoSuchMethodException e) {
+            throw new MappingException("No usable constructor for " + type.getName(), e);
+        }
+    }
+
+    private static final class ConstructorInstantiator<T> implements Instantiator<T> {
+        private final Constructor<T> constructor;
+
+        private ConstructorInstantiator(final Constructor<T> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public T newInstance() {
+            try {
+                return constructor.newInstance();
+            } catch (InstantiationException e) {
+                throw failure(e);
+            } catch (IllegalAccessException e) {
+                throw failure(e);
+            } catch (InvocationTargetException e) {
+                throw failure(e.getCause());
+            }
+        }
+
+        private MappingException failure(final Throwable cause) {
+            return new MappingException("Could not create an instance of " + constructor.getDeclaringClass().getName(), cause);
+        }
+    }
+}
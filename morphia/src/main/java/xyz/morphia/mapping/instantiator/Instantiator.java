@@ -0,0 +1,15 @@
+package xyz.morphia.mapping.instantiator;
+
+/**
+ * Creates new instances of one class.
+ *
+ * @param <T> the type created
+ * @see InstantiatorFactory
+ * @since 1.5
+ */
+public interface Instantiator<T> {
+    /**
+     * @return the new instance
+     */
+    T newInstance();
+}
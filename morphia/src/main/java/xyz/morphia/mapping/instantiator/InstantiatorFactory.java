@@ -0,0 +1,20 @@
+package xyz.morphia.mapping.instantiator;
+
+/**
+ * Factory for the instantiators used by {@link xyz.morphia.mapping.DefaultCreator}.  The factory is consulted once per class and the
+ * instantiator it returns is reused for every instance of that class.
+ *
+ * @see xyz.morphia.mapping.DefaultCreator#DefaultCreator(xyz.morphia.mapping.MapperOptions, InstantiatorFactory)
+ * @since 1.5
+ */
+public interface InstantiatorFactory {
+    /**
+     * Creates the instantiator for a class
+     *
+     * @param type the class to instantiate
+     * @param <T>  the type created
+     * @return the instantiator
+     * @throws xyz.morphia.mapping.MappingException if the class can not be instantiated by this strategy
+     */
+    <T> Instantiator<T> create(Class<T> type);
+}
@@ -0,0 +1,58 @@
+package xyz.morphia.mapping.instantiator;
+
+import xyz.morphia.annotations.Embedded;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.internal.UnsafeAccess;
+import xyz.morphia.mapping.MappingException;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * Creates instantiators which allocate entities through {@code sun.misc.Unsafe}, reached through {@link UnsafeAccess}, without invoking
+ * any constructor, in the manner of objenesis.  This is cheaper than a constructor call and also works for entities which have no no-args
+ * constructor.
+ * <p>
+ * Because no constructor runs, field initializers are skipped as well: fields not present in the document keep their zero values.  Only
+ * classes annotated with {@link Entity} or {@link Embedded} are allocated this way.  Other classes, such as collections, and JVMs which
+ * do not provide {@code sun.misc.Unsafe} fall back to {@link ConstructorInstantiatorFactory}.
+ *
+ * @since 1.5
+ */
+public class UnsafeInstantiatorFactory implements InstantiatorFactory {
+    private static final boolean AVAILABLE = UnsafeAccess.isAvailable();
+
+    private final ConstructorInstantiatorFactory fallback = new ConstructorInstantiatorFactory();
+
+    /**
+     * @return true if this JVM supports allocating instances without a constructor
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    @Override
+    public <T> Instantiator<T> create(final Class<T> type) {
+        if (!AVAILABLE || type.isInterface() || Modifier.isAbstract(type.getModifiers())
+            || !(type.isAnnotationPresent(Entity.class) || type.isAnnotationPresent(Embedded.class))) {
+            return fallback.create(type);
+        }
+        return new UnsafeInstantiator<T>(type);
+    }
+
+    private static final class UnsafeInstantiator<T> implements Instantiator<T> {
+        private final Class<T> type;
+
+        private UnsafeInstantiator(final Class<T> type) {
+            this.type = type;
+        }
+
+        @Override
+        public T newInstance() {
+            try {
+                return type.cast(UnsafeAccess.allocateInstance(type));
+            } catch (InstantiationException e) {
+                throw new MappingException("Could not create an instance of " + type.getName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the strategies used to create new instances of mapped classes
+ */
+package xyz.morphia.mapping.instantiator;
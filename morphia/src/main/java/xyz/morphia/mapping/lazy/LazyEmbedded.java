@@ -0,0 +1,36 @@
+package xyz.morphia.mapping.lazy;
+
+
+/**
+ * A field mapped with {@code @Embedded(lazy = true)}.  The value keeps the document read from the database and maps it the first time it
+ * is accessed.  Until then, saving the entity writes the document back as it was read.
+ *
+ * @see xyz.morphia.annotations.Embedded#lazy()
+ * @since 1.5
+ */
+public interface LazyEmbedded {
+    /**
+     * @return true if the document has been mapped
+     */
+    boolean isLoaded();
+
+    /**
+     * @return the document read from the database
+     */
+    Object getDocument();
+
+    /**
+     * Maps the document of a lazy field.
+     *
+     * @param <T> the type of the value
+     */
+    interface Loader<T> {
+        /**
+         * Maps the document.
+         *
+         * @param document the document read from the database
+         * @return the value of the field
+         */
+        T load(Object document);
+    }
+}
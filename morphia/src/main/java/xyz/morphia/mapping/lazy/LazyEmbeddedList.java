@@ -0,0 +1,70 @@
+package xyz.morphia.mapping.lazy;
+
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+
+/**
+ * A List field mapped on first access.  This is an internal class and is subject to change or removal.
+ *
+ * @param <E> the type of the elements
+ * @see LazyEmbedded
+ * @since 1.5
+ */
+public final class LazyEmbeddedList<E> extends AbstractList<E> implements LazyEmbedded, RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Materializer<List<E>> materializer;
+
+    /**
+     * Creates a LazyEmbeddedList
+     *
+     * @param document the document read from the database
+     * @param loader   the Loader mapping the document
+     */
+    public LazyEmbeddedList(final Object document, final Loader<List<E>> loader) {
+        materializer = new Materializer<List<E>>(document, loader);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return materializer.isLoaded();
+    }
+
+    @Override
+    public Object getDocument() {
+        return materializer.getDocument();
+    }
+
+    @Override
+    public E get(final int index) {
+        return materializer.get().get(index);
+    }
+
+    @Override
+    public int size() {
+        return materializer.get().size();
+    }
+
+    @Override
+    public E set(final int index, final E element) {
+        return materializer.get().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final E element) {
+        materializer.get().add(index, element);
+    }
+
+    @Override
+    public E remove(final int index) {
+        return materializer.get().remove(index);
+    }
+
+    private Object writeReplace() {
+        return materializer.get();
+    }
+}
@@ -0,0 +1,76 @@
+package xyz.morphia.mapping.lazy;
+
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A Map field mapped on first access.  This is an internal class and is subject to change or removal.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @see LazyEmbedded
+ * @since 1.5
+ */
+public final class LazyEmbeddedMap<K, V> extends AbstractMap<K, V> implements LazyEmbedded, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Materializer<Map<K, V>> materializer;
+
+    /**
+     * Creates a LazyEmbeddedMap
+     *
+     * @param document the document read from the database
+     * @param loader   the Loader mapping the document
+     */
+    public LazyEmbeddedMap(final Object document, final Loader<Map<K, V>> loader) {
+        materializer = new Materializer<Map<K, V>>(document, loader);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return materializer.isLoaded();
+    }
+
+    @Override
+    public Object getDocument() {
+        return materializer.getDocument();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return materializer.get().entrySet();
+    }
+
+    @Override
+    public int size() {
+        return materializer.get().size();
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return materializer.get().containsKey(key);
+    }
+
+    @Override
+    public V get(final Object key) {
+        return materializer.get().get(key);
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        return materializer.get().put(key, value);
+    }
+
+    @Override
+    public V remove(final Object key) {
+        return materializer.get().remove(key);
+    }
+
+    private Object writeReplace() {
+        return materializer.get();
+    }
+}
@@ -0,0 +1,70 @@
+package xyz.morphia.mapping.lazy;
+
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+
+
+/**
+ * A Set field mapped on first access.  This is an internal class and is subject to change or removal.
+ *
+ * @param <E> the type of the elements
+ * @see LazyEmbedded
+ * @since 1.5
+ */
+public final class LazyEmbeddedSet<E> extends AbstractSet<E> implements LazyEmbedded, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Materializer<Set<E>> materializer;
+
+    /**
+     * Creates a LazyEmbeddedSet
+     *
+     * @param document the document read from the database
+     * @param loader   the Loader mapping the document
+     */
+    public LazyEmbeddedSet(final Object document, final Loader<Set<E>> loader) {
+        materializer = new Materializer<Set<E>>(document, loader);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return materializer.isLoaded();
+    }
+
+    @Override
+    public Object getDocument() {
+        return materializer.getDocument();
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return materializer.get().iterator();
+    }
+
+    @Override
+    public int size() {
+        return materializer.get().size();
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+        return materializer.get().contains(o);
+    }
+
+    @Override
+    public boolean add(final E e) {
+        return materializer.get().add(e);
+    }
+
+    @Override
+    public boolean remove(final Object o) {
+        return materializer.get().remove(o);
+    }
+
+    private Object writeReplace() {
+        return materializer.get();
+    }
+}
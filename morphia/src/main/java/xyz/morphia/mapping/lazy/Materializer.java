@@ -0,0 +1,41 @@
+package xyz.morphia.mapping.lazy;
+
+
+/**
+ * Maps the document of a lazy field once, whichever thread accesses the field first.
+ *
+ * @param <T> the type of the value
+ */
+final class Materializer<T> {
+    private final Object document;
+    private LazyEmbedded.Loader<T> loader;
+    private volatile T value;
+
+    Materializer(final Object document, final LazyEmbedded.Loader<T> loader) {
+        this.document = document;
+        this.loader = loader;
+    }
+
+    Object getDocument() {
+        return document;
+    }
+
+    boolean isLoaded() {
+        return value != null;
+    }
+
+    T get() {
+        T loaded = value;
+        if (loaded == null) {
+            synchronized (this) {
+                loaded = value;
+                if (loaded == null) {
+                    loaded = loader.load(document);
+                    value = loaded;
+                    loader = null;
+                }
+            }
+        }
+        return loaded;
+    }
+}
@@ -15,6 +15,6 @@
  */
 
 /**
- * Provides support for lazy references
+ * Provides support for lazy references and lazy embedded fields
  */
 package xyz.morphia.mapping.lazy;
@@ -3,11 +3,15 @@ package xyz.morphia.mapping.lazy.proxy;
 
 import com.thoughtworks.proxy.kit.ObjectReference;
 import xyz.morphia.Datastore;
+import xyz.morphia.DatastoreImpl;
+import xyz.morphia.GetByKeysOptions;
 import xyz.morphia.Key;
 
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 
 /**
@@ -76,6 +80,25 @@ public abstract class AbstractReference implements Serializable, ObjectReference
         return getDatastore().getByKey(referenceObjClass, id);
     }
 
+    /**
+     * Fetches the entities for the given keys with one query per collection, or one query per key if the Datastore is not a
+     * DatastoreImpl.
+     *
+     * @param keys the keys to fetch
+     * @return the entities in the order of the keys, with null for any key whose document no longer exists
+     */
+    @SuppressWarnings("unchecked")
+    protected final List<Object> fetch(final List<Key<?>> keys) {
+        if (getDatastore() instanceof DatastoreImpl) {
+            return ((DatastoreImpl) getDatastore()).getByKeys(referenceObjClass, (List) keys, new GetByKeysOptions());
+        }
+        final List<Object> entities = new ArrayList<Object>(keys.size());
+        for (final Key<?> key : keys) {
+            entities.add(fetch(key));
+        }
+        return entities;
+    }
+
     protected abstract Object fetch();
 
     private void writeObject(final ObjectOutputStream out) throws IOException {
@@ -73,27 +73,24 @@ public class CollectionObjectReference<T> extends AbstractReference implements P
         final Collection<T> c = (Collection<T>) object;
         c.clear();
 
-        final int numberOfEntitiesExpected = listOfKeys.size();
-        // does not retain order:
-        // List<T> retrievedEntities = p.get().getByKeys(referenceObjClass,
-        // (List) __getKeysAsList());
-
-        // so we do it the lousy way: FIXME
-        final List<T> retrievedEntities = new ArrayList<T>(listOfKeys.size());
-        for (final Key<?> k : listOfKeys) {
-            T entity = (T) getDatastore().getByKey(referenceObjClass, k);
+        final List<Object> retrievedEntities = fetch(listOfKeys);
+        final List<Key<?>> missing = new ArrayList<Key<?>>();
+        for (int i = 0; i < retrievedEntities.size(); i++) {
+            final Object entity = retrievedEntities.get(i);
             if (entity != null) {
-                retrievedEntities.add(entity);
+                c.add((T) entity);
+            } else {
+                missing.add(listOfKeys.get(i));
             }
         }
 
-        if (!ignoreMissing && (numberOfEntitiesExpected != retrievedEntities.size())) {
+        if (!ignoreMissing && !missing.isEmpty()) {
+            c.clear();
             throw new LazyReferenceFetchingException(format("During the lifetime of a proxy of type '%s', some referenced Entities"
-                                                                + " of type '%s' have disappeared from the Datastore.",
-                                                            c.getClass().getSimpleName(), referenceObjClass.getSimpleName()));
+                                                                + " of type '%s' have disappeared from the Datastore: %s",
+                                                            c.getClass().getSimpleName(), referenceObjClass.getSimpleName(), missing));
         }
 
-        c.addAll(retrievedEntities);
         return c;
     }
 
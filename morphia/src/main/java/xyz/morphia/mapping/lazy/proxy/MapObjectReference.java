@@ -4,10 +4,14 @@ package xyz.morphia.mapping.lazy.proxy;
 import xyz.morphia.Datastore;
 import xyz.morphia.Key;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import static java.lang.String.format;
+
 
 /**
  * @author Uwe Schaefer, (us@thomas-daily.de)
@@ -58,13 +62,24 @@ public class MapObjectReference extends AbstractReference implements ProxiedEnti
     protected Object fetch() {
         final Map m = (Map) object;
         m.clear();
-        // TODO us: change to getting them all at once and yell according to
-        // ignoreMissing in order to a) increase performance and b) resolve
-        // equals keys to the same instance
-        // that should really be done in datastore.
-        for (final Map.Entry<?, Key<?>> e : keyMap.entrySet()) {
-            final Key<?> entityKey = e.getValue();
-            m.put(e.getKey(), fetch(entityKey));
+        final List<Key<?>> keys = new ArrayList<Key<?>>(keyMap.values());
+        final List<Object> entities = fetch(keys);
+        final List<Key<?>> missing = new ArrayList<Key<?>>();
+        int i = 0;
+        for (final Object key : keyMap.keySet()) {
+            final Object entity = entities.get(i);
+            if (entity == null) {
+                missing.add(keys.get(i));
+            }
+            m.put(key, entity);
+            i++;
+        }
+
+        if (!ignoreMissing && !missing.isEmpty()) {
+            m.clear();
+            throw new LazyReferenceFetchingException(format("During the lifetime of a proxy of type '%s', some referenced Entities"
+                                                                + " of type '%s' have disappeared from the Datastore: %s",
+                                                            m.getClass().getSimpleName(), referenceObjClass.getSimpleName(), missing));
         }
         return m;
     }
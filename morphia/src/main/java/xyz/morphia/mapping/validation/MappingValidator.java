@@ -19,6 +19,7 @@ import xyz.morphia.mapping.validation.classrules.MultipleId;
 import xyz.morphia.mapping.validation.classrules.MultipleVersions;
 import xyz.morphia.mapping.validation.classrules.NoId;
 import xyz.morphia.mapping.validation.fieldrules.ContradictingFieldAnnotation;
+import xyz.morphia.mapping.validation.fieldrules.LazyEmbeddedOnUnsupportedType;
 import xyz.morphia.mapping.validation.fieldrules.LazyReferenceMissingDependencies;
 import xyz.morphia.mapping.validation.fieldrules.LazyReferenceOnArray;
 import xyz.morphia.mapping.validation.fieldrules.MapKeyDifferentFromString;
@@ -129,6 +130,7 @@ public class MappingValidator {
         constraints.add(new ReferenceToUnidentifiable());
         constraints.add(new LazyReferenceMissingDependencies());
         constraints.add(new LazyReferenceOnArray());
+        constraints.add(new LazyEmbeddedOnUnsupportedType());
         constraints.add(new MapKeyDifferentFromString());
         constraints.add(new MapNotSerializable());
         constraints.add(new VersionMisuse(creator));
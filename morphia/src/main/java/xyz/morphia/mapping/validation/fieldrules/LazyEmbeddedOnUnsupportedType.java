@@ -0,0 +1,37 @@
+package xyz.morphia.mapping.validation.fieldrules;
+
+
+import xyz.morphia.annotations.Embedded;
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.MappedField;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.validation.ConstraintViolation;
+import xyz.morphia.mapping.validation.ConstraintViolation.Level;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Checks that lazy embedded fields are declared with a type their lazy values can be assigned to.
+ *
+ * @since 1.5
+ */
+public class LazyEmbeddedOnUnsupportedType extends FieldConstraint {
+
+    @Override
+    protected void check(final Mapper mapper, final MappedClass mc, final MappedField mf, final Set<ConstraintViolation> ve) {
+        final Embedded embedded = mf.getAnnotation(Embedded.class);
+        if (embedded != null && embedded.lazy()) {
+            final Class type = mf.getType();
+            if (type != List.class && type != Collection.class && type != Set.class && type != Map.class) {
+                ve.add(new ConstraintViolation(Level.FATAL, mc, mf, getClass(),
+                                               "The lazy attribute of @Embedded can only be used for fields declared as a List, Set, "
+                                               + "Collection or Map."));
+            }
+        }
+    }
+
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class FindOptions {
     private DBCollectionFindOptions options = new DBCollectionFindOptions();
+    private int decodingThreads;
 
     /**
      * Creates an empty options instance.
@@ -41,8 +42,9 @@ public class FindOptions {
     public FindOptions() {
     }
 
-    private FindOptions(final DBCollectionFindOptions copy) {
+    private FindOptions(final DBCollectionFindOptions copy, final int decodingThreads) {
         options = copy.copy();
+        this.decodingThreads = decodingThreads;
     }
 
     /**
@@ -50,7 +52,7 @@ public class FindOptions {
      * @return the new copy
      */
     public FindOptions copy() {
-        return new FindOptions(options.copy());
+        return new FindOptions(options.copy(), decodingThreads);
     }
 
     /**
@@ -391,6 +393,35 @@ public class FindOptions {
         return this;
     }
 
+    /**
+     * Gets the number of threads mapping the documents to entities.  The default is 0, which maps them on the thread iterating the cursor.
+     *
+     * @return the number of threads
+     * @since 1.5
+     */
+    public int getDecodingThreads() {
+        return decodingThreads;
+    }
+
+    /**
+     * Sets the number of threads mapping the documents to entities.  When positive, the cursor reads documents ahead in chunks of the
+     * batch size and maps up to this many chunks at once while the next ones are read, which speeds up large scans.  The chunks run on
+     * the executor of the {@link xyz.morphia.mapping.MapperOptions#setExecutor(java.util.concurrent.ExecutorService) MapperOptions}.  The
+     * entities are still returned in the order of the cursor.  Mapping happens ahead of the iteration, so the entity cache has to be
+     * thread-safe, as the default one is.  Tailable cursors always map on the iterating thread.
+     *
+     * @param decodingThreads the number of threads, or 0 to map the documents on the iterating thread
+     * @return this
+     * @since 1.5
+     */
+    public FindOptions decodingThreads(final int decodingThreads) {
+        if (decodingThreads < 0) {
+            throw new IllegalArgumentException("The number of decoding threads can not be negative");
+        }
+        this.decodingThreads = decodingThreads;
+        return this;
+    }
+
     DBCollectionFindOptions getOptions() {
         return options;
     }
@@ -5,11 +5,17 @@ import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
 import com.mongodb.client.MongoCursor;
 import xyz.morphia.Datastore;
+import xyz.morphia.internal.OperationTimer;
+import xyz.morphia.mapping.DecodePlan;
 import xyz.morphia.mapping.Mapper;
 import xyz.morphia.mapping.cache.EntityCache;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -26,6 +32,10 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
     private final Class<T> clazz;
     private final String collection;
     private final EntityCache cache;
+    private final int referenceBatchSize;
+    private final LinkedList<DBObject> buffer = new LinkedList<DBObject>();
+    private final OperationTimer timer;
+    private final DecodePlan plan;
     private long driverTime;
     private long mapperTime;
     private Datastore datastore;
@@ -41,12 +51,73 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
      */
     public MorphiaIterator(final Datastore datastore, final Iterator<DBObject> it, final Mapper mapper, final Class<T> clazz,
                            final String collection, final EntityCache cache) {
+        this(datastore, it, mapper, clazz, collection, cache, 0);
+    }
+
+    /**
+     * Creates a MorphiaIterator which reads ahead up to {@code referenceBatchSize} documents at a time so that their references can be
+     * resolved together.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param it                 the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated
+     * @param collection         the mongodb collection
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @see Mapper#resolveReferences(Datastore, Class, List, EntityCache)
+     * @since 1.5
+     */
+    public MorphiaIterator(final Datastore datastore, final Iterator<DBObject> it, final Mapper mapper, final Class<T> clazz,
+                           final String collection, final EntityCache cache, final int referenceBatchSize) {
+        this(datastore, it, mapper, clazz, collection, cache, referenceBatchSize, OperationTimer.disabled());
+    }
+
+    /**
+     * Creates a MorphiaIterator reporting its timings to the {@link xyz.morphia.OperationListener}s once it is exhausted or closed.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param it                 the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated
+     * @param collection         the mongodb collection
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @param timer              the timer of the find operation
+     * @since 1.5
+     */
+    public MorphiaIterator(final Datastore datastore, final Iterator<DBObject> it, final Mapper mapper, final Class<T> clazz,
+                           final String collection, final EntityCache cache, final int referenceBatchSize, final OperationTimer timer) {
+        this(datastore, it, mapper, clazz, collection, cache, referenceBatchSize, timer, null);
+    }
+
+    /**
+     * Creates a MorphiaIterator reading only the fields of a projection.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param it                 the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated
+     * @param collection         the mongodb collection
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @param timer              the timer of the find operation
+     * @param plan               the plan of the projection, or null to read every field
+     * @see Mapper#fromDBObject(Datastore, Class, DBObject, EntityCache, DecodePlan)
+     * @since 1.5
+     */
+    public MorphiaIterator(final Datastore datastore, final Iterator<DBObject> it, final Mapper mapper, final Class<T> clazz,
+                           final String collection, final EntityCache cache, final int referenceBatchSize, final OperationTimer timer,
+                           final DecodePlan plan) {
         wrapped = it;
+        this.plan = plan;
+        this.timer = timer;
         this.mapper = mapper;
         this.clazz = clazz;
         this.collection = collection;
         this.cache = cache;
         this.datastore = datastore;
+        this.referenceBatchSize = referenceBatchSize;
     }
 
     /**
@@ -56,6 +127,7 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
         if (wrapped != null && wrapped instanceof DBCursor) {
             ((DBCursor) wrapped).close();
         }
+        timer.complete();
     }
 
     /**
@@ -83,7 +155,16 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
      * @return the time spent calling the driver in ms
      */
     public long getDriverTime() {
-        return driverTime;
+        return getDriverTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent calling the driver
+     * @since 1.5
+     */
+    public long getDriverTime(final TimeUnit unit) {
+        return unit.convert(driverTime, TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -97,17 +178,34 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
      * @return the time spent calling the mapper in ms
      */
     public long getMapperTime() {
-        return mapperTime;
+        return getMapperTime(TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param unit the unit to use
+     * @return the time spent calling the mapper
+     * @since 1.5
+     */
+    public long getMapperTime(final TimeUnit unit) {
+        return unit.convert(mapperTime, TimeUnit.NANOSECONDS);
     }
 
     @Override
     public boolean hasNext() {
+        if (!buffer.isEmpty()) {
+            return true;
+        }
         if (wrapped == null) {
             return false;
         }
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         final boolean ret = wrapped.hasNext();
-        driverTime += System.currentTimeMillis() - start;
+        final long elapsed = System.nanoTime() - start;
+        driverTime += elapsed;
+        timer.addDriverTime(elapsed);
+        if (!ret) {
+            timer.complete();
+        }
         return ret;
     }
 
@@ -122,9 +220,9 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
 
     @Override
     public void remove() {
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         wrapped.remove();
-        driverTime += System.currentTimeMillis() - start;
+        driverTime += System.nanoTime() - start;
     }
 
     @Override
@@ -134,20 +232,50 @@ public class MorphiaIterator<T, V> implements Iterable<V>, Iterator<V> {
 
     @SuppressWarnings("unchecked")
     protected V convertItem(final DBObject dbObj) {
-        return (V) mapper.fromDBObject(datastore, clazz, dbObj, cache);
+        return (V) mapper.fromDBObject(datastore, clazz, dbObj, cache, plan);
     }
 
     protected DBObject getNext() {
-        final long start = System.currentTimeMillis();
+        if (referenceBatchSize > 0 && buffer.isEmpty()) {
+            fillBuffer();
+        }
+        if (!buffer.isEmpty()) {
+            return buffer.removeFirst();
+        }
+        final long start = System.nanoTime();
         final DBObject dbObj = wrapped.next();
-        driverTime += System.currentTimeMillis() - start;
+        final long elapsed = System.nanoTime() - start;
+        driverTime += elapsed;
+        timer.addDriverTime(elapsed);
+        timer.documents(1);
         return dbObj;
     }
 
+    private void fillBuffer() {
+        final List<DBObject> batch = new ArrayList<DBObject>(referenceBatchSize);
+        long start = System.nanoTime();
+        while (batch.size() < referenceBatchSize && wrapped.hasNext()) {
+            batch.add(wrapped.next());
+        }
+        long elapsed = System.nanoTime() - start;
+        driverTime += elapsed;
+        timer.addDriverTime(elapsed);
+        timer.documents(batch.size());
+
+        start = System.nanoTime();
+        mapper.resolveReferences(datastore, clazz, batch, cache);
+        elapsed = System.nanoTime() - start;
+        mapperTime += elapsed;
+        timer.addDecodeTime(elapsed);
+        buffer.addAll(batch);
+    }
+
     private V processItem(final DBObject dbObj) {
-        final long start = System.currentTimeMillis();
+        final long start = System.nanoTime();
         final V item = convertItem(dbObj);
-        mapperTime += System.currentTimeMillis() - start;
+        final long elapsed = System.nanoTime() - start;
+        mapperTime += elapsed;
+        timer.addDecodeTime(elapsed);
         return item;
     }
 
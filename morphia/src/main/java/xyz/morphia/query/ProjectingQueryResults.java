@@ -0,0 +1,44 @@
+package xyz.morphia.query;
+
+import com.mongodb.client.MongoCursor;
+
+/**
+ * Query results which can also be mapped to a projection type instead of the queried entity.  The queries created by the Datastore
+ * implement this interface, which is kept apart from {@link QueryResults} so that existing implementations of that interface are not
+ * broken:
+ * <pre>
+ * ProjectingQueryResults&lt;Hotel&gt; hotels = (ProjectingQueryResults&lt;Hotel&gt;) datastore.find(Hotel.class);
+ * MongoCursor&lt;HotelSummary&gt; summaries = hotels.findAs(HotelSummary.class);
+ * </pre>
+ *
+ * @param <T> the type of the results
+ * @since 1.5
+ */
+public interface ProjectingQueryResults<T> extends QueryResults<T> {
+    /**
+     * Execute the query and map the results to another type, projecting only its fields.  A class is mapped like an embedded class: its
+     * fields are read from the stored names of their mapping.  An interface is implemented by read-only proxies whose getters, such as
+     * {@code getName()} or {@code isActive()}, return the value of the entity field of that java name.  The entities themselves are not
+     * created.
+     *
+     * @param type the class or interface to map the results to
+     * @param <P>  the type of the results
+     * @return an Iterator of the results
+     * @since 1.5
+     */
+    <P> MongoCursor<P> findAs(Class<P> type);
+
+    /**
+     * Execute the query and map the results to another type, projecting only its fields.  A class is mapped like an embedded class: its
+     * fields are read from the stored names of their mapping.  An interface is implemented by read-only proxies whose getters, such as
+     * {@code getName()} or {@code isActive()}, return the value of the entity field of that java name.  The entities themselves are not
+     * created.
+     *
+     * @param type    the class or interface to map the results to
+     * @param options the options to apply to the find operation
+     * @param <P>     the type of the results
+     * @return an Iterator of the results
+     * @since 1.5
+     */
+    <P> MongoCursor<P> findAs(Class<P> type, FindOptions options);
+}
@@ -5,6 +5,7 @@ import com.mongodb.BasicDBObject;
 import com.mongodb.DBCollection;
 import com.mongodb.DBCursor;
 import com.mongodb.DBObject;
+import com.mongodb.DefaultDBDecoder;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.model.DBCollectionFindOptions;
@@ -13,20 +14,28 @@ import org.bson.Document;
 import org.bson.types.CodeWScope;
 import xyz.morphia.Datastore;
 import xyz.morphia.Key;
+import xyz.morphia.OperationEvent;
 import xyz.morphia.annotations.Entity;
+import xyz.morphia.internal.OperationTimer;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
+import xyz.morphia.mapping.DecodePlan;
+import xyz.morphia.mapping.EntityDecoderFactory;
 import xyz.morphia.mapping.MappedClass;
 import xyz.morphia.mapping.MappedField;
 import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.MapperOptions;
 import xyz.morphia.mapping.cache.EntityCache;
 import xyz.morphia.query.internal.MorphiaCursor;
 import xyz.morphia.query.internal.MorphiaKeyCursor;
+import xyz.morphia.query.internal.MorphiaSpliterator;
+import xyz.morphia.query.internal.ParallelMorphiaCursor;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static com.mongodb.CursorType.NonTailable;
 import static com.mongodb.CursorType.Tailable;
@@ -42,7 +51,7 @@ import static xyz.morphia.query.QueryValidator.validateQuery;
  * @author Scott Hernandez
  */
 @SuppressWarnings("deprecation")
-public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
+public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T>, StreamableQueryResults<T>, ProjectingQueryResults<T> {
     private static final Logger LOG = MorphiaLoggerFactory.get(QueryImpl.class);
     private final xyz.morphia.DatastoreImpl ds;
     private final DBCollection dbColl;
@@ -177,12 +186,18 @@ public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
 
     @Override
     public long count() {
-        return dbColl.getCount(getQueryObject());
+        return count(null);
     }
 
     @Override
     public long count(final CountOptions options) {
-        return dbColl.getCount(getQueryObject(), options.getOptions());
+        final OperationTimer timer = OperationTimer.start(ds.getMapper(), OperationEvent.Type.COUNT, dbColl.getName());
+        final long mark = timer.mark();
+        final long count = options == null ? dbColl.getCount(getQueryObject()) : dbColl.getCount(getQueryObject(), options.getOptions());
+        timer.driver(mark);
+        timer.documents(count);
+        timer.complete();
+        return count;
     }
 
     @Override
@@ -192,12 +207,14 @@ public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
 
     @Override
     public MorphiaIterator<T, T> fetch(final FindOptions options) {
-        final DBCursor cursor = prepareCursor(options);
+        final DBCursor cursor = prepareEntityCursor(options);
         if (LOG.isTraceEnabled()) {
             LOG.trace("Getting cursor(" + dbColl.getName() + ")  for query:" + cursor.getQuery());
         }
 
-        return new MorphiaIterator<T, T>(ds, cursor, ds.getMapper(), clazz, dbColl.getName(), cache);
+        return new MorphiaIterator<T, T>(ds, cursor, ds.getMapper(), clazz, dbColl.getName(), cache, referenceBatchSize(options),
+                                         OperationTimer.start(ds.getMapper(), OperationEvent.Type.FIND, dbColl.getName()),
+                                         decodePlan());
     }
 
     @Override
@@ -207,7 +224,57 @@ public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
 
     @Override
     public MongoCursor<T> find(final FindOptions options) {
-        return new MorphiaCursor<T>(ds, prepareCursor(options), ds.getMapper(), clazz, cache);
+        final OperationTimer timer = OperationTimer.start(ds.getMapper(), OperationEvent.Type.FIND, dbColl.getName());
+        if (options.getDecodingThreads() > 0 && options.getCursorType() == NonTailable) {
+            final int chunkSize = options.getBatchSize() > 0 ? options.getBatchSize() : ParallelMorphiaCursor.DEFAULT_CHUNK_SIZE;
+            return new ParallelMorphiaCursor<T>(ds, prepareCursor(options), ds.getMapper(), clazz, cache,
+                                                ds.getMapper().getOptions().getExecutor(), options.getDecodingThreads(), chunkSize,
+                                                referenceBatchSize(options) > 0, timer, decodePlan());
+        }
+        return new MorphiaCursor<T>(ds, prepareEntityCursor(options), ds.getMapper(), clazz, cache, referenceBatchSize(options), timer,
+                                    decodePlan());
+    }
+
+    @Override
+    public <P> MongoCursor<P> findAs(final Class<P> type) {
+        return findAs(type, getOptions());
+    }
+
+    @Override
+    public <P> MongoCursor<P> findAs(final Class<P> type, final FindOptions options) {
+        final DecodePlan plan = ds.getMapper().getDecodePlan(clazz, type);
+        return new MorphiaCursor<P>(ds, prepareCursor(options, plan.getProjection()), ds.getMapper(), type, cache, 0,
+                                    OperationTimer.start(ds.getMapper(), OperationEvent.Type.FIND, dbColl.getName()), plan);
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return stream(getOptions());
+    }
+
+    @Override
+    @SuppressWarnings("Since15")
+    public Stream<T> stream(final FindOptions options) {
+        final int batchSize = options.getBatchSize() > 0 ? options.getBatchSize() : MorphiaSpliterator.DEFAULT_BATCH_SIZE;
+        return new MorphiaSpliterator<T>(ds, prepareCursor(options), ds.getMapper(), clazz, cache, batchSize,
+                                         referenceBatchSize(options) > 0, options.getLimit(),
+                                         OperationTimer.start(ds.getMapper(), OperationEvent.Type.FIND, dbColl.getName()),
+                                         decodePlan()).stream();
+    }
+
+    /**
+     * Gets the plan reading only the fields of the projection of this query, if any.
+     */
+    private DecodePlan decodePlan() {
+        return ds.getMapper().getDecodePlan(getFieldsObject());
+    }
+
+    private int referenceBatchSize(final FindOptions findOptions) {
+        final MapperOptions mapperOptions = ds.getMapper().getOptions();
+        if (!mapperOptions.isBatchReferenceResolution() || findOptions.getCursorType() != NonTailable) {
+            return 0;
+        }
+        return findOptions.getBatchSize() > 0 ? findOptions.getBatchSize() : mapperOptions.getReferenceBatchSize();
     }
 
     @Override
@@ -759,7 +826,26 @@ public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
         return prepareCursor(getOptions());
     }
 
+    /**
+     * Prepares a cursor whose documents are mapped to entities, decoding them directly when the options and the entity class allow it.
+     */
+    private DBCursor prepareEntityCursor(final FindOptions findOptions) {
+        final DBCursor cursor = prepareCursor(findOptions);
+        final Mapper mapper = ds.getMapper();
+        if (mapper.getOptions().isDirectDecoding() && ds.getDecoderFact() == DefaultDBDecoder.FACTORY) {
+            final EntityDecoderFactory decoderFactory = EntityDecoderFactory.forClass(mapper, clazz);
+            if (decoderFactory != null) {
+                cursor.setDecoderFactory(decoderFactory);
+            }
+        }
+        return cursor;
+    }
+
     private DBCursor prepareCursor(final FindOptions findOptions) {
+        return prepareCursor(findOptions, getFieldsObject());
+    }
+
+    private DBCursor prepareCursor(final FindOptions findOptions, final DBObject projection) {
         final DBObject query = getQueryObject();
 
         if (LOG.isTraceEnabled()) {
@@ -777,7 +863,7 @@ public class QueryImpl<T> extends CriteriaContainerImpl implements Query<T> {
         return dbColl.find(query, findOptions.getOptions()
                                              .copy()
                                              .sort(getSortObject())
-                                             .projection(getFieldsObject()))
+                                             .projection(projection))
                      .setDecoderFactory(ds.getDecoderFact());
     }
 
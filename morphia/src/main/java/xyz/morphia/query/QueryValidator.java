@@ -1,6 +1,9 @@
 package xyz.morphia.query;
 
+import xyz.morphia.Key;
 import xyz.morphia.annotations.Serialized;
+import xyz.morphia.internal.PathCache;
+import xyz.morphia.internal.ResolvedPath;
 import xyz.morphia.logging.Logger;
 import xyz.morphia.logging.MorphiaLoggerFactory;
 import xyz.morphia.mapping.MappedClass;
@@ -25,113 +28,154 @@ import xyz.morphia.query.validation.SizeOperationValidator;
 import xyz.morphia.query.validation.ValidationFailure;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static xyz.morphia.internal.MorphiaUtils.isArrayIndex;
 
 final class QueryValidator {
     private static final Logger LOG = MorphiaLoggerFactory.get(QueryValidator.class);
+    // the operators whose validators look at the content of the value and not only its class
+    private static final EnumSet<FilterOperator> OPERATION_VALIDATED = EnumSet.of(FilterOperator.EXISTS, FilterOperator.SIZE,
+                                                                                  FilterOperator.IN, FilterOperator.NOT_IN,
+                                                                                  FilterOperator.MOD, FilterOperator.GEO_WITHIN,
+                                                                                  FilterOperator.ALL);
 
     private QueryValidator() {
     }
 
     /**
-     * Validate the path, and value type, returning the mapped field for the field at the path
+     * Validate the path, and value type, returning the mapped field for the field at the path.  The resolution of each path is cached by
+     * the Mapper.
      */
     static MappedField validateQuery(final Class clazz, final Mapper mapper, final StringBuilder origProp, final FilterOperator op,
                                      final Object val, final boolean validateNames, final boolean validateTypes) {
-        MappedField mf = null;
+        if (origProp.substring(0, 1).equals("$") || clazz == null) {
+            return null;
+        }
         final String prop = origProp.toString();
-        boolean hasTranslations = false;
 
-        if (!origProp.substring(0, 1).equals("$")) {
-            final String[] parts = prop.split("\\.");
-            if (clazz == null) {
-                return null;
-            }
+        final PathCache cache = mapper.getPathCache();
+        ResolvedPath resolved = cache.get(QueryValidator.class, clazz, prop, validateNames);
+        if (resolved == null) {
+            resolved = cache.put(QueryValidator.class, clazz, prop, validateNames, resolvePath(clazz, mapper, prop, validateNames));
+        }
 
-            MappedClass mc = mapper.getMappedClass(clazz);
-            //CHECKSTYLE:OFF
-            for (int i = 0; ; ) {
-                //CHECKSTYLE:ON
-                final String part = parts[i];
-                boolean fieldIsArrayOperator = part.equals("$") || part.matches("[0-9]+");
-
-                mf = mc.getMappedField(part);
-
-                //translate from java field name to stored field name
-                if (mf == null && !fieldIsArrayOperator) {
-                    mf = mc.getMappedFieldByJavaField(part);
-                    if (validateNames && mf == null) {
-                        throw new ValidationException(format("The field '%s' could not be found in '%s' while validating - %s; if "
-                                                             + "you wish to continue please disable validation.", part,
-                                                             mc.getClazz().getName(), prop
-                                                            ));
-                    }
-                    hasTranslations = true;
-                    if (mf != null) {
-                        parts[i] = mf.getNameToStore();
-                    }
+        //record new property string if there has been a translation to any part
+        if (!prop.equals(resolved.getTranslatedPath())) {
+            origProp.setLength(0); // clear existing content
+            origProp.append(resolved.getTranslatedPath());
+        }
+
+        final MappedField mf = resolved.getField();
+        if (validateTypes && mf != null) {
+            validateTypes(resolved, op, val);
+        }
+        return mf;
+    }
+
+    private static ResolvedPath resolvePath(final Class clazz, final Mapper mapper, final String prop, final boolean validateNames) {
+        MappedField mf = null;
+        final String[] parts = prop.split("\\.");
+        boolean hasTranslations = false;
+
+        MappedClass mc = mapper.getMappedClass(clazz);
+        //CHECKSTYLE:OFF
+        for (int i = 0; ; ) {
+            //CHECKSTYLE:ON
+            final String part = parts[i];
+            boolean fieldIsArrayOperator = part.equals("$") || isArrayIndex(part);
+
+            mf = mc.getMappedField(part);
+
+            //translate from java field name to stored field name
+            if (mf == null && !fieldIsArrayOperator) {
+                mf = mc.getMappedFieldByJavaField(part);
+                if (validateNames && mf == null) {
+                    throw new ValidationException(format("The field '%s' could not be found in '%s' while validating - %s; if "
+                                                         + "you wish to continue please disable validation.", part,
+                                                         mc.getClazz().getName(), prop
+                                                        ));
+                }
+                hasTranslations = true;
+                if (mf != null) {
+                    parts[i] = mf.getNameToStore();
                 }
+            }
 
+            i++;
+            if (mf != null && mf.isMap()) {
+                //skip the map key validation, and move to the next part
                 i++;
-                if (mf != null && mf.isMap()) {
-                    //skip the map key validation, and move to the next part
-                    i++;
-                }
+            }
 
-                if (i >= parts.length) {
-                    break;
-                }
+            if (i >= parts.length) {
+                break;
+            }
 
-                if (!fieldIsArrayOperator) {
-                    //catch people trying to search/update into @Reference/@Serialized fields
-                    if (validateNames && !canQueryPast(mf)) {
-                        throw new ValidationException(format("Cannot use dot-notation past '%s' in '%s'; found while"
-                                                             + " validating - %s", part, mc.getClazz().getName(), prop));
-                    }
-
-                    if (mf == null && (mc.isInterface() || !validateNames)) {
-                        break;
-                    } else if (mf == null) {
-                        throw new ValidationException(format("The field '%s' could not be found in '%s'", prop, mc.getClazz().getName()));
-                    }
-                    //get the next MappedClass for the next field validation
-                    mc = mapper.getMappedClass((mf.isSingleValue()) ? mf.getType() : mf.getSubClass());
+            if (!fieldIsArrayOperator) {
+                //catch people trying to search/update into @Reference/@Serialized fields
+                if (validateNames && !canQueryPast(mf)) {
+                    throw new ValidationException(format("Cannot use dot-notation past '%s' in '%s'; found while"
+                                                         + " validating - %s", part, mc.getClazz().getName(), prop));
                 }
-            }
 
-            //record new property string if there has been a translation to any part
-            if (hasTranslations) {
-                origProp.setLength(0); // clear existing content
-                origProp.append(parts[0]);
-                for (int i = 1; i < parts.length; i++) {
-                    origProp.append('.');
-                    origProp.append(parts[i]);
+                if (mf == null && (mc.isInterface() || !validateNames)) {
+                    break;
+                } else if (mf == null) {
+                    throw new ValidationException(format("The field '%s' could not be found in '%s'", prop, mc.getClazz().getName()));
                 }
+                //get the next MappedClass for the next field validation
+                mc = mapper.getMappedClass((mf.isSingleValue()) ? mf.getType() : mf.getSubClass());
             }
+        }
 
-            if (validateTypes && mf != null) {
-                List<ValidationFailure> typeValidationFailures = new ArrayList<ValidationFailure>();
-                boolean compatibleForType = isCompatibleForOperator(mc, mf, mf.getType(), op, val, typeValidationFailures);
-                List<ValidationFailure> subclassValidationFailures = new ArrayList<ValidationFailure>();
-                boolean compatibleForSubclass = isCompatibleForOperator(mc, mf, mf.getSubClass(), op, val, subclassValidationFailures);
-
-                if ((mf.isSingleValue() && !compatibleForType)
-                    || mf.isMultipleValues() && !(compatibleForSubclass || compatibleForType)) {
-
-                    if (LOG.isWarningEnabled()) {
-                        LOG.warning(format("The type(s) for the query/update may be inconsistent; using an instance of type '%s' "
-                                           + "for the field '%s.%s' which is declared as '%s'", val.getClass().getName(),
-                                           mf.getDeclaringClass().getName(), mf.getJavaFieldName(), mf.getType().getName()
-                                          ));
-                        typeValidationFailures.addAll(subclassValidationFailures);
-                        LOG.warning("Validation warnings: \n" + typeValidationFailures);
-                    }
-                }
+        if (!hasTranslations) {
+            return new ResolvedPath(mf, mc, prop);
+        }
+        final StringBuilder translated = new StringBuilder(parts[0]);
+        for (int i = 1; i < parts.length; i++) {
+            translated.append('.');
+            translated.append(parts[i]);
+        }
+        return new ResolvedPath(mf, mc, translated.toString());
+    }
+
+    /**
+     * Checks the value against the type of the field.  Whether a value is compatible only depends on its class unless the operator has
+     * its own validation or the value is a Key, so for other values a successful check is remembered with the path.
+     */
+    private static void validateTypes(final ResolvedPath resolved, final FilterOperator op, final Object val) {
+        final Object compatibilityKey = val != null && !(val instanceof Key) && !OPERATION_VALIDATED.contains(op)
+                                        ? asList(op, val.getClass())
+                                        : null;
+        if (compatibilityKey != null && resolved.isCompatible(compatibilityKey)) {
+            return;
+        }
+
+        final MappedClass mc = resolved.getMappedClass();
+        final MappedField mf = resolved.getField();
+        List<ValidationFailure> typeValidationFailures = new ArrayList<ValidationFailure>();
+        boolean compatibleForType = isCompatibleForOperator(mc, mf, mf.getType(), op, val, typeValidationFailures);
+        List<ValidationFailure> subclassValidationFailures = new ArrayList<ValidationFailure>();
+        boolean compatibleForSubclass = isCompatibleForOperator(mc, mf, mf.getSubClass(), op, val, subclassValidationFailures);
+
+        if ((mf.isSingleValue() && !compatibleForType)
+            || mf.isMultipleValues() && !(compatibleForSubclass || compatibleForType)) {
+
+            if (LOG.isWarningEnabled()) {
+                LOG.warning(format("The type(s) for the query/update may be inconsistent; using an instance of type '%s' "
+                                   + "for the field '%s.%s' which is declared as '%s'", val.getClass().getName(),
+                                   mf.getDeclaringClass().getName(), mf.getJavaFieldName(), mf.getType().getName()
+                                  ));
+                typeValidationFailures.addAll(subclassValidationFailures);
+                LOG.warning("Validation warnings: \n" + typeValidationFailures);
             }
+        } else if (compatibilityKey != null) {
+            resolved.markCompatible(compatibilityKey);
         }
-        return mf;
     }
 
     private static boolean canQueryPast(final MappedField mf) {
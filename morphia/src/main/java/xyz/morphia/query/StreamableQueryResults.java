@@ -0,0 +1,39 @@
+package xyz.morphia.query;
+
+
+import java.util.stream.Stream;
+
+/**
+ * Query results which can also be read as a {@link Stream}.  The queries created by the Datastore implement this interface, which is kept
+ * apart from {@link QueryResults} so that existing implementations of that interface are not broken:
+ * <pre>
+ * Stream&lt;Hotel&gt; hotels = ((StreamableQueryResults&lt;Hotel&gt;) datastore.find(Hotel.class)).stream();
+ * </pre>
+ * This interface requires Java 8.
+ *
+ * @param <T> the type of the results
+ * @since 1.5
+ */
+@SuppressWarnings("Since15")
+public interface StreamableQueryResults<T> extends QueryResults<T> {
+    /**
+     * Execute the query and get the results as a lazy stream.  The documents are read in batches, and a parallel stream maps each batch
+     * to entities on its own threads.  The cursor is closed once the stream is exhausted or closed, so streams not consumed to the end
+     * should be closed.  This method requires Java 8.
+     *
+     * @return a Stream of the results
+     * @since 1.5
+     */
+    Stream<T> stream();
+
+    /**
+     * Execute the query and get the results as a lazy stream.  The documents are read in batches of the batch size of the options, and a
+     * parallel stream maps each batch to entities on its own threads.  The cursor is closed once the stream is exhausted or closed, so
+     * streams not consumed to the end should be closed.  This method requires Java 8.
+     *
+     * @param options the options to apply to the find operation
+     * @return a Stream of the results
+     * @since 1.5
+     */
+    Stream<T> stream(FindOptions options);
+}
@@ -7,9 +7,14 @@ import com.mongodb.ServerAddress;
 import com.mongodb.ServerCursor;
 import com.mongodb.client.MongoCursor;
 import xyz.morphia.Datastore;
+import xyz.morphia.internal.OperationTimer;
+import xyz.morphia.mapping.DecodePlan;
 import xyz.morphia.mapping.Mapper;
 import xyz.morphia.mapping.cache.EntityCache;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 
@@ -22,6 +27,10 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
     private final Class<T> clazz;
     private final EntityCache cache;
     private final Datastore datastore;
+    private final int referenceBatchSize;
+    private final LinkedList<DBObject> buffer = new LinkedList<DBObject>();
+    private final OperationTimer timer;
+    private final DecodePlan plan;
 
     /**
      * Creates a MorphiaCursor
@@ -34,11 +43,68 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
      */
     public MorphiaCursor(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
                          final EntityCache cache) {
+        this(datastore, cursor, mapper, clazz, cache, 0);
+    }
+
+    /**
+     * Creates a MorphiaCursor which reads ahead up to {@code referenceBatchSize} documents at a time so that their references can be
+     * resolved together.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param cursor             the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @see Mapper#resolveReferences(Datastore, Class, List, EntityCache)
+     * @since 1.5
+     */
+    public MorphiaCursor(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
+                         final EntityCache cache, final int referenceBatchSize) {
+        this(datastore, cursor, mapper, clazz, cache, referenceBatchSize, OperationTimer.disabled());
+    }
+
+    /**
+     * Creates a MorphiaCursor reporting its timings to the {@link xyz.morphia.OperationListener}s once it is exhausted or closed.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param cursor             the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @param timer              the timer of the operation
+     * @since 1.5
+     */
+    public MorphiaCursor(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
+                         final EntityCache cache, final int referenceBatchSize, final OperationTimer timer) {
+        this(datastore, cursor, mapper, clazz, cache, referenceBatchSize, timer, null);
+    }
+
+    /**
+     * Creates a MorphiaCursor reading only the fields of a projection.
+     *
+     * @param datastore          the Datastore to use when fetching this reference
+     * @param cursor             the Iterator to use
+     * @param mapper             the Mapper to use
+     * @param clazz              the original type being iterated, or the type of the plan
+     * @param cache              the EntityCache
+     * @param referenceBatchSize the number of documents whose references are resolved together.  0 disables batching.
+     * @param timer              the timer of the operation
+     * @param plan               the plan of the projection, or null to read every field
+     * @see Mapper#fromDBObject(Datastore, Class, DBObject, EntityCache, DecodePlan)
+     * @since 1.5
+     */
+    public MorphiaCursor(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
+                         final EntityCache cache, final int referenceBatchSize, final OperationTimer timer, final DecodePlan plan) {
         wrapped = cursor;
+        this.plan = plan;
+        this.timer = timer;
         this.mapper = mapper;
         this.clazz = clazz;
         this.cache = cache;
         this.datastore = datastore;
+        this.referenceBatchSize = referenceBatchSize;
     }
 
     /**
@@ -48,14 +114,24 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         if (wrapped != null) {
             wrapped.close();
         }
+        timer.complete();
     }
 
     @Override
     public boolean hasNext() {
+        if (!buffer.isEmpty()) {
+            return true;
+        }
         if (wrapped == null) {
             return false;
         }
-        return wrapped.hasNext();
+        final long mark = timer.mark();
+        final boolean hasNext = wrapped.hasNext();
+        timer.driver(mark);
+        if (!hasNext) {
+            timer.complete();
+        }
+        return hasNext;
     }
 
     @Override
@@ -63,7 +139,21 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return mapper.fromDBObject(datastore, clazz, wrapped.next(), cache);
+        if (referenceBatchSize > 0 && buffer.isEmpty()) {
+            fillBuffer();
+        }
+        final DBObject document;
+        long mark = timer.mark();
+        if (buffer.isEmpty()) {
+            document = wrapped.next();
+            mark = timer.driver(mark);
+            timer.documents(1);
+        } else {
+            document = buffer.removeFirst();
+        }
+        final T entity = mapper.fromDBObject(datastore, clazz, document, cache, plan);
+        timer.decode(mark);
+        return entity;
     }
 
     @Override
@@ -91,6 +181,19 @@ public class MorphiaCursor<T> implements MongoCursor<T> {
     }
 
     protected DBObject getNext() {
-        return wrapped.next();
+        return buffer.isEmpty() ? wrapped.next() : buffer.removeFirst();
+    }
+
+    private void fillBuffer() {
+        final List<DBObject> batch = new ArrayList<DBObject>(referenceBatchSize);
+        final long mark = timer.mark();
+        while (batch.size() < referenceBatchSize && wrapped.hasNext()) {
+            batch.add(wrapped.next());
+        }
+        final long resolving = timer.driver(mark);
+        timer.documents(batch.size());
+        mapper.resolveReferences(datastore, clazz, batch, cache);
+        timer.decode(resolving);
+        buffer.addAll(batch);
     }
 }
@@ -0,0 +1,271 @@
+package xyz.morphia.query.internal;
+
+
+import com.mongodb.Cursor;
+import com.mongodb.DBObject;
+import xyz.morphia.Datastore;
+import xyz.morphia.internal.OperationTimer;
+import xyz.morphia.mapping.DecodePlan;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.cache.EntityCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * A Spliterator mapping the documents of a cursor to entities.  The documents are read in batches, and splitting hands out a whole
+ * batch, so the documents of a parallel stream are mapped on the threads of the stream.  The cursor is closed once it is exhausted or the
+ * stream is closed.  The EntityCache is shared by the batches handed out and has to be thread-safe.  The operation is reported to the
+ * listeners once this Spliterator and every batch handed out have been consumed, or when the stream is closed, and includes the time the
+ * batches spent mapping their documents.
+ * <p>
+ * This class requires Java 8.  This is an internal class and is subject to change or removal.
+ *
+ * @param <T> the original type being iterated
+ * @since 1.5
+ */
+@SuppressWarnings("Since15")
+public class MorphiaSpliterator<T> implements Spliterator<T> {
+    /**
+     * The number of documents in a batch when the batch size is not set
+     */
+    public static final int DEFAULT_BATCH_SIZE = 100;
+
+    private final Datastore datastore;
+    private final Cursor wrapped;
+    private final Mapper mapper;
+    private final Class<T> clazz;
+    private final EntityCache cache;
+    private final int batchSize;
+    private final boolean resolveReferences;
+    private final long limit;
+    private final OperationTimer timer;
+    private final DecodePlan plan;
+    private final AtomicInteger open = new AtomicInteger(1); // this Spliterator and the batches not consumed yet
+    private final AtomicLong batchDecodeTime = new AtomicLong();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private List<DBObject> batch = Collections.emptyList();
+    private int index;
+    private long read;
+    private boolean closed;
+    private boolean exhausted;
+
+    /**
+     * Creates a MorphiaSpliterator
+     *
+     * @param datastore         the Datastore to use when fetching references
+     * @param cursor            the cursor to read
+     * @param mapper            the Mapper to use
+     * @param clazz             the original type being iterated
+     * @param cache             the thread-safe EntityCache
+     * @param batchSize         the number of documents read and handed out together
+     * @param resolveReferences true to resolve the references of each batch together
+     * @param limit             the maximum number of documents returned by the cursor, or 0 if there is none
+     * @param timer             the timer of the find operation
+     * @param plan              the plan of the projection, or null to read every field
+     * @see Mapper#resolveReferences(Datastore, Class, List, EntityCache)
+     */
+    public MorphiaSpliterator(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
+                              final EntityCache cache, final int batchSize, final boolean resolveReferences, final long limit,
+                              final OperationTimer timer, final DecodePlan plan) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        this.datastore = datastore;
+        wrapped = cursor;
+        this.mapper = mapper;
+        this.clazz = clazz;
+        this.cache = cache;
+        this.batchSize = batchSize;
+        this.resolveReferences = resolveReferences;
+        this.limit = limit;
+        this.timer = timer;
+        this.plan = plan;
+    }
+
+    /**
+     * Creates a stream of the entities of this Spliterator, closing the cursor when the stream is closed.
+     *
+     * @return the stream
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(this, false).onClose(new Runnable() {
+            @Override
+            public void run() {
+                close();
+            }
+        });
+    }
+
+    /**
+     * Closes the underlying cursor and reports the operation.  The batches already handed out can still be consumed.
+     */
+    public void close() {
+        closeCursor();
+        complete();
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        if (index == batch.size()) {
+            batch = read();
+            index = 0;
+            if (batch.isEmpty()) {
+                if (!exhausted) {
+                    exhausted = true;
+                    release();
+                }
+                return false;
+            }
+            final long mark = timer.mark();
+            resolveReferences(batch);
+            timer.decode(mark);
+        }
+        final long mark = timer.mark();
+        final T entity = mapper.fromDBObject(datastore, clazz, batch.get(index++), cache, plan);
+        timer.decode(mark);
+        action.accept(entity);
+        return true;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (index < batch.size()) {
+            // the rest of the current batch precedes the documents still to be read
+            final Batch prefix = new Batch(batch.subList(index, batch.size()), true);
+            open.incrementAndGet();
+            batch = Collections.emptyList();
+            index = 0;
+            return prefix;
+        }
+        final List<DBObject> documents = read();
+        if (documents.isEmpty()) {
+            return null;
+        }
+        open.incrementAndGet();
+        return new Batch(documents, false);
+    }
+
+    @Override
+    public long estimateSize() {
+        if (closed) {
+            return batch.size() - index;
+        }
+        return limit > 0 ? Math.max(limit - read, 0) + batch.size() - index : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    private List<DBObject> read() {
+        if (closed) {
+            return Collections.emptyList();
+        }
+        final List<DBObject> documents = new ArrayList<DBObject>(batchSize);
+        final long mark = timer.mark();
+        while (documents.size() < batchSize && wrapped.hasNext()) {
+            documents.add(wrapped.next());
+        }
+        timer.driver(mark);
+        timer.documents(documents.size());
+        read += documents.size();
+        if (documents.size() < batchSize) {
+            closeCursor();
+        }
+        return documents;
+    }
+
+    private void closeCursor() {
+        if (!closed) {
+            closed = true;
+            batch = Collections.emptyList();
+            index = 0;
+            if (wrapped != null) {
+                wrapped.close();
+            }
+        }
+    }
+
+    /**
+     * Called once this Spliterator or a batch has been consumed; the last one reports the operation.
+     */
+    private void release() {
+        if (open.decrementAndGet() == 0) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            timer.addDecodeTime(batchDecodeTime.get());
+            timer.complete();
+        }
+    }
+
+    private void resolveReferences(final List<DBObject> documents) {
+        if (resolveReferences) {
+            mapper.resolveReferences(datastore, clazz, documents, cache);
+        }
+    }
+
+    /**
+     * A batch handed out by splitting.  Its references are resolved and its documents mapped by the thread consuming it.
+     */
+    private final class Batch implements Spliterator<T> {
+        private final List<DBObject> documents;
+        private boolean resolved;
+        private int position;
+
+        private Batch(final List<DBObject> documents, final boolean resolved) {
+            this.documents = documents;
+            this.resolved = resolved;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (position == documents.size()) {
+                return false;
+            }
+            final long start = timer.isEnabled() ? System.nanoTime() : 0;
+            if (!resolved) {
+                resolveReferences(documents);
+                resolved = true;
+            }
+            final T entity = mapper.fromDBObject(datastore, clazz, documents.get(position++), cache, plan);
+            if (timer.isEnabled()) {
+                batchDecodeTime.addAndGet(System.nanoTime() - start);
+            }
+            if (position == documents.size()) {
+                release();
+            }
+            action.accept(entity);
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return documents.size() - position;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | SIZED | SUBSIZED;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package xyz.morphia.query.internal;
+
+
+import com.mongodb.Cursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoInterruptedException;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import xyz.morphia.Datastore;
+import xyz.morphia.internal.OperationTimer;
+import xyz.morphia.mapping.DecodePlan;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.MappingException;
+import xyz.morphia.mapping.cache.EntityCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+
+/**
+ * A cursor mapping its documents to entities on an executor.  The iterating thread reads the documents in chunks and hands each chunk to
+ * the executor, keeping at most two chunks per thread in flight, so reading from the server overlaps with mapping and memory stays
+ * bounded.  The entities are returned in the order of the cursor.  The executor is shared with other cursors and is not shut down by the
+ * cursor; closing the cursor cancels the chunks still in flight.
+ * <p>
+ * The documents are mapped ahead of the iteration, so the EntityCache is shared by the pool threads and has to be thread-safe.  Removing
+ * documents is not supported.
+ *
+ * @param <T> the original type being iterated
+ * @see xyz.morphia.query.FindOptions#decodingThreads(int)
+ * @since 1.5
+ */
+public class ParallelMorphiaCursor<T> implements MongoCursor<T> {
+    /**
+     * The number of documents mapped together when the batch size is not set
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+
+    private final Cursor wrapped;
+    private final Mapper mapper;
+    private final Class<T> clazz;
+    private final EntityCache cache;
+    private final Datastore datastore;
+    private final int chunkSize;
+    private final boolean resolveReferences;
+    private final int maxPending;
+    private final ExecutorService executor;
+    private final OperationTimer timer;
+    private final DecodePlan plan;
+    private final LinkedList<Future<List<T>>> pending = new LinkedList<Future<List<T>>>();
+    private Iterator<T> current = Collections.<T>emptyList().iterator();
+    private boolean finished;
+
+    /**
+     * Creates a ParallelMorphiaCursor
+     *
+     * @param datastore         the Datastore to use when fetching references
+     * @param cursor            the cursor to read
+     * @param mapper            the Mapper to use
+     * @param clazz             the original type being iterated
+     * @param cache             the thread-safe EntityCache
+     * @param executor          the executor mapping the documents
+     * @param threads           the number of chunks mapped at once
+     * @param chunkSize         the number of documents mapped together
+     * @param resolveReferences true to resolve the references of each chunk together
+     * @param timer             the timer of the find operation
+     * @param plan              the plan of the projection, or null to read every field
+     * @see Mapper#resolveReferences(Datastore, Class, List, EntityCache)
+     */
+    public ParallelMorphiaCursor(final Datastore datastore, final Cursor cursor, final Mapper mapper, final Class<T> clazz,
+                                 final EntityCache cache, final ExecutorService executor, final int threads, final int chunkSize,
+                                 final boolean resolveReferences,
+                                 final OperationTimer timer, final DecodePlan plan) {
+        if (threads < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("The number of threads and the chunk size must be positive");
+        }
+        wrapped = cursor;
+        this.datastore = datastore;
+        this.mapper = mapper;
+        this.clazz = clazz;
+        this.cache = cache;
+        this.chunkSize = chunkSize;
+        this.resolveReferences = resolveReferences;
+        this.timer = timer;
+        this.plan = plan;
+        this.executor = executor;
+        maxPending = threads * 2;
+    }
+
+    /**
+     * Closes the underlying cursor and stops mapping the documents read ahead.
+     */
+    @Override
+    public void close() {
+        for (final Future<List<T>> future : pending) {
+            future.cancel(true);
+        }
+        pending.clear();
+        current = Collections.<T>emptyList().iterator();
+        if (wrapped != null) {
+            wrapped.close();
+        }
+        finish();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (finished) {
+                return false;
+            }
+            readAhead();
+            if (pending.isEmpty()) {
+                finish();
+                return false;
+            }
+            current = await(pending.removeFirst()).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    @Override
+    public T tryNext() {
+        if (hasNext()) {
+            return next();
+        } else {
+            return null;
+        }
+    }
+
+    @Override
+    public ServerCursor getServerCursor() {
+        return new ServerCursor(wrapped.getCursorId(), wrapped.getServerAddress());
+    }
+
+    @Override
+    public ServerAddress getServerAddress() {
+        return wrapped.getServerAddress();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Documents can not be removed from a cursor mapping them ahead of the iteration");
+    }
+
+    private void readAhead() {
+        if (wrapped == null) {
+            return;
+        }
+        while (pending.size() < maxPending && wrapped.hasNext()) {
+            final List<DBObject> chunk = new ArrayList<DBObject>(chunkSize);
+            final long mark = timer.mark();
+            while (chunk.size() < chunkSize && wrapped.hasNext()) {
+                chunk.add(wrapped.next());
+            }
+            timer.driver(mark);
+            timer.documents(chunk.size());
+            pending.add(executor.submit(new Callable<List<T>>() {
+                @Override
+                public List<T> call() {
+                    return decode(chunk);
+                }
+            }));
+        }
+    }
+
+    private List<T> decode(final List<DBObject> chunk) {
+        if (resolveReferences) {
+            mapper.resolveReferences(datastore, clazz, chunk, cache);
+        }
+        final List<T> entities = new ArrayList<T>(chunk.size());
+        for (final DBObject document : chunk) {
+            entities.add(mapper.fromDBObject(datastore, clazz, document, cache, plan));
+        }
+        return entities;
+    }
+
+    private List<T> await(final Future<List<T>> future) {
+        final long mark = timer.mark();
+        try {
+            final List<T> entities = future.get();
+            timer.decode(mark);
+            return entities;
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new MongoInterruptedException("Interrupted while waiting for documents to be mapped", e);
+        } catch (ExecutionException e) {
+            close();
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new MappingException("Could not map the documents of " + clazz.getName(), cause);
+        }
+    }
+
+    private void finish() {
+        finished = true;
+        timer.complete();
+    }
+}
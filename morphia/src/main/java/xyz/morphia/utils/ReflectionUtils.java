@@ -534,39 +534,53 @@ public final class ReflectionUtils {
     public static Set<Class<?>> getClasses(final ClassLoader loader, final String packageName, final boolean mapSubPackages)
         throws IOException, ClassNotFoundException {
         final Set<Class<?>> classes = new HashSet<Class<?>>();
-        final String path = packageName.replace('.', '/');
-        final Enumeration<URL> resources = loader.getResources(path);
+        final Enumeration<URL> resources = loader.getResources(packageName.replace('.', '/'));
         if (resources != null) {
             while (resources.hasMoreElements()) {
-                String filePath = resources.nextElement()
-                                           .getFile();
-                // WINDOWS HACK
-                if (filePath.indexOf("%20") > 0) {
-                    filePath = filePath.replaceAll("%20", " ");
-                }
-                // # in the jar name
-                if (filePath.indexOf("%23") > 0) {
-                    filePath = filePath.replaceAll("%23", "#");
-                }
-
-                if (filePath != null) {
-                    if ((filePath.indexOf("!") > 0) && (filePath.indexOf(".jar") > 0)) {
-                        String jarPath = filePath.substring(0, filePath.indexOf("!"))
-                                                 .substring(filePath.indexOf(":") + 1);
-                        // WINDOWS HACK
-                        if (jarPath.contains(":")) {
-                            jarPath = jarPath.substring(1);
-                        }
-                        classes.addAll(getFromJARFile(loader, jarPath, path, mapSubPackages));
-                    } else {
-                        classes.addAll(getFromDirectory(loader, new File(filePath), packageName, mapSubPackages));
-                    }
-                }
+                classes.addAll(getClasses(loader, resources.nextElement(), packageName, mapSubPackages));
             }
         }
         return classes;
     }
 
+    /**
+     * Returns the classes in a package found in one location of the classpath
+     *
+     * @param loader         the ClassLoader to use
+     * @param resource       the location of the package, as returned by {@link ClassLoader#getResources(String)}
+     * @param packageName    the package to scan
+     * @param mapSubPackages whether to map the sub-packages while scanning
+     * @return the list of classes
+     * @throws IOException            thrown if an error is encountered scanning packages
+     * @throws ClassNotFoundException thrown if a class can not be found
+     * @since 1.5
+     */
+    public static Set<Class<?>> getClasses(final ClassLoader loader, final URL resource, final String packageName,
+                                           final boolean mapSubPackages) throws IOException, ClassNotFoundException {
+        final String path = packageName.replace('.', '/');
+        String filePath = resource.getFile();
+        // WINDOWS HACK
+        if (filePath.indexOf("%20") > 0) {
+            filePath = filePath.replaceAll("%20", " ");
+        }
+        // # in the jar name
+        if (filePath.indexOf("%23") > 0) {
+            filePath = filePath.replaceAll("%23", "#");
+        }
+
+        if ((filePath.indexOf("!") > 0) && (filePath.indexOf(".jar") > 0)) {
+            String jarPath = filePath.substring(0, filePath.indexOf("!"))
+                                     .substring(filePath.indexOf(":") + 1);
+            // WINDOWS HACK
+            if (jarPath.contains(":")) {
+                jarPath = jarPath.substring(1);
+            }
+            return getFromJARFile(loader, jarPath, path, mapSubPackages);
+        } else {
+            return getFromDirectory(loader, new File(filePath), packageName, mapSubPackages);
+        }
+    }
+
     /**
      * Returns the classes in a package found in a jar
      *
@@ -2,10 +2,19 @@ package xyz.morphia;
 
 import org.junit.Test;
 import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.MappingException;
+import xyz.morphia.mapping.generated.EntityIndex;
 import xyz.morphia.testmappackage.SimpleEntity;
 import xyz.morphia.testmappackage.testmapsubpackage.SimpleEntityInSubPackage;
 import xyz.morphia.testmappackage.testmapsubpackage.testmapsubsubpackage.SimpleEntityInSubSubPackage;
 
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -47,4 +56,68 @@ public class MorphiaTest extends TestBase {
         assertTrue(classes.contains(SimpleEntityInSubSubPackage.class));
     }
 
+    @Test
+    public void testIndexedPackageMapping() throws IOException {
+        final Morphia morphia = new Morphia();
+        morphia.getMapper().getOptions().setMapSubPackages(true);
+        withIndex(new Runnable() {
+            @Override
+            public void run() {
+                morphia.mapPackage("xyz.morphia.testmappackage");
+            }
+        }, SimpleEntity.class.getName(), SimpleEntityInSubPackage.class.getName());
+
+        Collection<Class<?>> classes = new ArrayList<Class<?>>();
+        for (MappedClass mappedClass : morphia.getMapper().getMappedClasses()) {
+            classes.add(mappedClass.getClazz());
+        }
+        assertTrue(classes.contains(SimpleEntity.class));
+        assertTrue(classes.contains(SimpleEntityInSubPackage.class));
+        assertTrue(classes.contains(SimpleEntityInSubSubPackage.class));
+    }
+
+    @Test(expected = MappingException.class)
+    public void testIndexedPackageWithMissingClass() throws IOException {
+        withIndex(new Runnable() {
+            @Override
+            public void run() {
+                new Morphia().mapPackage("xyz.morphia.testmappackage");
+            }
+        }, "xyz.morphia.testmappackage.Removed");
+    }
+
+    /**
+     * Runs with a classpath root carrying an index and an unreadable class in the package, which fails the mapping if the root is scanned.
+     * The other locations of the package are still scanned.
+     */
+    private static void withIndex(final Runnable runnable, final String... classNames) throws IOException {
+        final File root = File.createTempFile("index", "");
+        assertTrue(root.delete());
+        final File index = new File(root, EntityIndex.RESOURCE);
+        assertTrue(index.getParentFile().mkdirs());
+        write(index, classNames);
+        final File unreadable = new File(root, "xyz/morphia/testmappackage/Unreadable.class");
+        assertTrue(unreadable.getParentFile().mkdirs());
+        write(unreadable, "not a class");
+
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(new URLClassLoader(new URL[]{root.toURI().toURL()}, original));
+        try {
+            runnable.run();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    private static void write(final File file, final String... lines) throws IOException {
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            for (final String line : lines) {
+                writer.write(line + "\n");
+            }
+        } finally {
+            writer.close();
+        }
+    }
 }
@@ -252,6 +252,38 @@ public class TestDatastore extends TestBase {
         assertTrue(LifecycleListener.prePersistWithEntity);
     }
 
+    @Test
+    public void testBulkSave() {
+        getMorphia().setUseBulkWriteOperations(true);
+        getMorphia().getMapper().addMappedClass(LifecycleTestObj.class);
+
+        final List<Object> entities = new ArrayList<Object>();
+        for (int i = 0; i < 5; i++) {
+            entities.add(new LifecycleTestObj());
+            entities.add(new Rectangle(i, i));
+        }
+        final Rectangle existing = new Rectangle(1, 1);
+        getDs().save(existing);
+        entities.add(existing);
+
+        final List<Key<Object>> keys = new ArrayList<Key<Object>>();
+        for (final Key<Object> key : getDs().save(entities, new InsertOptions().bulkWriteBatchSize(2))) {
+            keys.add(key);
+        }
+
+        assertEquals(entities.size(), keys.size());
+        for (int i = 0; i < entities.size(); i++) {
+            assertEquals(getDs().getKey(entities.get(i)), keys.get(i));
+        }
+        for (int i = 0; i < 10; i += 2) {
+            final LifecycleTestObj life = (LifecycleTestObj) entities.get(i);
+            assertTrue(life.prePersist);
+            assertTrue(life.postPersist);
+        }
+        assertEquals(5, getDs().getCount(LifecycleTestObj.class));
+        assertEquals(6, getDs().getCount(Rectangle.class));
+    }
+
     @Test
     public void testMorphiaDS() {
         new Morphia().createDatastore(getMongoClient(), "test");
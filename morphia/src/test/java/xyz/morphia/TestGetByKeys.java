@@ -3,10 +3,14 @@ package xyz.morphia;
 
 import org.junit.Assert;
 import org.junit.Test;
+import xyz.morphia.annotations.Id;
 import xyz.morphia.testutil.TestEntity;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.util.Arrays.asList;
 
@@ -30,8 +34,72 @@ public class TestGetByKeys extends TestBase {
         Assert.assertFalse(i.hasNext());
     }
 
+    @Test
+    public final void testGetByKeysInOrder() {
+        final List<A> entities = new ArrayList<A>();
+        for (int i = 0; i < 10; i++) {
+            final A a = new A();
+            a.foo = "bar" + i;
+            entities.add(a);
+        }
+        final B b = new B();
+        getDs().save(entities);
+        getDs().save(b);
+
+        final List<Key<Object>> keys = new ArrayList<Key<Object>>();
+        for (int i = entities.size() - 1; i >= 0; i--) {
+            keys.add(new Key<Object>(Object.class, "A", entities.get(i).getId()));
+        }
+        keys.add(4, new Key<Object>(Object.class, "B", b.getId()));
+        keys.add(new Key<Object>(Object.class, "A", entities.get(3).getId()));
+        keys.add(new Key<Object>(Object.class, "A", new B().getId()));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<Object> reloaded = ((DatastoreImpl) getDs()).getByKeys(null, keys, new GetByKeysOptions()
+                .batchSize(3)
+                .executor(executor));
+
+            Assert.assertEquals(keys.size(), reloaded.size());
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals("bar" + (9 - i), ((A) reloaded.get(i)).foo);
+            }
+            Assert.assertEquals(b.getId(), ((B) reloaded.get(4)).getId());
+            for (int i = 5; i < 11; i++) {
+                Assert.assertEquals("bar" + (10 - i), ((A) reloaded.get(i)).foo);
+            }
+            Assert.assertSame(reloaded.get(7), reloaded.get(11));
+            Assert.assertNull(reloaded.get(12));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testGetByKeysWithNumericIds() {
+        final C c = new C();
+        c.id = 42L;
+        getDs().save(c);
+
+        final List<Key<C>> keys = new ArrayList<Key<C>>();
+        keys.add(new Key<C>(C.class, "C", 42));
+        keys.add(new Key<C>(C.class, "C", 42L));
+        final List<C> reloaded = ((DatastoreImpl) getDs()).getByKeys(C.class, keys, new GetByKeysOptions());
+
+        Assert.assertEquals(2, reloaded.size());
+        Assert.assertNotNull(reloaded.get(0));
+        Assert.assertSame(reloaded.get(0), reloaded.get(1));
+    }
+
     public static class A extends TestEntity {
         private String foo = "bar";
     }
 
+    public static class B extends TestEntity {
+    }
+
+    public static class C {
+        @Id
+        private Long id;
+    }
 }
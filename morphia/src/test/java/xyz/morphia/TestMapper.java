@@ -25,7 +25,13 @@ import org.slf4j.LoggerFactory;
 import xyz.morphia.mapping.lazy.LazyFeatureDependencies;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static java.util.Arrays.asList;
 
@@ -89,6 +95,48 @@ public class TestMapper extends TestBase {
 
     }
 
+    @Test
+    public void concurrentLookups() throws Exception {
+        final Mapper mapper = new Mapper();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<MappedClass>> futures = new ArrayList<Future<MappedClass>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<MappedClass>() {
+                    @Override
+                    public MappedClass call() throws Exception {
+                        start.await();
+                        return mapper.getMappedClass(new UsesCustomIdObject());
+                    }
+                }));
+            }
+            start.countDown();
+            for (final Future<MappedClass> future : futures) {
+                Assert.assertSame(mapper.getMappedClass(UsesCustomIdObject.class), future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void proxyLookup() throws Exception {
+        if (!LazyFeatureDependencies.testDependencyFullFilled()) {
+            return;
+        }
+
+        final A a = new A();
+        HoldsMultipleALazily holder = new HoldsMultipleALazily();
+        holder.a1 = a;
+        getDs().save(asList(a, holder));
+        holder = getDs().get(HoldsMultipleALazily.class, holder.id);
+
+        final Mapper mapper = getMorphia().getMapper();
+        Assert.assertSame(mapper.getMappedClass(A.class), mapper.getMappedClass(holder.a1));
+        Assert.assertSame(mapper.getMappedClass(A.class), mapper.getMappedClass(holder.a1));
+    }
+
     @Test
     public void subTypes() {
         getMorphia().map(NestedImpl.class, AnotherNested.class);
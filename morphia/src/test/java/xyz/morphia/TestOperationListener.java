@@ -0,0 +1,116 @@
+package xyz.morphia;
+
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.internal.OperationTimer;
+import xyz.morphia.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+public class TestOperationListener extends TestBase {
+    private final List<OperationEvent> events = new ArrayList<OperationEvent>();
+    private final OperationListener listener = new OperationListener() {
+        @Override
+        public void operationCompleted(final OperationEvent event) {
+            events.add(event);
+        }
+    };
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        getMorphia().getMapper().addOperationListener(listener);
+    }
+
+    @After
+    @Override
+    public void tearDown() {
+        getMorphia().getMapper().removeOperationListener(listener);
+        super.tearDown();
+    }
+
+    @Test
+    public void testWrites() {
+        final Counter counter = new Counter("first");
+        getDs().save(counter);
+        getAds().insert(asList(new Counter("second"), new Counter("third")));
+        final OperationEvent save = events.get(0);
+        Assert.assertEquals(OperationEvent.Type.SAVE, save.getType());
+        Assert.assertEquals("counters", save.getCollection());
+        Assert.assertEquals(1, save.getDocuments());
+        Assert.assertTrue(save.getDriverTime(TimeUnit.NANOSECONDS) > 0);
+        Assert.assertTrue(save.getEncodeTime(TimeUnit.NANOSECONDS) > 0);
+        Assert.assertEquals(OperationEvent.Type.INSERT, events.get(1).getType());
+        Assert.assertEquals(2, events.get(1).getDocuments());
+
+        events.clear();
+        final Query<Counter> all = getDs().find(Counter.class);
+        getDs().update(all, getDs().createUpdateOperations(Counter.class).inc("count"));
+        getDs().delete(getDs().find(Counter.class).filter("name", "first"));
+        Assert.assertEquals(2, events.size());
+        Assert.assertEquals(OperationEvent.Type.UPDATE, events.get(0).getType());
+        Assert.assertEquals(3, events.get(0).getDocuments());
+        Assert.assertEquals(OperationEvent.Type.DELETE, events.get(1).getType());
+        Assert.assertEquals(1, events.get(1).getDocuments());
+    }
+
+    @Test
+    public void testReads() {
+        getAds().insert(asList(new Counter("first"), new Counter("second")));
+        events.clear();
+
+        Assert.assertEquals(2, getDs().find(Counter.class).asList().size());
+        Assert.assertEquals(2, getDs().getCount(Counter.class));
+        Assert.assertEquals(1, getDs().find(Counter.class).filter("name", "first").count());
+
+        Assert.assertEquals(3, events.size());
+        final OperationEvent find = events.get(0);
+        Assert.assertEquals(OperationEvent.Type.FIND, find.getType());
+        Assert.assertEquals(2, find.getDocuments());
+        Assert.assertTrue(find.getDriverTime(TimeUnit.NANOSECONDS) > 0);
+        Assert.assertTrue(find.getDecodeTime(TimeUnit.NANOSECONDS) > 0);
+        Assert.assertEquals(0, find.getEncodeTime(TimeUnit.NANOSECONDS));
+        Assert.assertEquals(OperationEvent.Type.COUNT, events.get(1).getType());
+        Assert.assertEquals(2, events.get(1).getDocuments());
+        Assert.assertEquals(1, events.get(2).getDocuments());
+    }
+
+    @Test
+    public void testDisabledWithoutListeners() {
+        Assert.assertTrue(OperationTimer.start(getMorphia().getMapper(), OperationEvent.Type.FIND, "counters").isEnabled());
+
+        getMorphia().getMapper().removeOperationListener(listener);
+        final OperationTimer timer = OperationTimer.start(getMorphia().getMapper(), OperationEvent.Type.FIND, "counters");
+        Assert.assertFalse(timer.isEnabled());
+        Assert.assertSame(OperationTimer.disabled(), timer);
+        Assert.assertEquals(0, timer.mark());
+
+        getDs().save(new Counter("unobserved"));
+        Assert.assertTrue(events.isEmpty());
+    }
+
+    @Entity("counters")
+    private static class Counter {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+
+        Counter() {
+        }
+
+        Counter(final String name) {
+            this.name = name;
+        }
+    }
+}
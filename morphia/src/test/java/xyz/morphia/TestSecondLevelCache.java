@@ -0,0 +1,111 @@
+package xyz.morphia;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.Reference;
+import xyz.morphia.mapping.cache.DefaultSecondLevelCache;
+import xyz.morphia.mapping.cache.EntityCacheStatistics;
+
+public class TestSecondLevelCache extends TestBase {
+    private DefaultSecondLevelCache cache;
+
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        cache = new DefaultSecondLevelCache();
+        getMorphia().getMapper().getOptions().setSecondLevelCache(cache);
+    }
+
+    @Test
+    public void testGetReadsThrough() {
+        final Tenant tenant = new Tenant("acme");
+        getDs().save(tenant);
+
+        final Tenant first = getDs().get(Tenant.class, tenant.id);
+        final Tenant second = getDs().get(Tenant.class, tenant.id);
+        Assert.assertEquals("acme", first.name);
+        Assert.assertEquals("acme", second.name);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("acme", getDs().getByKey(Tenant.class, getDs().getKey(tenant)).name);
+
+        final EntityCacheStatistics stats = cache.stats();
+        Assert.assertEquals(1, stats.getEntities());
+        Assert.assertEquals(1, stats.getMisses());
+        Assert.assertEquals(2, stats.getHits());
+        Assert.assertNull(getDs().get(Tenant.class, new ObjectId()));
+    }
+
+    @Test
+    public void testWritesInvalidate() {
+        final Tenant tenant = new Tenant("acme");
+        getDs().save(tenant);
+        getDs().get(Tenant.class, tenant.id);
+
+        tenant.name = "saved";
+        getDs().save(tenant);
+        Assert.assertEquals("saved", getDs().get(Tenant.class, tenant.id).name);
+
+        getDs().update(getDs().find(Tenant.class).filter("name", "saved"),
+                       getDs().createUpdateOperations(Tenant.class).set("name", "updated"));
+        Assert.assertEquals("updated", getDs().get(Tenant.class, tenant.id).name);
+
+        getDs().findAndModify(getDs().find(Tenant.class).filter("_id", tenant.id),
+                              getDs().createUpdateOperations(Tenant.class).set("name", "modified"));
+        Assert.assertEquals("modified", getDs().get(Tenant.class, tenant.id).name);
+
+        getDs().delete(tenant);
+        Assert.assertNull(getDs().get(Tenant.class, tenant.id));
+    }
+
+    @Test
+    public void testReferencesReadThrough() {
+        final Tenant tenant = new Tenant("acme");
+        getDs().save(tenant);
+        getDs().save(new User(tenant), new User(tenant));
+
+        for (final User user : getDs().find(User.class).asList()) {
+            Assert.assertEquals("acme", user.tenant.name);
+        }
+        Assert.assertEquals(1, cache.stats().getMisses());
+
+        for (final User user : getDs().find(User.class).asList()) {
+            Assert.assertEquals("acme", user.tenant.name);
+        }
+        Assert.assertEquals(1, cache.stats().getMisses());
+        Assert.assertEquals(1, cache.stats().getHits());
+    }
+
+    @Entity
+    private static class Tenant {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        Tenant() {
+        }
+
+        Tenant(final String name) {
+            this.name = name;
+        }
+    }
+
+    @Entity
+    private static class User {
+        @Id
+        private ObjectId id;
+        @Reference
+        private Tenant tenant;
+
+        User() {
+        }
+
+        User(final Tenant tenant) {
+            this.tenant = tenant;
+        }
+    }
+}
@@ -184,6 +184,30 @@ public class TestVersionAnnotation extends TestBase {
         assertEquals(1, version2.getCount());
     }
 
+    @Test
+    public void testBulkSave() {
+        getMorphia().setUseBulkWriteOperations(true);
+        final List<Versioned> list = asList(new Versioned(), new Versioned(), new Versioned());
+        getDs().save(list);
+        for (Versioned versioned : list) {
+            assertEquals(new Long(1), versioned.getVersion());
+        }
+
+        final Versioned stale = getDs().get(Versioned.class, list.get(1).getId());
+        getDs().save(list);
+        for (Versioned versioned : list) {
+            assertEquals(new Long(2), versioned.getVersion());
+        }
+
+        try {
+            getDs().save(asList(list.get(0), stale));
+            fail("the stale entity should have been rejected");
+        } catch (ConcurrentModificationException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(stale.getId().toString()));
+        }
+        assertEquals(new Long(3), getDs().get(Versioned.class, list.get(0).getId()).getVersion());
+    }
+
     @Test(expected = ConcurrentModificationException.class)
     public void testThrowsExceptionWhenTryingToSaveAnOldVersion() throws Exception {
         // given
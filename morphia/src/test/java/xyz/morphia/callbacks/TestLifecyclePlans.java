@@ -0,0 +1,102 @@
+package xyz.morphia.callbacks;
+
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.AbstractEntityInterceptor;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.EntityListeners;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.PostLoad;
+import xyz.morphia.annotations.PrePersist;
+import xyz.morphia.annotations.PreSave;
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.Mapper;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+public class TestLifecyclePlans extends TestBase {
+    private static final AtomicInteger LISTENERS = new AtomicInteger();
+
+    @Test
+    public void testNoLifecycleMethods() {
+        final MappedClass mc = getMorphia().getMapper().getMappedClass(Plain.class);
+        final DBObject dbObj = new BasicDBObject("name", "plain");
+        Assert.assertSame(dbObj, mc.callLifecycleMethods(PrePersist.class, new Plain(), dbObj, getMorphia().getMapper()));
+        Assert.assertSame(dbObj, mc.callLifecycleMethods(PostLoad.class, new Plain(), dbObj, getMorphia().getMapper()));
+    }
+
+    @Test
+    public void testListenerCreatedOnce() {
+        getMorphia().map(Listened.class);
+        final int created = LISTENERS.get();
+        for (int i = 0; i < 3; i++) {
+            getDs().save(new Listened());
+        }
+        Assert.assertTrue(LISTENERS.get() - created <= 1);
+
+        final Listened loaded = getDs().find(Listened.class).get();
+        Assert.assertEquals(1, loaded.persisted);
+        Assert.assertEquals("listened", getDs().getCollection(Listened.class).findOne().get("marker"));
+    }
+
+    @Test
+    public void testInterceptorAddedAfterMapping() {
+        final MappedClass mc = getMorphia().getMapper().getMappedClass(Plain.class);
+        final Counting interceptor = new Counting();
+        getMorphia().getMapper().addInterceptor(interceptor);
+
+        mc.callLifecycleMethods(PrePersist.class, new Plain(), new BasicDBObject(), getMorphia().getMapper());
+        mc.callLifecycleMethods(PostLoad.class, new Plain(), new BasicDBObject(), getMorphia().getMapper());
+        Assert.assertEquals(1, interceptor.prePersist);
+        Assert.assertEquals(1, interceptor.postLoad);
+    }
+
+    static class Plain {
+        @Id
+        private ObjectId id = new ObjectId();
+        private String name = "plain";
+    }
+
+    @EntityListeners(Listener.class)
+    static class Listened {
+        @Id
+        private ObjectId id = new ObjectId();
+        private int persisted;
+    }
+
+    public static class Listener {
+        public Listener() {
+            LISTENERS.incrementAndGet();
+        }
+
+        @PrePersist
+        void prePersist(final Listened entity) {
+            entity.persisted++;
+        }
+
+        @PreSave
+        void preSave(final Listened entity, final DBObject dbObj) {
+            dbObj.put("marker", "listened");
+        }
+    }
+
+    private static class Counting extends AbstractEntityInterceptor {
+        private int prePersist;
+        private int postLoad;
+
+        @Override
+        public void prePersist(final Object ent, final DBObject dbObj, final Mapper mapper) {
+            prePersist++;
+        }
+
+        @Override
+        public void postLoad(final Object ent, final DBObject dbObj, final Mapper mapper) {
+            postLoad++;
+        }
+    }
+}
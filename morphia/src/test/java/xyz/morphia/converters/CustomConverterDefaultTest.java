@@ -41,6 +41,47 @@ public class CustomConverterDefaultTest extends TestBase {
         }
     }
 
+    @Test
+    public void testConverterAddedAfterLookup() {
+        final Converters converters = getMorphia().getMapper().getConverters();
+        Assert.assertFalse(converters.hasSimpleValueConverter(Foo.class));
+
+        converters.addConverter(new FooConverter());
+        Assert.assertTrue(converters.hasSimpleValueConverter(Foo.class));
+    }
+
+    @Test
+    public void testFreeze() {
+        final FooConverter fc = new FooConverter();
+        final Converters converters = getMorphia().getMapper().getConverters();
+        converters.addConverter(fc);
+        getMorphia().map(E.class);
+        converters.freeze();
+        Assert.assertTrue(converters.isFrozen());
+        Assert.assertTrue(converters.hasSimpleValueConverter(Foo.class));
+        Assert.assertTrue(converters.hasSimpleValueConverter(getMorphia().getMapper().getMappedClass(E.class).getMappedField("foo")));
+        Assert.assertFalse(converters.hasSimpleValueConverter(E.class));
+
+        try {
+            converters.addConverter(new FooConverter());
+            Assert.fail("a frozen set of converters should not accept new converters");
+        } catch (IllegalStateException ignored) {
+            // expected
+        }
+        try {
+            converters.removeConverter(fc);
+            Assert.fail("a frozen set of converters should not allow removing converters");
+        } catch (IllegalStateException ignored) {
+            // expected
+        }
+
+        E e = new E();
+        e.foo = new Foo("test");
+        getDs().save(e);
+        e = getDs().find(E.class).find(new FindOptions().limit(1)).tryNext();
+        Assert.assertEquals("test", e.foo.string);
+    }
+
     public static class E extends TestEntity {
         @Property
         private Foo foo;
@@ -31,6 +31,7 @@ import xyz.morphia.mapping.EmbeddedMappingTest.NestedImpl;
 import xyz.morphia.mapping.EmbeddedMappingTest.WithNested;
 import xyz.morphia.mapping.MappedClass;
 import xyz.morphia.mapping.Mapper;
+import xyz.morphia.query.ValidationException;
 import xyz.morphia.testmodel.Article;
 
 import static org.junit.Assert.assertEquals;
@@ -52,6 +53,38 @@ public class PathTargetTest extends TestBase {
         Assert.assertEquals(mappedClass.getMappedField("n"), pathTarget.getTarget());
     }
 
+    @Test
+    public void cachedResolution() {
+        getMorphia().map(ParentType.class, EmbeddedType.class);
+        Mapper mapper = getMorphia().getMapper();
+        MappedClass mappedClass = mapper.getMappedClass(ParentType.class);
+        mapper.getPathCache().clear();
+
+        Assert.assertEquals("embedded.number", new PathTarget(mapper, mappedClass, "embedded.number").translatedPath());
+        Assert.assertEquals(1, mapper.getPathCache().size());
+
+        PathTarget pathTarget = new PathTarget(mapper, mappedClass, "embedded.number");
+        Assert.assertEquals("embedded.number", pathTarget.translatedPath());
+        Assert.assertEquals(mapper.getMappedClass(EmbeddedType.class).getMappedFieldByJavaField("number"), pathTarget.getTarget());
+        Assert.assertEquals(1, mapper.getPathCache().size());
+
+        // invalid paths are not cached and fail every time
+        for (int i = 0; i < 2; i++) {
+            try {
+                new PathTarget(mapper, mappedClass, "embedded.flag.nothing").translatedPath();
+                Assert.fail("Should have failed on the invalid path");
+            } catch (ValidationException ignored) {
+                // expected
+            }
+        }
+        pathTarget = new PathTarget(mapper, mappedClass, "embedded.flag.nothing");
+        pathTarget.disableValidation();
+        Assert.assertEquals("embedded.flag.nothing", pathTarget.translatedPath());
+
+        getMorphia().map(Article.class);
+        Assert.assertEquals(0, mapper.getPathCache().size());
+    }
+
     @Test
     public void dottedPath() {
         getMorphia().map(ParentType.class, EmbeddedType.class);
@@ -0,0 +1,127 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBObject;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Embedded;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+public class ConcurrentDecodingTest extends TestBase {
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 2000;
+
+    @Test
+    public void decodeConcurrently() throws Exception {
+        final Mapper mapper = getMorphia().getMapper();
+        getMorphia().map(Order.class);
+
+        final Order order = new Order();
+        order.customer = "Bob";
+        order.created = new Date();
+        order.tags = asList("a", "b", "c");
+        order.lines = new ArrayList<Line>();
+        order.counts = new HashMap<String, Integer>();
+        for (int i = 0; i < 10; i++) {
+            order.lines.add(new Line("item" + i, i));
+            order.counts.put("item" + i, i);
+        }
+        order.shipping = new Line("shipping", 1);
+        final DBObject dbObject = mapper.toDBObject(order);
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<Integer>> results = new ArrayList<Future<Integer>>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() throws Exception {
+                        start.await();
+                        int decoded = 0;
+                        for (int i = 0; i < ITERATIONS; i++) {
+                            final Order loaded = mapper.fromDBObject(getDs(), Order.class, dbObject, mapper.createEntityCache());
+                            Assert.assertEquals(order.id, loaded.id);
+                            Assert.assertEquals(order.customer, loaded.customer);
+                            Assert.assertEquals(order.created, loaded.created);
+                            Assert.assertEquals(order.tags, loaded.tags);
+                            Assert.assertEquals(order.lines, loaded.lines);
+                            Assert.assertEquals(order.counts, loaded.counts);
+                            Assert.assertEquals(order.shipping, loaded.shipping);
+                            decoded++;
+                        }
+                        return decoded;
+                    }
+                }));
+            }
+            start.countDown();
+
+            for (final Future<Integer> result : results) {
+                Assert.assertEquals(ITERATIONS, result.get(1, TimeUnit.MINUTES).intValue());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Entity
+    private static class Order {
+        @Id
+        private ObjectId id = new ObjectId();
+        private String customer;
+        private Date created;
+        private List<String> tags;
+        @Embedded
+        private List<Line> lines;
+        private Map<String, Integer> counts;
+        @Embedded
+        private Line shipping;
+    }
+
+    @Embedded
+    private static class Line {
+        private String item;
+        private int quantity;
+
+        Line() {
+        }
+
+        Line(final String item, final int quantity) {
+            this.item = item;
+            this.quantity = quantity;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Line)) {
+                return false;
+            }
+            final Line line = (Line) o;
+            return quantity == line.quantity && item.equals(line.item);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * item.hashCode() + quantity;
+        }
+    }
+}
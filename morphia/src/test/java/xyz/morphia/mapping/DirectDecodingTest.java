@@ -0,0 +1,108 @@
+package xyz.morphia.mapping;
+
+import com.mongodb.DBObject;
+import com.mongodb.client.MongoCursor;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.PostLoad;
+import xyz.morphia.annotations.Property;
+
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class DirectDecodingTest extends TestBase {
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        getMorphia().getMapper().getOptions().setDirectDecoding(true);
+    }
+
+    @Test
+    public void testScalarFields() {
+        final Scalars scalars = new Scalars();
+        scalars.name = "scalars";
+        scalars.count = 42;
+        scalars.total = 1024L;
+        scalars.ratio = 0.5D;
+        scalars.active = true;
+        scalars.created = new Date();
+        getDs().save(scalars);
+
+        final MongoCursor<Scalars> cursor = getDs().find(Scalars.class).find();
+        try {
+            final Scalars loaded = cursor.next();
+            Assert.assertTrue(loaded.loadedFrom instanceof DecodedEntity);
+            Assert.assertEquals(scalars.id, loaded.id);
+            Assert.assertEquals("scalars", loaded.name);
+            Assert.assertEquals(42, loaded.count);
+            Assert.assertEquals(1024L, loaded.total);
+            Assert.assertEquals(0.5D, loaded.ratio, 0);
+            Assert.assertTrue(loaded.active);
+            Assert.assertEquals(scalars.created, loaded.created);
+        } finally {
+            cursor.close();
+        }
+
+        final Scalars found = getDs().find(Scalars.class).get();
+        Assert.assertEquals("scalars", found.name);
+        Assert.assertTrue(found.loadedFrom instanceof DecodedEntity);
+    }
+
+    @Test
+    public void testFallbacks() {
+        final WithList withList = new WithList();
+        withList.values = asList("a", "b");
+        getDs().save(withList);
+        Assert.assertEquals(asList("a", "b"), getDs().find(WithList.class).get().values);
+
+        final SubScalars sub = new SubScalars();
+        ((Scalars) sub).name = "sub";
+        sub.extra = "extra";
+        getDs().save(sub);
+
+        final List<Scalars> list = getDs().find(Scalars.class).asList();
+        Assert.assertEquals(1, list.size());
+        Assert.assertTrue(list.get(0) instanceof SubScalars);
+        Assert.assertFalse(list.get(0).loadedFrom instanceof DecodedEntity);
+        Assert.assertEquals("extra", ((SubScalars) list.get(0)).extra);
+    }
+
+    @Entity("scalars")
+    private static class Scalars {
+        @Id
+        private ObjectId id;
+        @Property("n")
+        private String name;
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean active;
+        private Date created;
+        private transient DBObject loadedFrom;
+
+        @PostLoad
+        void postLoad(final DBObject dbObject) {
+            loadedFrom = dbObject;
+        }
+    }
+
+    @Entity("scalars")
+    private static class SubScalars extends Scalars {
+        private String extra;
+    }
+
+    @Entity
+    private static class WithList {
+        @Id
+        private ObjectId id;
+        private List<String> values;
+    }
+}
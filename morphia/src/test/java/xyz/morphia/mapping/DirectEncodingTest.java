@@ -0,0 +1,141 @@
+package xyz.morphia.mapping;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.PrePersist;
+import xyz.morphia.annotations.PreSave;
+import xyz.morphia.annotations.Property;
+import xyz.morphia.annotations.Version;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class DirectEncodingTest extends TestBase {
+    @Before
+    @Override
+    public void setUp() {
+        super.setUp();
+        getMorphia().getMapper().getOptions().setDirectEncoding(true);
+    }
+
+    @Test
+    public void testSave() {
+        final Scalars scalars = new Scalars();
+        scalars.name = "scalars";
+        scalars.count = 42;
+        scalars.total = 1024L;
+        scalars.ratio = 0.5D;
+        scalars.active = true;
+        getDs().save(scalars);
+
+        Assert.assertNotNull(scalars.id);
+        Assert.assertNotNull(scalars.created);
+        Assert.assertTrue(scalars.saved);
+        Assert.assertTrue(getMorphia().getMapper().toDocument(scalars, null) instanceof EncodedEntity);
+
+        final Scalars loaded = getDs().get(Scalars.class, scalars.id);
+        Assert.assertEquals("scalars", loaded.name);
+        Assert.assertEquals(42, loaded.count);
+        Assert.assertEquals(1024L, loaded.total);
+        Assert.assertEquals(0.5D, loaded.ratio, 0);
+        Assert.assertTrue(loaded.active);
+        Assert.assertEquals(scalars.created, loaded.created);
+
+        scalars.name = "updated";
+        getDs().save(scalars);
+        Assert.assertEquals(1, getDs().getCount(Scalars.class));
+        Assert.assertEquals("updated", getDs().get(Scalars.class, scalars.id).name);
+    }
+
+    @Test
+    public void testInsertAndBulkSave() {
+        getAds().insert(asList(new Scalars("first"), new Scalars("second")));
+        Assert.assertEquals(2, getDs().getCount(Scalars.class));
+
+        getMorphia().setUseBulkWriteOperations(true);
+        final List<Scalars> list = new ArrayList<Scalars>();
+        for (int i = 0; i < 10; i++) {
+            list.add(new Scalars("bulk" + i));
+        }
+        getDs().save(list);
+        for (final Scalars scalars : list) {
+            Assert.assertTrue(getMorphia().getMapper().toDocument(scalars, null) instanceof EncodedEntity);
+            Assert.assertEquals(scalars.name, getDs().get(Scalars.class, scalars.id).name);
+        }
+
+        list.get(0).name = "changed";
+        getDs().save(list);
+        Assert.assertEquals(12, getDs().getCount(Scalars.class));
+        Assert.assertEquals("changed", getDs().get(Scalars.class, list.get(0).id).name);
+    }
+
+    @Test
+    public void testFallbacks() {
+        final WithList withList = new WithList();
+        withList.values = asList("a", "b");
+        getDs().save(withList);
+        Assert.assertFalse(getMorphia().getMapper().toDocument(withList, null) instanceof EncodedEntity);
+        Assert.assertEquals(asList("a", "b"), getDs().get(WithList.class, withList.id).values);
+
+        final Versioned versioned = new Versioned();
+        getDs().save(versioned);
+        Assert.assertEquals(Long.valueOf(1), versioned.version);
+        Assert.assertFalse(EntityEncoder.isEncodable(getMorphia().getMapper(), getMorphia().getMapper().getMappedClass(Versioned.class)));
+    }
+
+    @Entity
+    private static class Scalars {
+        @Id
+        private ObjectId id;
+        @Property("n")
+        private String name;
+        private int count;
+        private long total;
+        private double ratio;
+        private boolean active;
+        private Date created;
+        private transient boolean saved;
+
+        Scalars() {
+        }
+
+        Scalars(final String name) {
+            this.name = name;
+        }
+
+        @PrePersist
+        void prePersist() {
+            if (created == null) {
+                created = new Date();
+            }
+        }
+
+        @PreSave
+        void preSave() {
+            saved = true;
+        }
+    }
+
+    @Entity
+    private static class WithList {
+        @Id
+        private ObjectId id;
+        private List<String> values;
+    }
+
+    @Entity
+    private static class Versioned {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+    }
+}
@@ -0,0 +1,123 @@
+package xyz.morphia.mapping;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.accessor.UnsafeFieldAccessorFactory;
+
+import java.util.List;
+
+import static java.util.Arrays.asList;
+
+public class FieldAccessorTest extends TestBase {
+    @Test
+    public void testUnsafeAccessors() {
+        Assume.assumeTrue(UnsafeFieldAccessorFactory.isAvailable());
+        getMorphia().getMapper().getOptions().setFieldAccessorFactory(new UnsafeFieldAccessorFactory());
+        getMorphia().map(Primitives.class);
+
+        final Primitives primitives = new Primitives();
+        primitives.flag = true;
+        primitives.b = 1;
+        primitives.c = 'c';
+        primitives.s = 2;
+        primitives.i = 3;
+        primitives.l = 4L;
+        primitives.f = 5.5F;
+        primitives.d = 6.5D;
+        primitives.name = "primitives";
+        primitives.names = asList("a", "b");
+        primitives.count = 7;
+        getDs().save(primitives);
+
+        final Primitives loaded = getDs().get(Primitives.class, primitives.id);
+        Assert.assertEquals(primitives.id, loaded.id);
+        Assert.assertTrue(loaded.flag);
+        Assert.assertEquals(1, loaded.b);
+        Assert.assertEquals('c', loaded.c);
+        Assert.assertEquals(2, loaded.s);
+        Assert.assertEquals(3, loaded.i);
+        Assert.assertEquals(4L, loaded.l);
+        Assert.assertEquals(5.5F, loaded.f, 0);
+        Assert.assertEquals(6.5D, loaded.d, 0);
+        Assert.assertEquals("primitives", loaded.name);
+        Assert.assertEquals(asList("a", "b"), loaded.names);
+        Assert.assertEquals(7, loaded.count);
+    }
+
+    @Test
+    public void testPrimitiveAccess() {
+        Assume.assumeTrue(UnsafeFieldAccessorFactory.isAvailable());
+        getMorphia().getMapper().getOptions().setFieldAccessorFactory(new UnsafeFieldAccessorFactory());
+        final MappedClass mappedClass = getMorphia().getMapper().getMappedClass(Primitives.class);
+
+        final Primitives primitives = new Primitives();
+        final FieldAccessor accessor = mappedClass.getMappedFieldByJavaField("l").getAccessor();
+        accessor.setLong(primitives, 42L);
+        Assert.assertEquals(42L, primitives.l);
+        Assert.assertEquals(42L, accessor.getLong(primitives));
+
+        accessor.set(primitives, 7);
+        Assert.assertEquals(7L, accessor.get(primitives));
+    }
+
+    @Test
+    public void testMismatchedPrimitiveAccess() {
+        Assume.assumeTrue(UnsafeFieldAccessorFactory.isAvailable());
+        getMorphia().getMapper().getOptions().setFieldAccessorFactory(new UnsafeFieldAccessorFactory());
+        final MappedClass mappedClass = getMorphia().getMapper().getMappedClass(Primitives.class);
+
+        final Primitives primitives = new Primitives();
+        primitives.i = 3;
+        primitives.s = 2;
+        final FieldAccessor intAccessor = mappedClass.getMappedFieldByJavaField("i").getAccessor();
+        Assert.assertEquals(3L, intAccessor.getLong(primitives));
+        Assert.assertEquals(3D, intAccessor.getDouble(primitives), 0);
+        try {
+            intAccessor.setLong(primitives, 42L);
+            Assert.fail("a long should not be written to an int field");
+        } catch (IllegalArgumentException ignored) {
+            // expected
+        }
+        Assert.assertEquals(3, primitives.i);
+        Assert.assertEquals(2, primitives.s);
+
+        try {
+            mappedClass.getMappedFieldByJavaField("name").getAccessor().getDouble(primitives);
+            Assert.fail("a reference field should not be read as a double");
+        } catch (IllegalArgumentException ignored) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIncompatibleValue() {
+        Assume.assumeTrue(UnsafeFieldAccessorFactory.isAvailable());
+        getMorphia().getMapper().getOptions().setFieldAccessorFactory(new UnsafeFieldAccessorFactory());
+        final MappedClass mappedClass = getMorphia().getMapper().getMappedClass(Primitives.class);
+
+        mappedClass.getMappedFieldByJavaField("name").setFieldValue(new Primitives(), 42);
+    }
+
+    @Entity
+    private static class Primitives {
+        @Id
+        private ObjectId id;
+        private boolean flag;
+        private byte b;
+        private char c;
+        private short s;
+        private int i;
+        private long l;
+        private float f;
+        private double d;
+        private String name;
+        private List<String> names;
+        private volatile int count;
+    }
+}
@@ -0,0 +1,78 @@
+package xyz.morphia.mapping;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.mapping.instantiator.ConstructorInstantiatorFactory;
+import xyz.morphia.mapping.instantiator.Instantiator;
+import xyz.morphia.mapping.instantiator.InstantiatorFactory;
+import xyz.morphia.mapping.instantiator.UnsafeInstantiatorFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InstantiatorTest extends TestBase {
+    @Test
+    public void testInstantiatorIsCached() {
+        final AtomicInteger created = new AtomicInteger();
+        final InstantiatorFactory factory = new InstantiatorFactory() {
+            @Override
+            public <T> Instantiator<T> create(final Class<T> type) {
+                created.incrementAndGet();
+                return new ConstructorInstantiatorFactory().create(type);
+            }
+        };
+        final DefaultCreator creator = new DefaultCreator(getMorphia().getMapper().getOptions(), factory);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertNotNull(creator.createInstance(NoArgs.class));
+        }
+        Assert.assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testUnsafeInstantiation() {
+        Assume.assumeTrue(UnsafeInstantiatorFactory.isAvailable());
+        final MapperOptions options = getMorphia().getMapper().getOptions();
+        options.setObjectFactory(new DefaultCreator(options, new UnsafeInstantiatorFactory()));
+
+        final NoDefaultConstructor entity = new NoDefaultConstructor("value");
+        getDs().save(entity);
+
+        final NoDefaultConstructor loaded = getDs().get(NoDefaultConstructor.class, entity.id);
+        Assert.assertEquals(entity.id, loaded.id);
+        Assert.assertEquals("value", loaded.value);
+
+        // collections are still created with their constructors
+        final List list = options.getObjectFactory().createInstance(ArrayList.class);
+        list.add("value");
+        Assert.assertEquals(1, list.size());
+    }
+
+    @Test(expected = MappingException.class)
+    public void testNoUsableConstructor() {
+        new DefaultCreator().createInstance(NoDefaultConstructor.class);
+    }
+
+    @Entity
+    private static class NoArgs {
+        @Id
+        private ObjectId id;
+    }
+
+    @Entity
+    private static class NoDefaultConstructor {
+        @Id
+        private ObjectId id;
+        private String value;
+
+        NoDefaultConstructor(final String value) {
+            this.value = value;
+        }
+    }
+}
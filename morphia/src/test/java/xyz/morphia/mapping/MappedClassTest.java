@@ -0,0 +1,78 @@
+package xyz.morphia.mapping;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.AlsoLoad;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.Property;
+import xyz.morphia.annotations.Version;
+
+import java.util.Iterator;
+
+public class MappedClassTest extends TestBase {
+    @Test
+    public void testFieldLookups() {
+        final MappedClass mappedClass = getMorphia().getMapper().getMappedClass(Indexed.class);
+
+        final MappedField name = mappedClass.getMappedFieldByJavaField("name");
+        Assert.assertEquals("n", name.getNameToStore());
+        Assert.assertSame(name, mappedClass.getMappedField("n"));
+        Assert.assertSame(name, mappedClass.getMappedField("fullName"));
+        Assert.assertSame(name, mappedClass.getMappedField("oldName"));
+        Assert.assertNull(mappedClass.getMappedField("name"));
+        Assert.assertNull(mappedClass.getMappedFieldByJavaField("n"));
+
+        Assert.assertEquals("id", mappedClass.getMappedIdField().getJavaFieldName());
+        Assert.assertEquals("version", mappedClass.getMappedVersionField().getJavaFieldName());
+        Assert.assertNull(getMorphia().getMapper().getMappedClass(Unversioned.class).getMappedVersionField());
+    }
+
+    @Test
+    public void testIndexesFollowChanges() throws NoSuchFieldException {
+        final MappedClass mappedClass = getMorphia().getMapper().getMappedClass(Indexed.class);
+
+        final MappedField count = mappedClass.getMappedFieldByJavaField("count");
+        Assert.assertSame(count, mappedClass.getMappedField("count"));
+
+        mappedClass.getPersistenceFields().remove(count);
+        Assert.assertNull(mappedClass.getMappedField("count"));
+        Assert.assertNull(mappedClass.getMappedFieldByJavaField("count"));
+
+        mappedClass.getPersistenceFields().add(count);
+        Assert.assertSame(count, mappedClass.getMappedFieldByJavaField("count"));
+
+        for (final Iterator<MappedField> iterator = mappedClass.getPersistenceFields().iterator(); iterator.hasNext();) {
+            if (iterator.next().getJavaFieldName().equals("name")) {
+                iterator.remove();
+            }
+        }
+        Assert.assertNull(mappedClass.getMappedField("fullName"));
+
+        final MappedClass unversioned = getMorphia().getMapper().getMappedClass(Unversioned.class);
+        final MappedField value = unversioned.getMappedFieldByJavaField("value");
+        value.addAnnotation(Version.class, Indexed.class.getDeclaredField("version").getAnnotation(Version.class));
+        Assert.assertSame(value, unversioned.getMappedVersionField());
+    }
+
+    @Entity
+    private static class Indexed {
+        @Id
+        private ObjectId id;
+        @Version
+        private Long version;
+        @Property("n")
+        @AlsoLoad({"fullName", "oldName"})
+        private String name;
+        private int count;
+    }
+
+    @Entity
+    private static class Unversioned {
+        @Id
+        private ObjectId id;
+        private Long value;
+    }
+}
@@ -10,6 +10,8 @@ import xyz.morphia.annotations.Embedded;
 import xyz.morphia.annotations.Entity;
 import xyz.morphia.annotations.Id;
 import xyz.morphia.annotations.Property;
+import xyz.morphia.converters.SimpleValueConverter;
+import xyz.morphia.converters.TypeConverter;
 import xyz.morphia.mapping.cache.DefaultEntityCache;
 
 import java.lang.reflect.Field;
@@ -102,6 +104,28 @@ public class MappedFieldTest extends TestBase {
         Assert.assertEquals(expected, entity.listOfListOfString);
     }
 
+    @Test
+    public void customMapperFollowsConvertersAndOptions() {
+        final Mapper mapper = getMorphia().getMapper();
+        final MappedField field = mapper.getMappedClass(Located.class).getMappedField("point");
+        Assert.assertSame(mapper.getOptions().getDefaultMapper(), mapper.getCustomMapper(field));
+
+        final PointConverter converter = new PointConverter();
+        mapper.getConverters().addConverter(converter);
+        Assert.assertSame(mapper.getOptions().getValueMapper(), mapper.getCustomMapper(field));
+
+        mapper.getOptions().setValueMapper(new ValueMapper());
+        Assert.assertSame(mapper.getOptions().getValueMapper(), mapper.getCustomMapper(field));
+
+        final MapperOptions options = new MapperOptions(mapper.getOptions());
+        options.setValueMapper(new ValueMapper());
+        mapper.setOptions(options);
+        Assert.assertSame(options.getValueMapper(), mapper.getCustomMapper(field));
+
+        mapper.getConverters().removeConverter(converter);
+        Assert.assertSame(options.getDefaultMapper(), mapper.getCustomMapper(field));
+    }
+
     private BasicDBList dbList(final String... values) {
         final BasicDBList list = new BasicDBList();
         Collections.addAll(list, values);
@@ -129,6 +153,38 @@ public class MappedFieldTest extends TestBase {
         private List<Embed> listOfEmbeds;
     }
 
+    @Entity
+    private static class Located {
+        @Id
+        private ObjectId id;
+        private Point point;
+    }
+
+    private static class Point {
+        private int x;
+        private int y;
+    }
+
+    private static class PointConverter extends TypeConverter implements SimpleValueConverter {
+        PointConverter() {
+            super(Point.class);
+        }
+
+        @Override
+        public Object decode(final Class<?> targetClass, final Object fromDBObject, final MappedField optionalExtraInfo) {
+            final String[] values = ((String) fromDBObject).split(",");
+            final Point point = new Point();
+            point.x = Integer.parseInt(values[0]);
+            point.y = Integer.parseInt(values[1]);
+            return point;
+        }
+
+        @Override
+        public Object encode(final Object value, final MappedField optionalExtraInfo) {
+            return value == null ? null : ((Point) value).x + "," + ((Point) value).y;
+        }
+    }
+
     @Embedded
     private static class Embed {
         private String embedName;
@@ -0,0 +1,153 @@
+package xyz.morphia.mapping;
+
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.Morphia;
+import xyz.morphia.annotations.Embedded;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.Serialized;
+import xyz.morphia.mapping.validation.ConstraintViolationException;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+
+public class ParallelMappingTest {
+
+    @Test
+    public void testParallelMapping() {
+        final Morphia morphia = new Morphia();
+        morphia.getMapper().getOptions().setMappingThreads(4);
+
+        final List<MappedClass> mapped = morphia.getMapper().addMappedClasses(
+            Arrays.<Class>asList(Poodle.class, Dog.class, Animal.class, Collar.class, Named.class, Cat.class));
+
+        Assert.assertEquals(6, mapped.size());
+        final Mapper mapper = morphia.getMapper();
+        for (final MappedClass mc : mapped) {
+            Assert.assertSame(mc, mapper.getMappedClass(mc.getClazz()));
+        }
+        Assert.assertSame(mapper.getMappedClass(Dog.class), mapper.getMappedClass(Poodle.class).getSuperClass());
+        Assert.assertSame(mapper.getMappedClass(Animal.class), mapper.getMappedClass(Dog.class).getSuperClass());
+        Assert.assertSame(mapper.getMappedClass(Poodle.class), mapped.get(0));
+        Assert.assertTrue(mapper.getSubTypes(mapper.getMappedClass(Animal.class)).contains(mapper.getMappedClass(Cat.class)));
+        Assert.assertEquals("animals", mapper.getMappedClass(Poodle.class).getCollectionName());
+    }
+
+    @Test
+    public void testInvalidClassMapsNothing() {
+        final Morphia morphia = new Morphia();
+        morphia.getMapper().getOptions().setMappingThreads(4);
+        final Set<Class> classes = new LinkedHashSet<Class>(Arrays.<Class>asList(Animal.class, Dog.class, Invalid.class));
+        try {
+            morphia.map(classes);
+            Assert.fail("the invalid class should not map");
+        } catch (ConstraintViolationException e) {
+            Assert.assertFalse(morphia.isMapped(Animal.class));
+            Assert.assertFalse(morphia.isMapped(Dog.class));
+            Assert.assertFalse(morphia.isMapped(Invalid.class));
+        }
+    }
+
+    @Test
+    public void testLookupDuringMapping() throws InterruptedException {
+        final Morphia morphia = new Morphia();
+        final Mapper mapper = morphia.getMapper();
+        final AtomicReference<MappedClass> lookedUp = new AtomicReference<MappedClass>();
+        final AtomicInteger submitted = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>()) {
+            @Override
+            public void execute(final Runnable command) {
+                // the second level submitted, after Animal was staged
+                if (submitted.incrementAndGet() == 2) {
+                    final Thread lookup = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            lookedUp.set(mapper.getMappedClass(Animal.class));
+                        }
+                    });
+                    lookup.start();
+                    try {
+                        lookup.join();
+                    } catch (InterruptedException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+                super.execute(command);
+            }
+        };
+        try {
+            mapper.getOptions().setMappingThreads(4);
+            mapper.getOptions().setExecutor(executor);
+            final List<MappedClass> mapped = mapper.addMappedClasses(
+                Arrays.<Class>asList(Poodle.class, Dog.class, Animal.class, Collar.class, Named.class, Cat.class));
+
+            Assert.assertNotNull(lookedUp.get());
+            Assert.assertSame(lookedUp.get(), mapper.getMappedClass(Animal.class));
+            Assert.assertSame(lookedUp.get(), mapper.getMappedClass(Dog.class).getSuperClass());
+            for (final MappedClass mc : mapped) {
+                Assert.assertSame(mc, mapper.getMappedClass(mc.getClazz()));
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMappingThreadsMustBePositive() {
+        new MapperOptions().setMappingThreads(0);
+    }
+
+    interface Named {
+        String getName();
+    }
+
+    @Entity("animals")
+    private static class Animal implements Named {
+        @Id
+        private ObjectId id;
+        private String name;
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class Dog extends Animal {
+        private Collar collar;
+    }
+
+    private static class Poodle extends Dog {
+        private boolean trimmed;
+    }
+
+    private static class Cat extends Animal {
+        private int lives = 9;
+    }
+
+    @Embedded
+    private static class Collar {
+        private String colour;
+    }
+
+    @Entity
+    private static class Invalid {
+        @Id
+        private ObjectId id;
+        @Serialized
+        @Embedded
+        private Collar collar;
+    }
+}
@@ -4,7 +4,14 @@ import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBCollection;
 import com.mongodb.DBObject;
+import com.mongodb.MongoClient;
+import com.mongodb.MongoClientOptions;
+import com.mongodb.MongoClientURI;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
 import org.bson.types.ObjectId;
 import org.junit.Assert;
 import org.junit.Test;
@@ -22,6 +29,7 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
@@ -59,6 +67,69 @@ public class ReferenceTest extends ProxyTestBase {
         assertEquals(parent, complexParent);
     }
 
+    @Test
+    public void testBatchedReferenceResolution() {
+        getMorphia().getMapper().getOptions().setBatchReferenceResolution(true);
+        getMorphia().getMapper().getOptions().setReferenceBatchSize(2);
+
+        final List<List<Ref>> refs = new ArrayList<List<Ref>>();
+        final List<Container> containers = new ArrayList<Container>();
+        for (int i = 0; i < 5; i++) {
+            refs.add(asList(new Ref("foo" + i), new Ref("bar" + i), new Ref("baz" + i)));
+            getDs().save(refs.get(i));
+            containers.add(new Container(refs.get(i)));
+        }
+        getDs().save(containers);
+
+        final String refCollection = getDs().getCollection(Ref.class).getName();
+        final AtomicInteger refQueries = new AtomicInteger();
+        final MongoClient client = new MongoClient(new MongoClientURI(getMongoURI(), MongoClientOptions.builder().addCommandListener(
+            new CommandListener() {
+                @Override
+                public void commandStarted(final CommandStartedEvent event) {
+                    if (event.getCommandName().equals("find") && event.getCommand().getString("find").getValue().equals(refCollection)) {
+                        refQueries.incrementAndGet();
+                    }
+                }
+
+                @Override
+                public void commandSucceeded(final CommandSucceededEvent event) {
+                }
+
+                @Override
+                public void commandFailed(final CommandFailedEvent event) {
+                }
+            })));
+        try {
+            final List<Container> retrieved = getMorphia().createDatastore(client, getDb().getName()).find(Container.class).asList();
+            // 5 containers with 3 references each, resolved 2 containers at a time: one $in per batch instead of 15 finds
+            assertEquals(3, refQueries.get());
+            assertEquals(containers.size(), retrieved.size());
+            for (int i = 0; i < retrieved.size(); i++) {
+                final Container container = retrieved.get(i);
+                assertEquals(containers.get(i).getId(), container.getId());
+                assertEquals(refs.get(i).get(0), container.getSingleRef());
+                assertEquals(refs.get(i), container.getCollectionRef());
+                assertEquals(refs.get(i).get(2), container.getMapRef().get(2));
+                assertEquals(refs.get(i), unwrapList(container.getLazyCollectionRef()));
+            }
+        } finally {
+            client.close();
+        }
+
+        Complex complex = new Complex(new ChildId("Bob", 67), "Kelso");
+        List<Complex> list = asList(new Complex(new ChildId("Turk", 27), "Turk"),
+                                    new Complex(new ChildId("JD", 26), "Dorian"));
+        ComplexParent parent = new ComplexParent();
+        parent.complex = complex;
+        parent.list = list;
+        getDs().save(complex);
+        getDs().save(list);
+        getDs().save(parent);
+
+        assertEquals(parent, getDs().find(ComplexParent.class).asList().get(0));
+    }
+
     @Test
     public void testFindByEntityReference() {
         final Ref ref = new Ref("refId");
@@ -0,0 +1,117 @@
+package xyz.morphia.mapping.cache;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.Key;
+
+import java.util.concurrent.TimeUnit;
+
+public class DefaultSecondLevelCacheTest {
+    @Test
+    public void testEviction() {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache(2);
+        cache.put(key("a", 1), document(1), cache.getVersion());
+        cache.put(key("a", 2), document(2), cache.getVersion());
+        Assert.assertNotNull(cache.get(key("a", 1)));
+
+        cache.put(key("a", 3), document(3), cache.getVersion());
+        Assert.assertNull(cache.get(key("a", 2)));
+        Assert.assertNotNull(cache.get(key("a", 1)));
+        Assert.assertNotNull(cache.get(key("a", 3)));
+        Assert.assertEquals(1, cache.getEvictionCount());
+
+        final EntityCacheStatistics stats = cache.stats();
+        Assert.assertEquals(2, stats.getEntities());
+        Assert.assertEquals(3, stats.getHits());
+        Assert.assertEquals(1, stats.getMisses());
+    }
+
+    @Test
+    public void testCopies() {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache();
+        final DBObject document = document(1);
+        cache.put(key("a", 1), document, cache.getVersion());
+        document.put("value", 42);
+
+        final DBObject cached = cache.get(key("a", 1));
+        Assert.assertEquals(1, cached.get("value"));
+        cached.put("value", 42);
+        Assert.assertEquals(1, cache.get(key("a", 1)).get("value"));
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache(10, 10, TimeUnit.MILLISECONDS);
+        cache.put(key("a", 1), document(1), cache.getVersion());
+        Thread.sleep(50);
+        Assert.assertNull(cache.get(key("a", 1)));
+    }
+
+    @Test
+    public void testInvalidation() {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache();
+        cache.put(key("a", 1), document(1), cache.getVersion());
+        cache.put(key("a", 2), document(2), cache.getVersion());
+        cache.put(key("b", 1), document(1), cache.getVersion());
+
+        cache.invalidate(key("a", 1));
+        Assert.assertNull(cache.get(key("a", 1)));
+        Assert.assertNotNull(cache.get(key("a", 2)));
+
+        cache.invalidate("a");
+        Assert.assertNull(cache.get(key("a", 2)));
+        Assert.assertNotNull(cache.get(key("b", 1)));
+
+        cache.put(key("a", 2), document(2), cache.getVersion());
+        Assert.assertNotNull(cache.get(key("a", 2)));
+    }
+
+    @Test
+    public void testStaleDocumentsAreNotCached() {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache();
+
+        long version = cache.getVersion();
+        cache.invalidate(key("a", 1));
+        cache.put(key("a", 1), document(1), version);
+        Assert.assertNull(cache.get(key("a", 1)));
+
+        version = cache.getVersion();
+        cache.invalidate("a");
+        cache.put(key("a", 2), document(2), version);
+        Assert.assertNull(cache.get(key("a", 2)));
+
+        version = cache.getVersion();
+        cache.clear();
+        cache.put(key("a", 3), document(3), version);
+        Assert.assertNull(cache.get(key("a", 3)));
+    }
+
+    @Test
+    public void testInvalidationsTakeNoRoom() {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache(2);
+        cache.put(key("a", 1), document(1), cache.getVersion());
+        cache.put(key("a", 2), document(2), cache.getVersion());
+
+        final long version = cache.getVersion();
+        for (int i = 3; i < 100; i++) {
+            cache.invalidate(key("a", i));
+        }
+        Assert.assertNotNull(cache.get(key("a", 1)));
+        Assert.assertNotNull(cache.get(key("a", 2)));
+        Assert.assertEquals(0, cache.getEvictionCount());
+
+        cache.put(key("a", 3), document(3), version);
+        Assert.assertNull(cache.get(key("a", 3)));
+        Assert.assertEquals(2, cache.size());
+    }
+
+    private static Key<Object> key(final String collection, final Object id) {
+        return new Key<Object>(Object.class, collection, id);
+    }
+
+    private static DBObject document(final int value) {
+        return new BasicDBObject("value", value);
+    }
+}
@@ -0,0 +1,99 @@
+package xyz.morphia.mapping.cache;
+
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.Key;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+public class EntityCacheStatisticsTest {
+    @Test
+    public void testConcurrentUpdates() throws InterruptedException {
+        final EntityCacheStatistics aggregate = new EntityCacheStatistics();
+        final EntityCacheStatistics statistics = new EntityCacheStatistics(aggregate);
+        final int threads = 8;
+        final int updates = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            final Thread worker = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < updates; j++) {
+                        statistics.incHits();
+                        statistics.incMisses();
+                    }
+                }
+            };
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+
+        Assert.assertEquals(threads * updates, statistics.getHits());
+        Assert.assertEquals(threads * updates, statistics.getMisses());
+        Assert.assertEquals(threads * updates, aggregate.getHits());
+        Assert.assertEquals(0.5D, statistics.getHitRatio(), 0);
+    }
+
+    @Test
+    public void testAggregate() {
+        final DefaultEntityCacheFactory factory = new DefaultEntityCacheFactory();
+        final EntityCache first = factory.createCache();
+        final EntityCache second = factory.createCache();
+        final Key<String> key = new Key<String>(String.class, "strings", 1);
+
+        first.putEntity(key, "one");
+        first.getEntity(key);
+        second.getEntity(key);
+        second.putProxy(key, "proxy");
+
+        Assert.assertEquals(1, first.stats().getHits());
+        Assert.assertEquals(1, second.stats().getMisses());
+        Assert.assertEquals(1, second.stats().getProxies());
+
+        final EntityCacheStatistics statistics = factory.getStatistics();
+        Assert.assertEquals(2, statistics.getEntities());
+        Assert.assertEquals(1, statistics.getProxies());
+        Assert.assertEquals(1, statistics.getHits());
+        Assert.assertEquals(1, statistics.getMisses());
+
+        first.flush();
+        Assert.assertEquals(0, first.stats().getHits());
+        Assert.assertEquals(1, statistics.getHits());
+    }
+
+    @Test
+    public void testJmx() throws Exception {
+        final DefaultSecondLevelCache cache = new DefaultSecondLevelCache();
+        final ObjectName name = EntityCacheMetrics.register("test", cache.getStatistics());
+        try {
+            cache.get(new Key<String>(String.class, "strings", 1));
+
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assert.assertEquals(1L, server.getAttribute(name, "Misses"));
+            Assert.assertEquals(0L, server.getAttribute(name, "Hits"));
+
+            server.invoke(name, "reset", null, null);
+            Assert.assertEquals(0, cache.getStatistics().getMisses());
+
+            EntityCacheMetrics.register("test", cache.getStatistics());
+        } finally {
+            Assert.assertTrue(EntityCacheMetrics.unregister("test"));
+        }
+        Assert.assertFalse(EntityCacheMetrics.unregister("test"));
+    }
+}
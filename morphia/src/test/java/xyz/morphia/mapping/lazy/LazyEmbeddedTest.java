@@ -0,0 +1,146 @@
+package xyz.morphia.mapping.lazy;
+
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Embedded;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.mapping.validation.ConstraintViolationException;
+import xyz.morphia.testutil.TestEntity;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+public class LazyEmbeddedTest extends TestBase {
+
+    @Test
+    public void testLoadedOnFirstAccess() {
+        final Order order = getDs().get(save(new Order()));
+
+        Assert.assertTrue(order.items instanceof LazyEmbedded);
+        Assert.assertFalse(((LazyEmbedded) order.items).isLoaded());
+        Assert.assertFalse(((LazyEmbedded) order.history).isLoaded());
+        Assert.assertFalse(((LazyEmbedded) order.labels).isLoaded());
+
+        Assert.assertEquals(3, order.items.size());
+        Assert.assertTrue(((LazyEmbedded) order.items).isLoaded());
+        Assert.assertEquals("item 2", order.items.get(2).name);
+        Assert.assertEquals(2, order.items.get(2).quantity);
+        Assert.assertEquals("created", order.history.get("first").name);
+        Assert.assertEquals("urgent", order.labels.iterator().next().name);
+    }
+
+    @Test
+    public void testSavedUnchangedWhenNotLoaded() {
+        final Order order = getDs().get(save(new Order()));
+        order.name = "renamed";
+        getDs().save(order);
+        Assert.assertFalse(((LazyEmbedded) order.items).isLoaded());
+
+        final DBObject stored = getDs().getCollection(Order.class).findOne(new BasicDBObject("_id", order.getId()));
+        Assert.assertEquals("renamed", stored.get("name"));
+        Assert.assertEquals(3, ((List) stored.get("items")).size());
+        Assert.assertEquals("created", ((DBObject) ((DBObject) stored.get("history")).get("first")).get("name"));
+
+        final Order reloaded = getDs().get(order);
+        Assert.assertEquals(1, reloaded.items.get(1).quantity);
+        Assert.assertEquals(2, reloaded.history.size());
+    }
+
+    @Test
+    public void testChangesAreSaved() {
+        final Order order = getDs().get(save(new Order()));
+        order.items.add(new Item("item 3", 3));
+        order.history.remove("second");
+        getDs().save(order);
+
+        final Order reloaded = getDs().get(order);
+        Assert.assertEquals(4, reloaded.items.size());
+        Assert.assertEquals("item 3", reloaded.items.get(3).name);
+        Assert.assertEquals(1, reloaded.history.size());
+    }
+
+    @Test
+    public void testLoadedOnce() throws Exception {
+        final Order order = getDs().get(save(new Order()));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Item>> futures = new ArrayList<Future<Item>>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<Item>() {
+                    @Override
+                    public Item call() {
+                        return order.items.get(0);
+                    }
+                }));
+            }
+            final Item first = futures.get(0).get();
+            for (final Future<Item> future : futures) {
+                Assert.assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = ConstraintViolationException.class)
+    public void testLazyOnUnsupportedType() {
+        getMorphia().map(LazyOnArrayList.class);
+    }
+
+    private Order save(final Order order) {
+        getDs().save(order);
+        return order;
+    }
+
+    @Entity("lazy_orders")
+    private static class Order extends TestEntity {
+        private String name = "order";
+        @Embedded(lazy = true)
+        private List<Item> items = new ArrayList<Item>();
+        @Embedded(lazy = true)
+        private Map<String, Item> history = new LinkedHashMap<String, Item>();
+        @Embedded(lazy = true)
+        private Set<Item> labels = new HashSet<Item>();
+
+        Order() {
+            for (int i = 0; i < 3; i++) {
+                items.add(new Item("item " + i, i));
+            }
+            history.put("first", new Item("created", 0));
+            history.put("second", new Item("paid", 0));
+            labels.add(new Item("urgent", 1));
+        }
+    }
+
+    @Embedded
+    private static class Item {
+        private String name;
+        private int quantity;
+
+        Item() {
+        }
+
+        Item(final String name, final int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+
+    private static class LazyOnArrayList extends TestEntity {
+        @Embedded(lazy = true)
+        private ArrayList<Item> items;
+    }
+}
@@ -4,7 +4,9 @@ package xyz.morphia.mapping.lazy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -62,6 +64,62 @@ public class TestLazyCollectionReference extends ProxyTestBase {
 
     }
 
+    @Test
+    public final void testFetchKeepsOrderAndDuplicates() {
+        if (!LazyFeatureDependencies.testDependencyFullFilled()) {
+            return;
+        }
+
+        final List<ReferencedEntity> referenced = new ArrayList<ReferencedEntity>();
+        for (int i = 0; i < 5; i++) {
+            final ReferencedEntity entity = new ReferencedEntity();
+            entity.setFoo("bar" + i);
+            referenced.add(entity);
+        }
+        getDs().save(referenced);
+
+        OrderedRootEntity root = new OrderedRootEntity();
+        root.references = new ArrayList<ReferencedEntity>();
+        root.references.add(referenced.get(3));
+        root.references.add(referenced.get(0));
+        root.references.add(referenced.get(4));
+        root.references.add(referenced.get(0));
+        root.map = new LinkedHashMap<String, ReferencedEntity>();
+        root.map.put("first", referenced.get(2));
+        root.map.put("second", referenced.get(1));
+        root.map.put("third", referenced.get(2));
+        getDs().save(root);
+
+        root = getDs().get(root);
+        assertNotFetched(root.references);
+        Assert.assertEquals(4, root.references.size());
+        Assert.assertEquals("bar3", root.references.get(0).getFoo());
+        Assert.assertEquals("bar0", root.references.get(1).getFoo());
+        Assert.assertEquals("bar4", root.references.get(2).getFoo());
+        Assert.assertSame(root.references.get(1), root.references.get(3));
+
+        Assert.assertEquals(3, root.map.size());
+        Assert.assertEquals("bar2", root.map.get("first").getFoo());
+        Assert.assertEquals("bar1", root.map.get("second").getFoo());
+        Assert.assertSame(root.map.get("first"), root.map.get("third"));
+
+        getDs().delete(referenced.get(1));
+        root = getDs().get(root);
+        try {
+            root.map.size();
+            Assert.fail("the missing entity should have been reported");
+        } catch (LazyReferenceFetchingException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains(referenced.get(1).getId().toString()));
+        }
+    }
+
+    public static class OrderedRootEntity extends TestEntity {
+        @Reference(lazy = true)
+        private List<ReferencedEntity> references;
+        @Reference(lazy = true)
+        private Map<String, ReferencedEntity> map;
+    }
+
     public static class RootEntity extends TestEntity {
         @Reference(lazy = true)
         private Collection<ReferencedEntity> references;
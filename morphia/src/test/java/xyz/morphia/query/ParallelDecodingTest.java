@@ -0,0 +1,162 @@
+package xyz.morphia.query;
+
+import com.mongodb.client.MongoCursor;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.PostLoad;
+import xyz.morphia.annotations.Reference;
+import xyz.morphia.query.internal.ParallelMorphiaCursor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelDecodingTest extends TestBase {
+    @Test
+    public void testOrderIsKept() {
+        final List<Item> items = new ArrayList<Item>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(new Item(i));
+        }
+        getAds().insert(items);
+
+        final Query<Item> query = getDs().find(Item.class).order("index");
+        final List<Item> sequential = query.asList();
+        final List<Item> parallel = query.asList(new FindOptions().decodingThreads(4).batchSize(50));
+        Assert.assertEquals(1000, parallel.size());
+        for (int i = 0; i < parallel.size(); i++) {
+            Assert.assertEquals(i, parallel.get(i).index);
+            Assert.assertEquals(sequential.get(i).id, parallel.get(i).id);
+        }
+
+        Assert.assertEquals(1000, getDs().find(Item.class).asList(new FindOptions().decodingThreads(2)).size());
+    }
+
+    @Test
+    public void testReferences() {
+        final Item item = new Item(7);
+        getDs().save(item);
+        final List<Holder> holders = new ArrayList<Holder>();
+        for (int i = 0; i < 30; i++) {
+            holders.add(new Holder(item));
+        }
+        getAds().insert(holders);
+
+        final List<Holder> loaded = getDs().find(Holder.class).asList(new FindOptions().decodingThreads(3).batchSize(7));
+        Assert.assertEquals(30, loaded.size());
+        for (final Holder holder : loaded) {
+            Assert.assertEquals(7, holder.item.index);
+        }
+    }
+
+    @Test
+    public void testClose() {
+        final List<Item> items = new ArrayList<Item>();
+        for (int i = 0; i < 200; i++) {
+            items.add(new Item(i));
+        }
+        getAds().insert(items);
+
+        final MongoCursor<Item> cursor = getDs().find(Item.class).order("index").find(new FindOptions().decodingThreads(2).batchSize(10));
+        Assert.assertTrue(cursor instanceof ParallelMorphiaCursor);
+        Assert.assertEquals(0, cursor.next().index);
+        Assert.assertEquals(1, cursor.next().index);
+        cursor.close();
+        Assert.assertFalse(cursor.hasNext());
+    }
+
+    @Test
+    public void testFailuresArePropagated() {
+        final List<Failing> failing = new ArrayList<Failing>();
+        for (int i = 0; i < 20; i++) {
+            failing.add(new Failing());
+        }
+        getAds().insert(failing);
+
+        try {
+            getDs().find(Failing.class).asList(new FindOptions().decodingThreads(2).batchSize(5));
+            Assert.fail("The failure while mapping should have been rethrown");
+        } catch (RuntimeException e) {
+            Assert.assertEquals("failed to load", e.getCause().getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testSuppliedExecutor() {
+        final List<Item> items = new ArrayList<Item>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item(i));
+        }
+        getAds().insert(items);
+
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                threads.incrementAndGet();
+                return new Thread(runnable);
+            }
+        });
+        try {
+            getMorphia().getMapper().getOptions().setExecutor(executor);
+            Assert.assertEquals(100, getDs().find(Item.class).asList(new FindOptions().decodingThreads(2).batchSize(10)).size());
+            Assert.assertTrue(threads.get() > 0);
+            Assert.assertFalse(executor.isShutdown());
+        } finally {
+            getMorphia().getMapper().getOptions().setExecutor(null);
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeThreads() {
+        new FindOptions().decodingThreads(-1);
+    }
+
+    @Entity("parallel_items")
+    private static class Item {
+        @Id
+        private ObjectId id;
+        private int index;
+
+        Item() {
+        }
+
+        Item(final int index) {
+            this.index = index;
+        }
+    }
+
+    @Entity("parallel_holders")
+    private static class Holder {
+        @Id
+        private ObjectId id;
+        @Reference
+        private Item item;
+
+        Holder() {
+        }
+
+        Holder(final Item item) {
+            this.item = item;
+        }
+    }
+
+    @Entity("parallel_failing")
+    private static class Failing {
+        @Id
+        private ObjectId id;
+
+        @PostLoad
+        void fail() {
+            throw new IllegalStateException("failed to load");
+        }
+    }
+}
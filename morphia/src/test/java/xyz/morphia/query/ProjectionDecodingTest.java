@@ -0,0 +1,166 @@
+package xyz.morphia.query;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.client.MongoCursor;
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.AlsoLoad;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.Property;
+import xyz.morphia.mapping.DecodePlan;
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.MappedField;
+import xyz.morphia.mapping.Mapper;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+public class ProjectionDecodingTest extends TestBase {
+    @Test
+    public void testPlanFields() {
+        final Mapper mapper = getMorphia().getMapper();
+        final MappedClass mc = mapper.getMappedClass(Wide.class);
+
+        final DecodePlan included = mapper.getDecodePlan(new BasicDBObject("name", 1).append("address.city", 1));
+        Assert.assertEquals(asNames("_id", "name", "address"), names(included.getFields(mapper, mc)));
+        Assert.assertSame(included, mapper.getDecodePlan(new BasicDBObject("name", 1).append("address.city", 1)));
+        Assert.assertSame(included, mapper.getDecodePlan(new BasicDBObject("address.city", 1).append("name", 1)));
+        Assert.assertNotSame(included, mapper.getDecodePlan(new BasicDBObject("name", 1).append("address.city", 0)));
+
+        final DecodePlan excluded = mapper.getDecodePlan(new BasicDBObject("notes", 0).append("_id", 0));
+        Assert.assertEquals(asNames("name", "count", "address", "created", "tags", "old", "active"),
+                            names(excluded.getFields(mapper, mc)));
+
+        final DecodePlan alias = mapper.getDecodePlan(new BasicDBObject("legacy", 1));
+        Assert.assertEquals(asNames("_id", "old"), names(alias.getFields(mapper, mc)));
+
+        Assert.assertNull(mapper.getDecodePlan(new BasicDBObject("tags", new BasicDBObject("$slice", 2))));
+        Assert.assertNull(mapper.getDecodePlan(null));
+    }
+
+    @Test
+    public void testProjectedEntities() {
+        getDs().save(new Wide("first", 1));
+        getDs().save(new Wide("second", 2));
+
+        final List<Wide> list = toList(getDs().find(Wide.class)
+                                              .project("name", true)
+                                              .order("count")
+                                              .find());
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals("first", list.get(0).name);
+        Assert.assertNotNull(list.get(0).id);
+        Assert.assertEquals(0, list.get(0).count);
+        Assert.assertTrue(list.get(0).tags.isEmpty());
+
+        final Wide excluded = getDs().find(Wide.class)
+                                     .project("notes", false)
+                                     .filter("name", "second")
+                                     .get();
+        Assert.assertEquals(2, excluded.count);
+        Assert.assertEquals("Reykjavik", excluded.address.city);
+        Assert.assertEquals(1, excluded.tags.size());
+        Assert.assertEquals("long notes", excluded.notes);
+    }
+
+    @Test
+    public void testClassProjection() {
+        getDs().save(new Wide("first", 1));
+        getDs().save(new Wide("second", 2));
+
+        final List<Summary> summaries = toList(projecting(getDs().find(Wide.class).order("count")).findAs(Summary.class));
+        Assert.assertEquals(2, summaries.size());
+        Assert.assertEquals("first", summaries.get(0).name);
+        Assert.assertEquals(1, summaries.get(0).count);
+        Assert.assertEquals("second", summaries.get(1).name);
+        Assert.assertNotNull(summaries.get(1).id);
+    }
+
+    @Test
+    public void testInterfaceProjection() {
+        getDs().save(new Wide("first", 1));
+
+        final MongoCursor<Named> cursor = projecting(getDs().find(Wide.class)).findAs(Named.class, new FindOptions().limit(1));
+        final Named named = cursor.next();
+        cursor.close();
+        Assert.assertEquals("first", named.getName());
+        Assert.assertEquals(1, named.count());
+        Assert.assertEquals("Reykjavik", named.getAddress().city);
+        Assert.assertTrue(named.isActive());
+        Assert.assertNotNull(named.getCreated());
+        Assert.assertTrue(named.toString().startsWith("Named"));
+    }
+
+    private static <T> ProjectingQueryResults<T> projecting(final Query<T> query) {
+        return (ProjectingQueryResults<T>) query;
+    }
+
+    private static List<String> names(final List<MappedField> fields) {
+        final List<String> names = new ArrayList<String>();
+        for (final MappedField field : fields) {
+            names.add(field.getNameToStore());
+        }
+        return names;
+    }
+
+    private static List<String> asNames(final String... names) {
+        final List<String> list = new ArrayList<String>();
+        for (final String name : names) {
+            list.add(name);
+        }
+        return list;
+    }
+
+    public interface Named {
+        String getName();
+
+        int count();
+
+        Address getAddress();
+
+        boolean isActive();
+
+        Date getCreated();
+    }
+
+    @Entity(value = "wide", noClassnameStored = true)
+    private static class Wide {
+        @Id
+        private ObjectId id;
+        private String name;
+        private int count;
+        private Address address = new Address();
+        private Date created = new Date();
+        private List<String> tags = new ArrayList<String>();
+        private String notes = "long notes";
+        @AlsoLoad("legacy")
+        private String old;
+        private boolean active = true;
+
+        Wide() {
+        }
+
+        Wide(final String name, final int count) {
+            this.name = name;
+            this.count = count;
+            tags.add("tag");
+            notes = "notes of " + name;
+        }
+    }
+
+    public static class Address {
+        private String city = "Reykjavik";
+    }
+
+    private static class Summary {
+        @Id
+        private ObjectId id;
+        private String name;
+        @Property("count")
+        private int count;
+    }
+}
@@ -0,0 +1,210 @@
+package xyz.morphia.query;
+
+import org.bson.types.ObjectId;
+import org.junit.Assert;
+import org.junit.Test;
+import xyz.morphia.OperationEvent;
+import xyz.morphia.OperationListener;
+import xyz.morphia.TestBase;
+import xyz.morphia.annotations.Entity;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.Reference;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@SuppressWarnings("Since15")
+public class QueryStreamTest extends TestBase {
+    private static final Function<Item, Integer> INDEX = new Function<Item, Integer>() {
+        @Override
+        public Integer apply(final Item item) {
+            return item.index;
+        }
+    };
+
+    @Test
+    public void testSequential() {
+        insert(250);
+
+        final Stream<Item> stream = streamable(getDs().find(Item.class).order("index")).stream(new FindOptions().batchSize(40));
+        final List<Integer> indexes = stream.map(INDEX).collect(Collectors.<Integer>toList());
+        Assert.assertEquals(250, indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            Assert.assertEquals(i, indexes.get(i).intValue());
+        }
+
+        final long even = streamable(getDs().find(Item.class)).stream().filter(new Predicate<Item>() {
+            @Override
+            public boolean test(final Item item) {
+                return item.index % 2 == 0;
+            }
+        }).count();
+        Assert.assertEquals(125, even);
+    }
+
+    @Test
+    public void testParallel() {
+        insert(500);
+
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final List<Integer> indexes = streamable(getDs().find(Item.class).order("index"))
+                                             .stream(new FindOptions().batchSize(20))
+                                             .parallel()
+                                             .map(new Function<Item, Integer>() {
+                                                 @Override
+                                                 public Integer apply(final Item item) {
+                                                     threads.add(Thread.currentThread().getName());
+                                                     return item.index;
+                                                 }
+                                             })
+                                             .collect(Collectors.<Integer>toList());
+        Assert.assertEquals(500, indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            Assert.assertEquals(i, indexes.get(i).intValue());
+        }
+        Assert.assertFalse(threads.isEmpty());
+    }
+
+    @Test
+    public void testSplitHandsOutBatches() {
+        insert(50);
+
+        final Spliterator<Item> spliterator = streamable(getDs().find(Item.class).order("index"))
+                                                     .stream(new FindOptions().batchSize(20).limit(45))
+                                                     .spliterator();
+        Assert.assertEquals(45, spliterator.estimateSize());
+        final Spliterator<Item> first = spliterator.trySplit();
+        Assert.assertTrue(first.hasCharacteristics(Spliterator.SIZED));
+        Assert.assertEquals(20, first.getExactSizeIfKnown());
+        Assert.assertEquals(25, spliterator.estimateSize());
+
+        final List<Integer> indexes = new ArrayList<Integer>();
+        final Consumer<Item> collect = new Consumer<Item>() {
+            @Override
+            public void accept(final Item item) {
+                indexes.add(item.index);
+            }
+        };
+        first.forEachRemaining(collect);
+        spliterator.forEachRemaining(collect);
+        Assert.assertEquals(45, indexes.size());
+        for (int i = 0; i < indexes.size(); i++) {
+            Assert.assertEquals(i, indexes.get(i).intValue());
+        }
+    }
+
+    @Test
+    public void testClose() {
+        insert(100);
+
+        final Stream<Item> stream = streamable(getDs().find(Item.class).order("index")).stream(new FindOptions().batchSize(10));
+        final Iterator<Item> iterator = stream.iterator();
+        Assert.assertEquals(0, iterator.next().index);
+        stream.close();
+        int remaining = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            remaining++;
+        }
+        Assert.assertTrue(remaining < 10);
+    }
+
+    @Test
+    public void testReferences() {
+        final Item item = new Item(3);
+        getDs().save(item);
+        final List<Holder> holders = new ArrayList<Holder>();
+        for (int i = 0; i < 30; i++) {
+            holders.add(new Holder(item));
+        }
+        getAds().insert(holders);
+
+        final long count = streamable(getDs().find(Holder.class))
+                               .stream(new FindOptions().batchSize(7))
+                               .parallel()
+                               .filter(new Predicate<Holder>() {
+                                   @Override
+                                   public boolean test(final Holder holder) {
+                                       return holder.item.index == 3;
+                                   }
+                               })
+                               .count();
+        Assert.assertEquals(30, count);
+    }
+
+    @Test
+    public void testOperationReportedOnceBatchesAreConsumed() {
+        insert(60);
+        final List<OperationEvent> events = new ArrayList<OperationEvent>();
+        getMorphia().getMapper().addOperationListener(new OperationListener() {
+            @Override
+            public void operationCompleted(final OperationEvent event) {
+                events.add(event);
+            }
+        });
+
+        final Spliterator<Item> spliterator = streamable(getDs().find(Item.class)).stream(new FindOptions().batchSize(20)).spliterator();
+        final Spliterator<Item> first = spliterator.trySplit();
+        final Consumer<Item> ignore = new Consumer<Item>() {
+            @Override
+            public void accept(final Item item) {
+            }
+        };
+        spliterator.forEachRemaining(ignore);
+        Assert.assertTrue(events.isEmpty());
+
+        first.forEachRemaining(ignore);
+        Assert.assertEquals(1, events.size());
+        Assert.assertEquals(60, events.get(0).getDocuments());
+    }
+
+    private static <T> StreamableQueryResults<T> streamable(final Query<T> query) {
+        return (StreamableQueryResults<T>) query;
+    }
+
+    private void insert(final int count) {
+        final List<Item> items = new ArrayList<Item>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(i));
+        }
+        getAds().insert(items);
+    }
+
+    @Entity("stream_items")
+    private static class Item {
+        @Id
+        private ObjectId id;
+        private int index;
+
+        Item() {
+        }
+
+        Item(final int index) {
+            this.index = index;
+        }
+    }
+
+    @Entity("stream_holders")
+    private static class Holder {
+        @Id
+        private ObjectId id;
+        @Reference
+        private Item item;
+
+        Holder() {
+        }
+
+        Holder(final Item item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,445 @@
+package xyz.morphia.processor;
+
+import xyz.morphia.mapping.generated.EntityIndex;
+import xyz.morphia.mapping.generated.GeneratedMappings;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static java.util.Arrays.asList;
+import static javax.lang.model.util.ElementFilter.constructorsIn;
+import static javax.lang.model.util.ElementFilter.fieldsIn;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+import static javax.lang.model.util.ElementFilter.typesIn;
+
+/**
+ * Generates the mapping code of the classes annotated with {@link xyz.morphia.annotations.Entity} or
+ * {@link xyz.morphia.annotations.Embedded}.  For each class a {@link xyz.morphia.mapping.generated.GeneratedMapping} is written to the same
+ * package, with an accessor for each field and an instantiator calling the no-args constructor.  The generated code reads and writes the
+ * fields directly, so only the fields and constructors visible to the package are generated; private and final fields keep using the
+ * reflective strategies.  The mapping also lists the runtime annotations of every instance field and the lifecycle methods of the class,
+ * which {@link xyz.morphia.mapping.MappedClass} reads instead of probing each field and method for the mapping annotations.  The binary
+ * names of the annotated classes and of their subclasses and implementations are also written to the {@link EntityIndex} of the compiled
+ * classes, which {@link xyz.morphia.Morphia#mapPackage(String)} reads instead of scanning them.
+ * <p>
+ * The processor runs when this module is on the annotation processor path of the compiler.  The metadata is read whenever a generated
+ * mapping is found; the generated accessors and instantiators are used once the factories of the {@code xyz.morphia.mapping.generated}
+ * package are configured:
+ * <pre>
+ * MapperOptions options = morphia.getMapper().getOptions();
+ * options.setFieldAccessorFactory(new GeneratedFieldAccessorFactory());
+ * options.setObjectFactory(new DefaultCreator(options, new GeneratedInstantiatorFactory()));
+ * </pre>
+ *
+ * @since 1.5
+ */
+@SupportedAnnotationTypes("*")
+public class MappingProcessor extends AbstractProcessor {
+    private static final Set<String> MAPPED = new HashSet<String>(asList("xyz.morphia.annotations.Entity",
+                                                                          "xyz.morphia.annotations.Embedded"));
+    private static final String ACCESSOR = "xyz.morphia.mapping.generated.GeneratedFieldAccessor";
+    private static final String INSTANTIATOR = "xyz.morphia.mapping.instantiator.Instantiator";
+    private static final String ANNOTATION_LIST = "java.util.List<Class<? extends java.lang.annotation.Annotation>>";
+    private static final List<String> LIFECYCLE = asList("xyz.morphia.annotations.PrePersist", "xyz.morphia.annotations.PreSave",
+                                                         "xyz.morphia.annotations.PreLoad", "xyz.morphia.annotations.PostPersist",
+                                                         "xyz.morphia.annotations.PostLoad");
+
+    private final Set<String> generated = new HashSet<String>();
+    private final Set<String> indexed = new TreeSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final TypeElement type : typesIn(roundEnv.getRootElements())) {
+            process(type);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    /**
+     * Indexes a class and its member classes if they are mapped, and generates the mapping of the annotated ones.
+     */
+    private void process(final TypeElement type) {
+        if (type.getKind() == ElementKind.CLASS && isMapped(type)) {
+            indexed.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            if (isAnnotated(type) && isVisible(type) && generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        for (final TypeElement member : typesIn(type.getEnclosedElements())) {
+            process(member);
+        }
+    }
+
+    /**
+     * Checks whether a class is annotated, or inherits an annotation from its superclasses or interfaces as
+     * {@link xyz.morphia.utils.ReflectionUtils#getAnnotations(Class, Class)} does.
+     */
+    private boolean isMapped(final TypeElement type) {
+        if (isAnnotated(type) || isAnnotated(type.getInterfaces())) {
+            return true;
+        }
+        TypeMirror parent = type.getSuperclass();
+        while (parent.getKind() == TypeKind.DECLARED) {
+            final TypeElement parentElement = (TypeElement) ((DeclaredType) parent).asElement();
+            if (isAnnotated(parentElement) || isAnnotated(parentElement.getInterfaces())) {
+                return true;
+            }
+            parent = parentElement.getSuperclass();
+        }
+        return false;
+    }
+
+    private boolean isAnnotated(final List<? extends TypeMirror> interfaces) {
+        for (final TypeMirror type : interfaces) {
+            if (isAnnotated((TypeElement) ((DeclaredType) type).asElement())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAnnotated(final TypeElement type) {
+        for (final AnnotationMirror annotation : type.getAnnotationMirrors()) {
+            if (MAPPED.contains(((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the names of the mapped classes to the entity index.  When only some sources are recompiled, the classes listed by the
+     * previous index which still exist are kept.
+     */
+    private void writeIndex() {
+        final Filer filer = processingEnv.getFiler();
+        try {
+            final BufferedReader reader = new BufferedReader(filer.getResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.RESOURCE)
+                                                                  .openReader(true));
+            try {
+                String name;
+                while ((name = reader.readLine()) != null) {
+                    name = name.trim();
+                    if (!name.isEmpty() && processingEnv.getElementUtils().getTypeElement(name.replace('$', '.')) != null) {
+                        indexed.add(name);
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            // no previous index
+        } catch (IllegalArgumentException e) {
+            // no previous index
+        }
+        if (indexed.isEmpty()) {
+            return;
+        }
+        try {
+            final Writer writer = filer.createResource(StandardLocation.CLASS_OUTPUT, "", EntityIndex.RESOURCE).openWriter();
+            try {
+                for (final String name : indexed) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + EntityIndex.RESOURCE + ": " + e.getMessage());
+        }
+    }
+
+    private void generate(final TypeElement type) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String packageName = pkg.getQualifiedName().toString();
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                                  + GeneratedMappings.SUFFIX;
+        final String typeName = erasure(type.asType());
+
+        final StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * The mapping of {@link ").append(typeName).append("}, generated by ").append(getClass().getName()).append(".\n")
+              .append(" */\n")
+              .append("@SuppressWarnings(\"unchecked\")\n")
+              .append("public final class ").append(simpleName).append(" implements ")
+              .append("xyz.morphia.mapping.generated.GeneratedMapping {\n")
+              .append("    @Override\n")
+              .append("    public xyz.morphia.mapping.accessor.FieldAccessor getAccessor(final String field) {\n");
+        for (final VariableElement field : fieldsIn(type.getEnclosedElements())) {
+            if (isAccessible(field, pkg)) {
+                appendAccessor(source, typeName, field);
+            }
+        }
+        source.append("        return null;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public ").append(INSTANTIATOR).append("<?> getInstantiator() {\n");
+        if (isInstantiable(type)) {
+            source.append("        return new ").append(INSTANTIATOR).append('<').append(typeName).append(">() {\n")
+                  .append("            @Override\n")
+                  .append("            public ").append(typeName).append(" newInstance() {\n")
+                  .append("                return new ").append(typeName).append("();\n")
+                  .append("            }\n")
+                  .append("        };\n");
+        } else {
+            source.append("        return null;\n");
+        }
+        source.append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public ").append(ANNOTATION_LIST).append(" getAnnotations(final String field) {\n");
+        for (final VariableElement field : fieldsIn(type.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                appendAnnotations(source, field, pkg);
+            }
+        }
+        source.append("        return null;\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    public java.util.List<java.lang.reflect.Method> getLifecycleMethods(")
+              .append("final Class<? extends java.lang.annotation.Annotation> event) {\n");
+        appendLifecycleMethods(source, type, typeName, pkg);
+        source.append("    }\n")
+              .append("}\n");
+
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try {
+            final Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter();
+            try {
+                writer.write(source.toString());
+            } finally {
+                writer.close();
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Kind.ERROR, "Could not write " + qualifiedName + ": " + e.getMessage(), type);
+        }
+    }
+
+    private void appendAccessor(final StringBuilder source, final String typeName, final VariableElement field) {
+        final String name = field.getSimpleName().toString();
+        final TypeMirror fieldType = field.asType();
+        final String target = "((" + typeName + ") instance)." + name;
+
+        source.append("        if (\"").append(name).append("\".equals(field)) {\n")
+              .append("            return new ").append(ACCESSOR).append("() {\n")
+              .append("                @Override\n")
+              .append("                public Object get(final Object instance) {\n")
+              .append("                    return ").append(target).append(";\n")
+              .append("                }\n\n")
+              .append("                @Override\n")
+              .append("                public void set(final Object instance, final Object value) {\n")
+              .append("                    ").append(target).append(" = ").append(unbox(fieldType)).append(";\n")
+              .append("                }\n");
+        if (fieldType.getKind().isPrimitive()) {
+            final String primitive = fieldType.toString();
+            final String suffix = Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+            source.append('\n')
+                  .append("                @Override\n")
+                  .append("                public ").append(primitive).append(" get").append(suffix).append("(final Object instance) {\n")
+                  .append("                    return ").append(target).append(";\n")
+                  .append("                }\n\n")
+                  .append("                @Override\n")
+                  .append("                public void set").append(suffix).append("(final Object instance, final ").append(primitive)
+                  .append(" value) {\n")
+                  .append("                    ").append(target).append(" = value;\n")
+                  .append("                }\n");
+        }
+        source.append("            };\n")
+              .append("        }\n");
+    }
+
+    /**
+     * Lists the annotations of a field retained at runtime.  A field carrying an annotation the generated code can not name is left out,
+     * so its annotations are read reflectively.
+     */
+    private void appendAnnotations(final StringBuilder source, final VariableElement field, final PackageElement pkg) {
+        final List<String> types = new ArrayList<String>();
+        for (final AnnotationMirror annotation : field.getAnnotationMirrors()) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            final Retention retention = annotationType.getAnnotation(Retention.class);
+            if (retention != null && retention.value() == RetentionPolicy.RUNTIME) {
+                if (!isAccessible(annotation.getAnnotationType(), pkg)) {
+                    return;
+                }
+                types.add(annotationType.getQualifiedName() + ".class");
+            }
+        }
+        source.append("        if (\"").append(field.getSimpleName()).append("\".equals(field)) {\n");
+        if (types.isEmpty()) {
+            source.append("            return java.util.Collections.emptyList();\n");
+        } else {
+            source.append("            return java.util.Arrays.<Class<? extends java.lang.annotation.Annotation>>asList(")
+                  .append(join(types)).append(");\n");
+        }
+        source.append("        }\n");
+    }
+
+    /**
+     * Lists the instance methods annotated with each lifecycle annotation.  When the parameter types of one of them can not be named by
+     * the generated code, null is returned so the lifecycle methods are discovered reflectively.
+     */
+    private void appendLifecycleMethods(final StringBuilder source, final TypeElement type, final String typeName,
+                                        final PackageElement pkg) {
+        final StringBuilder events = new StringBuilder();
+        for (final String event : LIFECYCLE) {
+            final List<String> methods = new ArrayList<String>();
+            for (final ExecutableElement method : methodsIn(type.getEnclosedElements())) {
+                if (!method.getModifiers().contains(Modifier.STATIC) && hasAnnotation(method, event)) {
+                    final StringBuilder lookup = new StringBuilder();
+                    lookup.append("xyz.morphia.mapping.generated.GeneratedMappings.getDeclaredMethod(")
+                          .append(typeName).append(".class, \"").append(method.getSimpleName()).append('"');
+                    for (final VariableElement parameter : method.getParameters()) {
+                        if (!isAccessible(processingEnv.getTypeUtils().erasure(parameter.asType()), pkg)) {
+                            source.append("        return null;\n");
+                            return;
+                        }
+                        lookup.append(", ").append(erasure(parameter.asType())).append(".class");
+                    }
+                    methods.add(lookup.append(')').toString());
+                }
+            }
+            if (!methods.isEmpty()) {
+                events.append("        if (event == ").append(event).append(".class) {\n")
+                      .append("            return java.util.Arrays.asList(").append(join(methods)).append(");\n")
+                      .append("        }\n");
+            }
+        }
+        source.append(events)
+              .append("        return java.util.Collections.emptyList();\n");
+    }
+
+    private boolean hasAnnotation(final Element element, final String annotation) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String join(final List<String> values) {
+        final StringBuilder joined = new StringBuilder();
+        for (final String value : values) {
+            if (joined.length() != 0) {
+                joined.append(", ");
+            }
+            joined.append(value);
+        }
+        return joined.toString();
+    }
+
+    private String unbox(final TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "(Boolean) value";
+            case CHAR:
+                return "(Character) value";
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+                return "toNumber(value)." + type.toString() + "Value()";
+            default:
+                return "(" + erasure(type) + ") value";
+        }
+    }
+
+    private String erasure(final TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private boolean isAccessible(final VariableElement field, final PackageElement pkg) {
+        final Set<Modifier> modifiers = field.getModifiers();
+        return !modifiers.contains(Modifier.PRIVATE)
+               && !modifiers.contains(Modifier.STATIC)
+               && !modifiers.contains(Modifier.FINAL)
+               && isAccessible(processingEnv.getTypeUtils().erasure(field.asType()), pkg);
+    }
+
+    private boolean isAccessible(final TypeMirror type, final PackageElement pkg) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) type).getComponentType(), pkg);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            Element element = ((DeclaredType) type).asElement();
+            final boolean samePackage = processingEnv.getElementUtils().getPackageOf(element).equals(pkg);
+            while (element instanceof TypeElement) {
+                final Set<Modifier> modifiers = element.getModifiers();
+                if (modifiers.contains(Modifier.PRIVATE) || !samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+                    return false;
+                }
+                element = element.getEnclosingElement();
+            }
+            return true;
+        }
+        return type.getKind().isPrimitive();
+    }
+
+    private boolean isVisible(final TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            final TypeElement typeElement = (TypeElement) element;
+            if (typeElement.getNestingKind() != NestingKind.TOP_LEVEL && typeElement.getNestingKind() != NestingKind.MEMBER
+                || typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean isInstantiable(final TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)
+            || type.getNestingKind() == NestingKind.MEMBER && !modifiers.contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (final ExecutableElement constructor : constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return !constructor.getModifiers().contains(Modifier.PRIVATE) && constructor.getThrownTypes().isEmpty();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides an annotation processor generating the mapping code of entities at compile time
+ */
+package xyz.morphia.processor;
@@ -0,0 +1,223 @@
+package xyz.morphia.processor;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import xyz.morphia.annotations.Id;
+import xyz.morphia.annotations.PostLoad;
+import xyz.morphia.annotations.PreLoad;
+import xyz.morphia.annotations.PrePersist;
+import xyz.morphia.annotations.Property;
+import xyz.morphia.mapping.MappedClass;
+import xyz.morphia.mapping.Mapper;
+import xyz.morphia.mapping.accessor.FieldAccessor;
+import xyz.morphia.mapping.generated.EntityIndex;
+import xyz.morphia.mapping.generated.GeneratedFieldAccessorFactory;
+import xyz.morphia.mapping.generated.GeneratedMapping;
+import xyz.morphia.mapping.generated.GeneratedMappings;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.HashSet;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+public class MappingProcessorTest {
+    private static final String SOURCE = "package sample;\n"
+                                         + "@xyz.morphia.annotations.Entity\n"
+                                         + "public class Sample {\n"
+                                         + "    @xyz.morphia.annotations.Id\n"
+                                         + "    org.bson.types.ObjectId id;\n"
+                                         + "    long total;\n"
+                                         + "    java.util.List<String> names;\n"
+                                         + "    Nested nested;\n"
+                                         + "    @xyz.morphia.annotations.Property(\"h\")\n"
+                                         + "    private String hidden;\n"
+                                         + "    transient boolean persisted;\n"
+                                         + "    @xyz.morphia.annotations.PrePersist\n"
+                                         + "    void prePersist() {\n"
+                                         + "        persisted = true;\n"
+                                         + "    }\n"
+                                         + "    @xyz.morphia.annotations.PostLoad\n"
+                                         + "    void postLoad(final com.mongodb.DBObject dbObject) {\n"
+                                         + "    }\n"
+                                         + "    @xyz.morphia.annotations.Embedded\n"
+                                         + "    static class Nested {\n"
+                                         + "        boolean flag;\n"
+                                         + "        Nested(final boolean flag) {\n"
+                                         + "            this.flag = flag;\n"
+                                         + "        }\n"
+                                         + "    }\n"
+                                         + "    static class Special extends Sample {\n"
+                                         + "    }\n"
+                                         + "    static class Unmapped {\n"
+                                         + "    }\n"
+                                         + "}\n";
+    private static final String MANUAL = "package sample;\n"
+                                         + "public class Manual {\n"
+                                         + "    @xyz.morphia.annotations.Id\n"
+                                         + "    String id;\n"
+                                         + "    @xyz.morphia.annotations.Transient\n"
+                                         + "    String listed;\n"
+                                         + "}\n";
+    private static final String MANUAL_MAPPING = "package sample;\n"
+                                                 + "import xyz.morphia.annotations.Id;\n"
+                                                 + "import xyz.morphia.mapping.accessor.FieldAccessor;\n"
+                                                 + "import xyz.morphia.mapping.generated.GeneratedMapping;\n"
+                                                 + "import xyz.morphia.mapping.instantiator.Instantiator;\n"
+                                                 + "import java.lang.annotation.Annotation;\n"
+                                                 + "import java.lang.reflect.Method;\n"
+                                                 + "import java.util.Arrays;\n"
+                                                 + "import java.util.Collections;\n"
+                                                 + "import java.util.List;\n"
+                                                 + "public final class Manual_MorphiaMapping implements GeneratedMapping {\n"
+                                                 + "    public FieldAccessor getAccessor(final String field) {\n"
+                                                 + "        return null;\n"
+                                                 + "    }\n"
+                                                 + "    public Instantiator<?> getInstantiator() {\n"
+                                                 + "        return null;\n"
+                                                 + "    }\n"
+                                                 + "    public List<Class<? extends Annotation>> getAnnotations(final String field) {\n"
+                                                 + "        if (\"id\".equals(field)) {\n"
+                                                 + "            return Arrays.<Class<? extends Annotation>>asList(Id.class);\n"
+                                                 + "        }\n"
+                                                 + "        return Collections.emptyList();\n"
+                                                 + "    }\n"
+                                                 + "    public List<Method> getLifecycleMethods(final Class<? extends Annotation> e) {\n"
+                                                 + "        return null;\n"
+                                                 + "    }\n"
+                                                 + "}\n";
+
+    private ClassLoader loader;
+    private Class<?> sample;
+    private Class<?> nested;
+
+    @Before
+    public void compile() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assume.assumeNotNull(compiler);
+
+        final File root = File.createTempFile("processor", "");
+        Assert.assertTrue(root.delete() && new File(root, "sample").mkdirs());
+        final File source = new File(root, "sample/Sample.java");
+        write(source, SOURCE);
+        final File manual = new File(root, "sample/Manual.java");
+        write(manual, MANUAL);
+        final File manualMapping = new File(root, "sample/Manual" + GeneratedMappings.SUFFIX + ".java");
+        write(manualMapping, MANUAL_MAPPING);
+
+        final int result = compiler.run(null, null, null, "-d", root.getPath(), "-s", root.getPath(),
+                                        "-classpath", System.getProperty("java.class.path"),
+                                        "-processor", MappingProcessor.class.getName(), source.getPath(), manual.getPath(),
+                                        manualMapping.getPath());
+        Assert.assertEquals(0, result);
+        Assert.assertTrue(new File(root, "sample/Sample" + GeneratedMappings.SUFFIX + ".java").exists());
+
+        loader = new URLClassLoader(new URL[]{root.toURI().toURL()}, getClass().getClassLoader());
+        sample = loader.loadClass("sample.Sample");
+        nested = loader.loadClass("sample.Sample$Nested");
+    }
+
+    @Test
+    public void testAccessors() throws Exception {
+        final GeneratedMapping mapping = GeneratedMappings.find(sample);
+        Assert.assertNotNull(mapping);
+        Assert.assertNull(mapping.getAccessor("hidden"));
+
+        final Object instance = mapping.getInstantiator().newInstance();
+        Assert.assertSame(sample, instance.getClass());
+
+        final FieldAccessor total = mapping.getAccessor("total");
+        total.setLong(instance, 42L);
+        Assert.assertEquals(42L, total.getLong(instance));
+        total.set(instance, 7);
+        Assert.assertEquals(7L, total.get(instance));
+        Assert.assertEquals(7D, total.getDouble(instance), 0D);
+        try {
+            total.getInt(instance);
+            Assert.fail("a long can not be read as an int");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+
+        final FieldAccessor names = mapping.getAccessor("names");
+        names.set(instance, singletonList("name"));
+        Assert.assertEquals(singletonList("name"), names.get(instance));
+    }
+
+    @Test
+    public void testFallbacks() throws Exception {
+        final GeneratedMapping mapping = GeneratedMappings.find(nested);
+        Assert.assertNotNull(mapping);
+        Assert.assertNull(mapping.getInstantiator());
+        Assert.assertNotNull(mapping.getAccessor("flag"));
+        Assert.assertNull(GeneratedMappings.find(String.class));
+
+        final FieldAccessor hidden = new GeneratedFieldAccessorFactory().create(sample.getDeclaredField("hidden"));
+        final Object instance = GeneratedMappings.find(sample).getInstantiator().newInstance();
+        hidden.set(instance, "reflected");
+        Assert.assertEquals("reflected", hidden.get(instance));
+    }
+
+    @Test
+    public void testMetadata() throws Exception {
+        final GeneratedMapping mapping = GeneratedMappings.find(sample);
+        Assert.assertEquals(singletonList(Id.class), mapping.getAnnotations("id"));
+        Assert.assertEquals(singletonList(Property.class), mapping.getAnnotations("hidden"));
+        Assert.assertTrue(mapping.getAnnotations("total").isEmpty());
+        Assert.assertNull(mapping.getAnnotations("missing"));
+
+        Assert.assertEquals(singletonList(sample.getDeclaredMethod("prePersist")), mapping.getLifecycleMethods(PrePersist.class));
+        Assert.assertEquals(singletonList(sample.getDeclaredMethod("postLoad", DBObject.class)),
+                            mapping.getLifecycleMethods(PostLoad.class));
+        Assert.assertTrue(mapping.getLifecycleMethods(PreLoad.class).isEmpty());
+
+        final Mapper mapper = new Mapper();
+        final MappedClass mappedClass = mapper.getMappedClass(sample);
+        Assert.assertEquals("id", mappedClass.getMappedIdField().getJavaFieldName());
+        Assert.assertEquals("hidden", mappedClass.getMappedField("h").getJavaFieldName());
+        Assert.assertNull(mappedClass.getMappedFieldByJavaField("persisted"));
+
+        final Object instance = mapping.getInstantiator().newInstance();
+        mappedClass.callLifecycleMethods(PrePersist.class, instance, new BasicDBObject(), mapper);
+        Assert.assertTrue(mapping.getAccessor("persisted").getBoolean(instance));
+    }
+
+    @Test
+    public void testMappedClassReadsMetadata() throws Exception {
+        final MappedClass mappedClass = new Mapper().getMappedClass(loader.loadClass("sample.Manual"));
+        Assert.assertEquals("id", mappedClass.getMappedIdField().getJavaFieldName());
+        // the generated mapping does not list the @Transient annotation, so the field is persisted
+        Assert.assertNotNull(mappedClass.getMappedFieldByJavaField("listed"));
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        final Class<?> special = loader.loadClass("sample.Sample$Special");
+        Assert.assertTrue(EntityIndex.getClassNames(loader).containsAll(asList("sample.Sample", "sample.Sample$Nested",
+                                                                               "sample.Sample$Special")));
+        Assert.assertFalse(EntityIndex.getClassNames(loader).contains("sample.Sample$Unmapped"));
+        Assert.assertEquals(new HashSet<Class<?>>(asList(sample, nested, special)), EntityIndex.getClasses(loader, "sample", false));
+        Assert.assertTrue(EntityIndex.getClasses(loader, "other", true).isEmpty());
+    }
+
+    private static void write(final File file, final String content) throws IOException {
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write(content);
+        } finally {
+            writer.close();
+        }
+    }
+}